@@ -0,0 +1,73 @@
+package org.example.expert.benchmark;
+
+import io.jsonwebtoken.Claims;
+import org.example.expert.config.AuthUserArgumentResolver;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.concurrent.TimeUnit;
+
+// 요청마다 거치는 인증 경로: JWT 발급/검증, BCrypt, UserRole 변환, @Auth 인자 생성
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AuthBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String token;
+    private PasswordEncoder passwordEncoder;
+    private String encodedPassword;
+    private AuthUserArgumentResolver argumentResolver;
+    private NativeWebRequest webRequest;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = BenchmarkFixtures.jwtUtil();
+        token = jwtUtil.substringToken(jwtUtil.createToken(1L, "user1@example.com", UserRole.USER));
+
+        passwordEncoder = new PasswordEncoder();
+        encodedPassword = passwordEncoder.encode("password1234");
+
+        argumentResolver = new AuthUserArgumentResolver();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos");
+        request.setAttribute("userId", 1L);
+        request.setAttribute("email", "user1@example.com");
+        request.setAttribute("userRole", "USER");
+        webRequest = new ServletWebRequest(request);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtUtil.createToken(1L, "user1@example.com", UserRole.USER);
+    }
+
+    @Benchmark
+    public Claims extractClaims() {
+        return jwtUtil.extractClaims(token);
+    }
+
+    @Benchmark
+    public String encodePassword() {
+        return passwordEncoder.encode("password1234");
+    }
+
+    @Benchmark
+    public boolean matchPassword() {
+        return passwordEncoder.matches("password1234", encodedPassword);
+    }
+
+    @Benchmark
+    public UserRole userRoleOf() {
+        return UserRole.of("user");
+    }
+
+    @Benchmark
+    public Object resolveAuthUser() {
+        return argumentResolver.resolveArgument(null, null, webRequest, null);
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.expert.benchmark;
+
+import org.example.expert.ExpertApplication;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+// 스프링 컨텍스트 없이 벤치마크 대상을 만들기 위한 헬퍼, id 처럼 JPA 가 채우는 필드는 리플렉션으로 설정
+final class BenchmarkFixtures {
+
+    // 벤치마크 전용 HS256 키 (32바이트 이상)
+    static final String JWT_SECRET = "YmVuY2htYXJrLW9ubHktc2VjcmV0LWtleS0wMTIzNDU2Nzg5YWJjZGVm";
+    static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    private BenchmarkFixtures() {
+    }
+
+    // DB 를 거치는 벤치마크용, 웹 서버 없이 애플리케이션 컨텍스트를 H2 메모리 DB 로 띄움
+    static ConfigurableApplicationContext startApplication(String database, Class<?>... extraSources) {
+        Class<?>[] sources = new Class<?>[extraSources.length + 1];
+        sources[0] = ExpertApplication.class;
+        System.arraycopy(extraSources, 0, sources, 1, extraSources.length);
+
+        Map<String, Object> properties = new HashMap<>();
+        // 비관적 락 대기가 H2 기본 락 타임아웃(1초)에 걸리지 않도록 늘림
+        properties.put("spring.datasource.url", "jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=30000");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create");
+        properties.put("spring.jpa.open-in-view", false);
+        properties.put("jwt.secret.key", JWT_SECRET);
+        properties.put("logging.level.root", "WARN");
+        return new SpringApplicationBuilder(sources)
+                .web(WebApplicationType.NONE)
+                .properties(properties)
+                .run();
+    }
+
+    static JwtUtil jwtUtil() {
+        JwtUtil jwtUtil = new JwtUtil();
+        setField(jwtUtil, "secretKey", JWT_SECRET);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    static User user(long id) {
+        User user = new User("user" + id + "@example.com", "password", UserRole.USER);
+        setField(user, "id", id);
+        return user;
+    }
+
+    static Todo todo(long id, User user) {
+        Todo todo = new Todo("title " + id, "contents of todo " + id, "Sunny", user);
+        setField(todo, "id", id);
+        setField(todo, "version", 3L);
+        setField(todo, "createdAt", NOW);
+        setField(todo, "modifiedAt", NOW);
+        return todo;
+    }
+
+    static void setField(Object target, String name, Object value) {
+        Class<?> type = target.getClass();
+        while (type != null) {
+            try {
+                Field field = type.getDeclaredField(name);
+                field.setAccessible(true);
+                field.set(target, value);
+                return;
+            } catch (NoSuchFieldException e) {
+                type = type.getSuperclass();
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        throw new IllegalArgumentException(target.getClass().getSimpleName() + " 에 " + name + " 필드가 없습니다.");
+    }
+}
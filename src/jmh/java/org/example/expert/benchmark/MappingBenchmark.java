@@ -0,0 +1,49 @@
+package org.example.expert.benchmark;
+
+import org.example.expert.domain.common.dto.response.PageResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// TodoService.getTodos 의 엔티티 -> DTO 변환 (Page.map + PageResponse.from)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MappingBenchmark {
+
+    @Param({"10", "100"})
+    private int size;
+
+    private Todo todo;
+    private Page<Todo> page;
+
+    @Setup
+    public void setUp() {
+        User user = BenchmarkFixtures.user(1L);
+        todo = BenchmarkFixtures.todo(1L, user);
+
+        List<Todo> todos = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            todos.add(BenchmarkFixtures.todo(i + 1L, user));
+        }
+        page = new PageImpl<>(todos, PageRequest.of(0, size), 10_000);
+    }
+
+    @Benchmark
+    public TodoResponse todoResponseFrom() {
+        return TodoResponse.from(todo);
+    }
+
+    @Benchmark
+    public PageResponse<TodoResponse> pageResponseFrom() {
+        return PageResponse.from(page.map(TodoResponse::from));
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.expert.benchmark;
+
+import org.example.expert.domain.common.metrics.LatencyHistogram;
+import org.example.expert.domain.common.metrics.RequestMetrics;
+import org.example.expert.domain.common.timing.RequestTiming;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// 요청마다 실행되는 계측 코드의 비용, RequestMetrics.record 는 요청당 1us 보다 충분히 작아야 함
+// 멀티 스레드 경합은 -Pjmh.threads=8 처럼 스레드 수를 바꿔 확인
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RecordingOverheadBenchmark {
+
+    private final RequestMetrics requestMetrics = new RequestMetrics();
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private long elapsedNanos = 1_234_567;
+
+    @Benchmark
+    public void latencyHistogramRecord() {
+        histogram.record(elapsedNanos++);
+    }
+
+    @Benchmark
+    public void requestMetricsRecord() {
+        requestMetrics.record("GET", "/todos/{todoId}", 200, null, elapsedNanos++);
+    }
+
+    // server-timing.enabled=false 일 때 계측 지점이 치르는 비용
+    @Benchmark
+    public RequestTiming requestTimingDisabled() {
+        return RequestTiming.current();
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.expert.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.common.dto.response.PageResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 응답 DTO 의 Jackson 직렬화, JSON/Smile/CBOR 비교 (WebConfig 와 같은 builder 로 ObjectMapper 생성)
+// 시간은 벤치마크 결과로, 인코딩된 크기는 @Setup 에서 형식별로 한 번 찍어 CPU 와 크기를 함께 비교
+// pageImplJson 은 PageResponse 로 바꾸기 전의 응답(PageImpl 을 그대로 직렬화)과 비교하기 위한 기준선
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+
+    @Param({"10", "100"})
+    private int size;
+
+    private ObjectWriter jsonWriter;
+    private ObjectWriter smileWriter;
+    private ObjectWriter cborWriter;
+    private TodoResponse todo;
+    private PageResponse<TodoResponse> page;
+    private Page<TodoResponse> pageImpl;
+    private List<CommentResponse> commentPage;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        ObjectMapper jsonMapper = Jackson2ObjectMapperBuilder.json().build();
+        ObjectMapper smileMapper = Jackson2ObjectMapperBuilder.smile().build();
+        jsonWriter = jsonMapper.writer();
+        smileWriter = smileMapper.writer();
+        cborWriter = Jackson2ObjectMapperBuilder.cbor().build().writer();
+
+        todo = todoResponse(1L);
+        List<TodoResponse> content = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            content.add(todoResponse(i + 1L));
+        }
+        page = new PageResponse<>(content, 1, size, 10_000, 10_000 / size);
+        pageImpl = new PageImpl<>(content, PageRequest.of(0, size), 10_000);
+
+        // 댓글 목록 API 는 페이지 없이 배열을 그대로 반환
+        commentPage = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            commentPage.add(new CommentResponse(i + 1L, "comment contents " + (i + 1), new UserResponse(i + 1L, "user" + (i + 1) + "@example.com"), 0L));
+        }
+
+        printSizes("todoPage", page);
+        printSizes("commentPage", commentPage);
+        // PageResponse 로 바꾸며 빠진 pageable/sort 등 PageImpl 의 부가 필드가 JSON 크기에서 얼마나 되는지
+        System.out.printf("[serialization] todoPage size=%d pageResponse json=%,dB pageImpl json=%,dB%n", size,
+                jsonWriter.writeValueAsBytes(page).length, jsonWriter.writeValueAsBytes(pageImpl).length);
+    }
+
+    @Benchmark
+    public byte[] todoJson() throws JsonProcessingException {
+        return jsonWriter.writeValueAsBytes(todo);
+    }
+
+    @Benchmark
+    public byte[] pageJson() throws JsonProcessingException {
+        return jsonWriter.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] pageImplJson() throws JsonProcessingException {
+        return jsonWriter.writeValueAsBytes(pageImpl);
+    }
+
+    @Benchmark
+    public byte[] pageSmile() throws JsonProcessingException {
+        return smileWriter.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] pageCbor() throws JsonProcessingException {
+        return cborWriter.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] commentPageJson() throws JsonProcessingException {
+        return jsonWriter.writeValueAsBytes(commentPage);
+    }
+
+    @Benchmark
+    public byte[] commentPageSmile() throws JsonProcessingException {
+        return smileWriter.writeValueAsBytes(commentPage);
+    }
+
+    @Benchmark
+    public byte[] commentPageCbor() throws JsonProcessingException {
+        return cborWriter.writeValueAsBytes(commentPage);
+    }
+
+    private void printSizes(String name, Object value) throws JsonProcessingException {
+        System.out.printf("[serialization] %s size=%d json=%,dB smile=%,dB cbor=%,dB%n", name, size,
+                jsonWriter.writeValueAsBytes(value).length,
+                smileWriter.writeValueAsBytes(value).length,
+                cborWriter.writeValueAsBytes(value).length);
+    }
+
+    private static TodoResponse todoResponse(long id) {
+        return new TodoResponse(id, "title " + id, "contents of todo " + id, "Sunny",
+                new UserResponse(1L, "user1@example.com"), BenchmarkFixtures.NOW, BenchmarkFixtures.NOW, 3L);
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.expert.benchmark;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchSaveResponse;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 일정 batchSize 건을 하나씩 등록(요청마다 트랜잭션, 시퀀스 채번과 INSERT 각각)할 때와 POST /todos/batch 한 번으로 등록할 때 비교
+// 배치 등록은 pooled 시퀀스로 id 를 미리 받아 일정/담당자 INSERT 를 JDBC 배치로 묶으므로 건수가 늘수록 차이가 커짐
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TodoCreationBenchmark {
+
+    @Param({"10", "100"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private TodoService todoService;
+    private AuthUser authUser;
+    private List<TodoSaveRequest> requests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkFixtures.startApplication("creation", StubWeatherConfiguration.class);
+        todoService = context.getBean(TodoService.class);
+
+        User user = context.getBean(UserRepository.class).save(new User("user1@example.com", "password", UserRole.USER));
+        authUser = new AuthUser(user.getId(), user.getEmail(), user.getUserRole());
+        requests = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            requests.add(new TodoSaveRequest("title " + i, "contents of todo " + i));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void oneByOne(Blackhole blackhole) {
+        for (TodoSaveRequest request : requests) {
+            blackhole.consume(todoService.saveTodo(authUser, request));
+        }
+    }
+
+    @Benchmark
+    public TodoBatchSaveResponse batch() {
+        return todoService.saveTodos(authUser, requests);
+    }
+
+    // 외부 날씨 API 는 측정 대상이 아니라 고정 값을 돌려줌
+    @Configuration
+    static class StubWeatherConfiguration {
+
+        @Bean
+        @Primary
+        WeatherClient stubWeatherClient(RestTemplateBuilder builder) {
+            return new WeatherClient(builder) {
+                @Override
+                public String getTodayWeather() {
+                    return "Sunny";
+                }
+            };
+        }
+    }
+}
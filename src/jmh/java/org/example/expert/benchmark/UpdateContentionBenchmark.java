@@ -0,0 +1,122 @@
+package org.example.expert.benchmark;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.LockModeType;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.PreconditionFailedException;
+import org.example.expert.domain.common.http.VersionETag;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 같은 일정을 여러 스레드가 동시에 수정할 때 낙관적 락(If-Match + @Version)과 비관적 락(SELECT ... FOR UPDATE) 비교
+// 낙관적 락은 조회 후 PATCH 하는 클라이언트처럼 버전을 읽고 수정하며, 밀린 요청은 재시도 없이 412 로 끝남 (conflicts)
+// 비관적 락은 행 락을 기다렸다가 모두 성공하므로 처리량 차이는 락 대기 시간에서 나옴
+// 경합은 -Pjmh.threads=8 처럼 스레드 수를 늘려 확인, hotTodos 가 작을수록 같은 행에 몰림
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UpdateContentionBenchmark {
+
+    @Param({"1", "16"})
+    private int hotTodos;
+
+    private ConfigurableApplicationContext context;
+    private TodoService todoService;
+    private EntityManagerFactory entityManagerFactory;
+    private TransactionTemplate transactionTemplate;
+    private AuthUser authUser;
+    private long[] todoIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkFixtures.startApplication("contention");
+        todoService = context.getBean(TodoService.class);
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        User user = context.getBean(UserRepository.class).save(new User("user1@example.com", "password", UserRole.USER));
+        authUser = new AuthUser(user.getId(), user.getEmail(), user.getUserRole());
+        TodoRepository todoRepository = context.getBean(TodoRepository.class);
+        todoIds = new long[hotTodos];
+        for (int i = 0; i < hotTodos; i++) {
+            todoIds[i] = todoRepository.save(new Todo("title " + i, "contents " + i, "Sunny", user)).getId();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void optimistic(Client client, Outcome outcome) {
+        long todoId = client.pick(todoIds);
+        String ifMatch = VersionETag.of(todoService.getTodo(todoId).getVersion());
+        try {
+            todoService.updateTodo(authUser, todoId, ifMatch, new TodoUpdateRequest(client.nextTitle(), null));
+            outcome.updated++;
+        } catch (PreconditionFailedException | OptimisticLockingFailureException e) {
+            outcome.conflicts++;
+        }
+    }
+
+    @Benchmark
+    public void pessimistic(Client client, Outcome outcome) {
+        long todoId = client.pick(todoIds);
+        String title = client.nextTitle();
+        transactionTemplate.executeWithoutResult(status -> {
+            EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+            Todo todo = entityManager.find(Todo.class, todoId, LockModeType.PESSIMISTIC_WRITE);
+            todo.update(title, todo.getContents());
+        });
+        outcome.updated++;
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+
+        // @DynamicUpdate 라 값이 같으면 UPDATE 자체가 생략되어 락도 버전 비교도 일어나지 않으므로 스레드 사이에서도 겹치지 않게 함
+        private static final AtomicLong TITLES = new AtomicLong();
+
+        private final SplittableRandom random = new SplittableRandom();
+
+        long pick(long[] todoIds) {
+            return todoIds[random.nextInt(todoIds.length)];
+        }
+
+        String nextTitle() {
+            return "title " + TITLES.incrementAndGet();
+        }
+    }
+
+    // 결과에 ops 와 함께 성공/충돌 건수가 따로 찍힘
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Outcome {
+
+        public long updated;
+        public long conflicts;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            updated = 0;
+            conflicts = 0;
+        }
+    }
+}
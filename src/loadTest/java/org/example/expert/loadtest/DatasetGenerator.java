@@ -0,0 +1,155 @@
+package org.example.expert.loadtest;
+
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.user.enums.UserRole;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+
+// 부하 테스트용 데이터를 JDBC 배치 INSERT 로 채움, 엔티티를 거치면 천만 건 규모에서 생성만 수십 분이 걸림
+// id 는 1 부터 연속으로 직접 넣고, 끝나면 시퀀스를 그 뒤로 옮겨 애플리케이션이 만드는 행과 겹치지 않게 함
+// 같은 rows 면 같은 데이터가 나오도록 시드를 고정
+final class DatasetGenerator {
+
+    static final String PASSWORD = "LoadTest1234!";
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final long SEED = 20240101L;
+    private static final LocalDateTime ORIGIN = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final long SPAN_SECONDS = 365L * 24 * 60 * 60;
+    private static final String[] WEATHERS = {"Sunny", "Cloudy", "Rainy", "Snowy"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    DatasetGenerator(JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    // 전체 행 수를 사용자 5%, 일정 20%, 담당자 25%, 댓글 나머지(50%) 로 나눔
+    // 일정마다 작성자가 담당자로 한 행씩 들어가고, 남은 담당자 행은 다른 사용자를 무작위로 배정
+    Dataset generate(long rows) {
+        long users = Math.max(1, rows / 20);
+        long todos = rows / 5;
+        long managers = rows / 4;
+        long comments = rows - users - todos - managers;
+        Dataset dataset = new Dataset(users, todos, managers, comments);
+
+        // 모든 사용자가 같은 비밀번호라 bcrypt 는 한 번만 계산
+        String encodedPassword = passwordEncoder.encode(PASSWORD);
+        insert("users", "insert into users (id, email, password, user_role, created_at, modified_at) values (?, ?, ?, ?, ?, ?)",
+                users, (statement, id, random) -> {
+                    Timestamp createdAt = timestamp(id, users);
+                    statement.setLong(1, id);
+                    statement.setString(2, dataset.email(id));
+                    statement.setString(3, encodedPassword);
+                    statement.setString(4, UserRole.USER.name());
+                    statement.setTimestamp(5, createdAt);
+                    statement.setTimestamp(6, createdAt);
+                });
+        insert("todos", "insert into todos (id, title, contents, weather, version, user_id, created_at, modified_at) values (?, ?, ?, ?, ?, ?, ?, ?)",
+                todos, (statement, id, random) -> {
+                    Timestamp createdAt = timestamp(id, todos);
+                    statement.setLong(1, id);
+                    statement.setString(2, "할 일 " + id);
+                    statement.setString(3, "부하 테스트로 만든 일정 " + id + " 의 내용");
+                    statement.setString(4, WEATHERS[random.nextInt(WEATHERS.length)]);
+                    statement.setLong(5, 0L);
+                    statement.setLong(6, dataset.ownerOf(id));
+                    statement.setTimestamp(7, createdAt);
+                    // 일부 일정은 나중에 수정된 것처럼 modified_at 을 뒤로 밀어 목록 순서가 id 순서와 달라지게 함
+                    statement.setTimestamp(8, random.nextInt(10) == 0
+                            ? Timestamp.valueOf(createdAt.toLocalDateTime().plusSeconds(random.nextLong(SPAN_SECONDS / 12)))
+                            : createdAt);
+                });
+        insert("managers", "insert into managers (id, user_id, todo_id) values (?, ?, ?)",
+                managers, (statement, id, random) -> {
+                    long todoId = id <= todos ? id : 1 + random.nextLong(todos);
+                    statement.setLong(1, id);
+                    statement.setLong(2, id <= todos ? dataset.ownerOf(todoId) : 1 + random.nextLong(users));
+                    statement.setLong(3, todoId);
+                });
+        insert("comments", "insert into comments (id, contents, version, user_id, todo_id, created_at, modified_at) values (?, ?, ?, ?, ?, ?, ?)",
+                comments, (statement, id, random) -> {
+                    Timestamp createdAt = timestamp(id, comments);
+                    statement.setLong(1, id);
+                    statement.setString(2, "댓글 " + id);
+                    statement.setLong(3, 0L);
+                    statement.setLong(4, 1 + random.nextLong(users));
+                    statement.setLong(5, 1 + random.nextLong(todos));
+                    statement.setTimestamp(6, createdAt);
+                    statement.setTimestamp(7, createdAt);
+                });
+        return dataset;
+    }
+
+    private void insert(String table, String sql, long count, RowWriter writer) {
+        long startedAt = System.currentTimeMillis();
+        SplittableRandom random = new SplittableRandom(SEED ^ table.hashCode());
+        for (long offset = 0; offset < count; offset += BATCH_SIZE) {
+            long first = offset + 1;
+            int size = (int) Math.min(BATCH_SIZE, count - offset);
+            jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement statement, int i) throws SQLException {
+                    writer.write(statement, first + i, random);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return size;
+                }
+            });
+        }
+        // 시퀀스는 allocationSize(50) 단위로 id 를 미리 잡으므로 한 블록 이상 띄워서 다시 시작
+        jdbcTemplate.execute("alter sequence " + table + "_seq restart with " + (count + 100));
+        System.out.printf("[dataset] %s %,d건, %,dms%n", table, count, System.currentTimeMillis() - startedAt);
+    }
+
+    // 1년에 고르게 퍼지도록 id 순서대로 시각을 배정
+    private static Timestamp timestamp(long id, long count) {
+        return Timestamp.valueOf(ORIGIN.plusSeconds(id * SPAN_SECONDS / Math.max(count, 1)));
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(PreparedStatement statement, long id, SplittableRandom random) throws SQLException;
+    }
+
+    // 만든 데이터의 규모와 id 배정 규칙, 트래픽 생성기가 이 규칙으로 요청 대상을 고름
+    record Dataset(long users, long todos, long managers, long comments) {
+
+        long totalRows() {
+            return users + todos + managers + comments;
+        }
+
+        String email(long userId) {
+            return "user" + userId + "@loadtest.example.com";
+        }
+
+        // 일정 id 를 사용자 수로 돌려가며 작성자를 배정, 사용자 u 의 일정은 u, u + users, u + 2 * users, ...
+        long ownerOf(long todoId) {
+            return (todoId - 1) % users + 1;
+        }
+
+        long randomUserId(SplittableRandom random) {
+            return 1 + random.nextLong(users);
+        }
+
+        long randomTodoId(SplittableRandom random) {
+            return 1 + random.nextLong(todos);
+        }
+
+        // 댓글은 담당자만 달 수 있어서 작성자로 들어가 있는 자기 일정 중 하나를 고름
+        long randomOwnedTodoId(long userId, SplittableRandom random) {
+            long ownedCount = (todos - userId) / users + 1;
+            return userId + random.nextLong(ownedCount) * users;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.expert.loadtest;
+
+// 부하 테스트가 호출하는 경로, 보고서에는 라우트 패턴으로 표시
+enum Endpoint {
+
+    SIGNIN("signin", "POST /auth/signin"),
+    LIST_TODOS("todos", "GET /todos"),
+    READ_COMMENTS("comments", "GET /todos/{todoId}/comments"),
+    POST_COMMENT("post-comment", "POST /todos/{todoId}/comments"),
+    CREATE_TODO("create-todo", "POST /todos"),
+    CREATE_TODOS("create-todos", "POST /todos/batch");
+
+    private final String key;
+    private final String route;
+
+    Endpoint(String key, String route) {
+        this.key = key;
+        this.route = route;
+    }
+
+    String getKey() {
+        return key;
+    }
+
+    String getRoute() {
+        return route;
+    }
+
+    static Endpoint of(String key) {
+        for (Endpoint endpoint : values()) {
+            if (endpoint.key.equalsIgnoreCase(key)) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 엔드포인트입니다: " + key);
+    }
+}
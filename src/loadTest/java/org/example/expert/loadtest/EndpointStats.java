@@ -0,0 +1,37 @@
+package org.example.expert.loadtest;
+
+import org.example.expert.domain.common.metrics.LatencyHistogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// 측정 구간 하나의 엔드포인트별 지연 분포와 실패 수, 클라이언트 스레드들이 동시에 기록
+final class EndpointStats {
+
+    private final Map<Endpoint, LatencyHistogram> histograms = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+
+    EndpointStats() {
+        for (Endpoint endpoint : Endpoint.values()) {
+            histograms.put(endpoint, new LatencyHistogram());
+            errors.put(endpoint, new LongAdder());
+        }
+    }
+
+    // 실패한 요청도 지연 분포에 포함, 빠르게 실패하는 요청이 처리량을 부풀리는 것은 errors 로 구분
+    void record(Endpoint endpoint, long nanos, boolean success) {
+        histograms.get(endpoint).record(nanos);
+        if (!success) {
+            errors.get(endpoint).increment();
+        }
+    }
+
+    LatencyHistogram histogram(Endpoint endpoint) {
+        return histograms.get(endpoint);
+    }
+
+    long errors(Endpoint endpoint) {
+        return errors.get(endpoint).sum();
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.expert.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.common.metrics.LatencyHistogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+// 한 번 실행한 결과, 데이터 규모별로 파일을 남겨 같은 경로가 규모에 따라 어떻게 변하는지 비교
+record LoadReport(
+        long rows,
+        long users,
+        long todos,
+        long managers,
+        long comments,
+        int clients,
+        boolean virtualThreads,
+        double durationSeconds,
+        List<EndpointResult> endpoints
+) {
+
+    static LoadReport of(LoadTestOptions options, DatasetGenerator.Dataset dataset, TrafficDriver.Measurement measurement) {
+        double seconds = measurement.elapsedNanos() / 1_000_000_000.0;
+        List<EndpointResult> endpoints = new ArrayList<>();
+        for (Endpoint endpoint : Endpoint.values()) {
+            LatencyHistogram histogram = measurement.stats().histogram(endpoint);
+            if (histogram.getCount() == 0) {
+                continue;
+            }
+            endpoints.add(new EndpointResult(
+                    endpoint.getRoute(),
+                    histogram.getCount(),
+                    measurement.stats().errors(endpoint),
+                    histogram.getCount() / seconds,
+                    histogram.getMeanNanos() / 1_000_000.0,
+                    toMillis(histogram.getPercentileNanos(50)),
+                    toMillis(histogram.getPercentileNanos(90)),
+                    toMillis(histogram.getPercentileNanos(99)),
+                    toMillis(histogram.getPercentileNanos(99.9)),
+                    toMillis(histogram.getMaxNanos())
+            ));
+        }
+        return new LoadReport(dataset.totalRows(), dataset.users(), dataset.todos(), dataset.managers(), dataset.comments(),
+                options.clients(), TrafficDriver.VIRTUAL_THREADS, seconds, endpoints);
+    }
+
+    void print() {
+        System.out.printf("%n[load] rows=%,d (users=%,d todos=%,d managers=%,d comments=%,d) clients=%d %s %.1fs%n",
+                rows, users, todos, managers, comments, clients, virtualThreads ? "virtual-threads" : "platform-threads", durationSeconds);
+        System.out.printf("%-32s %10s %8s %10s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "mean", "p50", "p90", "p99", "p99.9", "max");
+        for (EndpointResult endpoint : endpoints) {
+            System.out.printf("%-32s %,10d %,8d %,10.1f %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint.route(), endpoint.requests(), endpoint.errors(), endpoint.throughput(), endpoint.meanMillis(),
+                    endpoint.p50Millis(), endpoint.p90Millis(), endpoint.p99Millis(), endpoint.p999Millis(), endpoint.maxMillis());
+        }
+    }
+
+    Path write(Path directory, ObjectMapper objectMapper) throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve("rows-" + rows + ".json");
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), this);
+        return file;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    record EndpointResult(
+            String route,
+            long requests,
+            long errors,
+            double throughput,
+            double meanMillis,
+            double p50Millis,
+            double p90Millis,
+            double p99Millis,
+            double p999Millis,
+            double maxMillis
+    ) {
+    }
+}
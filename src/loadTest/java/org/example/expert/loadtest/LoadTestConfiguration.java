@@ -0,0 +1,30 @@
+package org.example.expert.loadtest;
+
+import org.example.expert.client.WeatherClient;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+// 부하 테스트 실행에만 추가하는 빈, 외부 날씨 API 는 측정 대상이 아니라 고정 값을 돌려주는 스텁으로 바꿈
+@Configuration
+class LoadTestConfiguration {
+
+    @Bean
+    @Primary
+    WeatherClient stubWeatherClient(RestTemplateBuilder builder) {
+        return new StubWeatherClient(builder);
+    }
+
+    static class StubWeatherClient extends WeatherClient {
+
+        StubWeatherClient(RestTemplateBuilder builder) {
+            super(builder);
+        }
+
+        @Override
+        public String getTodayWeather() {
+            return "Sunny";
+        }
+    }
+}
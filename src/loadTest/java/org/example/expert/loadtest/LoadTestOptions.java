@@ -0,0 +1,72 @@
+package org.example.expert.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+// 시스템 프로퍼티 load.* 로 받는 실행 옵션, Gradle 의 -Pload.* 가 그대로 넘어옴
+record LoadTestOptions(
+        long rows,
+        int clients,
+        Duration warmup,
+        Duration duration,
+        Map<Endpoint, Integer> mix,
+        int pageSize,
+        int poolSize,
+        Path resultsDir
+) {
+
+    static final long MIN_ROWS = 1_000;
+    static final long MAX_ROWS = 10_000_000;
+
+    // 읽기 위주의 일반적인 비율: 목록 40, 댓글 조회 35, 댓글 작성 20, 로그인 5
+    private static final String DEFAULT_MIX = "signin:5,todos:40,comments:30,post-comment:15,create-todo:8,create-todos:2";
+
+    LoadTestOptions {
+        if (rows < MIN_ROWS || rows > MAX_ROWS) {
+            throw new IllegalArgumentException("load.rows 는 " + MIN_ROWS + " ~ " + MAX_ROWS + " 사이여야 합니다: " + rows);
+        }
+        if (clients < 1) {
+            throw new IllegalArgumentException("load.clients 는 1 이상이어야 합니다: " + clients);
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("load.mix 의 가중치 합은 0 보다 커야 합니다.");
+        }
+    }
+
+    static LoadTestOptions fromSystemProperties() {
+        return new LoadTestOptions(
+                Long.parseLong(property("rows", "10000")),
+                Integer.parseInt(property("clients", "100")),
+                DurationStyle.detectAndParse(property("warmup", "10s")),
+                DurationStyle.detectAndParse(property("duration", "60s")),
+                parseMix(property("mix", DEFAULT_MIX)),
+                Integer.parseInt(property("page-size", "10")),
+                Integer.parseInt(property("pool-size", "20")),
+                Path.of(property("results-dir", "build/results/loadtest"))
+        );
+    }
+
+    // "signin:5,todos:40" 형태, 빠진 엔드포인트는 가중치 0
+    static Map<Endpoint, Integer> parseMix(String value) {
+        Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            mix.put(endpoint, 0);
+        }
+        for (String entry : value.split(",")) {
+            String[] pair = entry.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("load.mix 형식이 올바르지 않습니다: " + entry);
+            }
+            mix.put(Endpoint.of(pair[0].trim()), Integer.parseInt(pair[1].trim()));
+        }
+        return mix;
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("load." + name, defaultValue);
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.expert.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.ExpertApplication;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.SchemaBackfill;
+import org.example.expert.domain.todo.service.TodoFirstPageSnapshot;
+import org.example.expert.domain.todo.service.TodoSummaryProjector;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+// ./gradlew loadTest 진입점
+// 애플리케이션 전체를 같은 JVM 의 H2 메모리 DB 로 띄우고, 데이터를 채운 뒤 실제 HTTP 포트로 혼합 트래픽을 보냄
+// 클라이언트와 서버가 CPU 를 나눠 쓰므로 절대값보다 같은 머신에서 규모별/커밋별로 비교하는 용도
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ExpertApplication.class, LoadTestConfiguration.class)
+                .properties(applicationProperties(options))
+                .run(args)) {
+            DatasetGenerator.Dataset dataset = new DatasetGenerator(
+                    context.getBean(JdbcTemplate.class), context.getBean(PasswordEncoder.class)).generate(options.rows());
+            // JDBC 로 직접 넣은 행은 id 를 직접 정해서 시퀀스를 그 뒤로 옮겨야 일정/댓글 생성 요청이 겹치지 않음
+            context.getBean(SchemaBackfill.class).backfill();
+            // JDBC 로 직접 넣은 행은 이벤트를 거치지 않아 읽기 모델과 첫 페이지 스냅샷을 다시 만듦
+            context.getBean(TodoSummaryProjector.class).rebuild();
+            context.getBean(TodoFirstPageSnapshot.class).rebuild();
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+            System.out.printf("[load] clients=%d warmup=%s duration=%s mix=%s%n",
+                    options.clients(), options.warmup(), options.duration(), options.mix());
+
+            TrafficDriver.Measurement measurement = new TrafficDriver(
+                    URI.create("http://localhost:" + port), options, dataset, objectMapper).run();
+            LoadReport report = LoadReport.of(options, dataset, measurement);
+            report.print();
+            Path file = report.write(options.resultsDir(), objectMapper);
+            System.out.println("[load] 결과 저장: " + file);
+        }
+    }
+
+    private static Map<String, Object> applicationProperties(LoadTestOptions options) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.hikari.maximum-pool-size", options.poolSize());
+        properties.put("spring.jpa.hibernate.ddl-auto", "create");
+        properties.put("spring.jpa.open-in-view", false);
+        // 서버 쪽도 21 이상이면 요청 처리 스레드를 가상 스레드로
+        properties.put("spring.threads.virtual.enabled", TrafficDriver.VIRTUAL_THREADS);
+        properties.put("server.tomcat.threads.max", Math.max(200, options.clients()));
+        properties.put("jwt.secret.key", Base64.getEncoder().encodeToString("load-test-only-secret-key-0123456789abcdef".getBytes()));
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.org.example.expert", "INFO");
+        return properties;
+    }
+}
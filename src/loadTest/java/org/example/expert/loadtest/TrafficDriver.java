@@ -0,0 +1,222 @@
+package org.example.expert.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.auth.dto.request.SigninRequest;
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// 클라이언트마다 스레드 하나가 로그인 후 가중치대로 요청을 고르는 닫힌 루프 (응답을 받으면 바로 다음 요청)
+// JDK 21 이상이면 클라이언트를 가상 스레드로 띄워 수천 개도 스레드 풀 크기에 묶이지 않음, 17 에서는 클라이언트 수만큼의 플랫폼 스레드
+// 워밍업 구간의 기록은 버리고 측정 구간만 보고
+final class TrafficDriver {
+
+    static final boolean VIRTUAL_THREADS = Runtime.version().feature() >= 21;
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    // POST /todos/batch 한 번에 보내는 일정 수, 서버의 todo.batch.max-size 보다 작아야 함
+    private static final int CREATE_BATCH_SIZE = 20;
+
+    private final URI baseUri;
+    private final LoadTestOptions options;
+    private final DatasetGenerator.Dataset dataset;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final Endpoint[] endpoints;
+    private final int[] cumulativeWeights;
+
+    private volatile EndpointStats stats = new EndpointStats();
+    private volatile boolean running = true;
+
+    TrafficDriver(URI baseUri, LoadTestOptions options, DatasetGenerator.Dataset dataset, ObjectMapper objectMapper) {
+        this.baseUri = baseUri;
+        this.options = options;
+        this.dataset = dataset;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        Map<Endpoint, Integer> mix = options.mix();
+        this.endpoints = mix.keySet().toArray(new Endpoint[0]);
+        this.cumulativeWeights = new int[endpoints.length];
+        int total = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            total += mix.get(endpoints[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    Measurement run() throws InterruptedException {
+        ExecutorService executor = newClientExecutor(options.clients());
+        try {
+            for (int i = 0; i < options.clients(); i++) {
+                long seed = i;
+                executor.execute(() -> runClient(new SplittableRandom(seed)));
+            }
+            Thread.sleep(options.warmup().toMillis());
+            stats = new EndpointStats();
+            long startNanos = System.nanoTime();
+
+            Thread.sleep(options.duration().toMillis());
+            EndpointStats measured = stats;
+            long elapsedNanos = System.nanoTime() - startNanos;
+            // 멈춘 뒤 끝나는 요청은 측정 구간 밖이라 버리는 쪽으로 기록
+            stats = new EndpointStats();
+            running = false;
+            return new Measurement(measured, elapsedNanos);
+        } finally {
+            running = false;
+            executor.shutdown();
+            if (!executor.awaitTermination(REQUEST_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private void runClient(SplittableRandom random) {
+        Session session = signIn(random);
+        while (running && !Thread.currentThread().isInterrupted()) {
+            Endpoint endpoint = session == null ? Endpoint.SIGNIN : pick(random);
+            switch (endpoint) {
+                case SIGNIN -> session = signIn(random);
+                case LIST_TODOS -> send(Endpoint.LIST_TODOS, authorized(session, "/todos?page=" + pickPage(random) + "&size=" + options.pageSize())
+                        .GET()
+                        .build());
+                case READ_COMMENTS -> send(Endpoint.READ_COMMENTS, authorized(session, "/todos/" + dataset.randomTodoId(random) + "/comments")
+                        .GET()
+                        .build());
+                case POST_COMMENT -> send(Endpoint.POST_COMMENT, authorized(session, "/todos/" + dataset.randomOwnedTodoId(session.userId(), random) + "/comments")
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .POST(HttpRequest.BodyPublishers.ofString(json(new CommentSaveRequest("부하 테스트 댓글 " + random.nextInt()))))
+                        .build());
+                case CREATE_TODO -> send(Endpoint.CREATE_TODO, authorized(session, "/todos")
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .POST(HttpRequest.BodyPublishers.ofString(json(newTodo(random))))
+                        .build());
+                case CREATE_TODOS -> send(Endpoint.CREATE_TODOS, authorized(session, "/todos/batch")
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .POST(HttpRequest.BodyPublishers.ofString(json(newTodos(random))))
+                        .build());
+            }
+        }
+    }
+
+    // 로그인마다 무작위 사용자로 바꿔서 토큰과 작성 가능한 일정이 클라이언트 사이에 고르게 퍼지게 함
+    private Session signIn(SplittableRandom random) {
+        long userId = dataset.randomUserId(random);
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/auth/signin"))
+                .timeout(REQUEST_TIMEOUT)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofString(json(new SigninRequest(dataset.email(userId), DatasetGenerator.PASSWORD))))
+                .build();
+        HttpResponse<String> response = send(Endpoint.SIGNIN, request);
+        if (response == null || response.statusCode() >= 400) {
+            return null;
+        }
+        try {
+            return new Session(userId, objectMapper.readTree(response.body()).get("bearerToken").asText());
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private HttpResponse<String> send(Endpoint endpoint, HttpRequest request) {
+        long startNanos = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            stats.record(endpoint, System.nanoTime() - startNanos, response.statusCode() < 400);
+            return response;
+        } catch (IOException e) {
+            stats.record(endpoint, System.nanoTime() - startNanos, false);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private HttpRequest.Builder authorized(Session session, String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header(HttpHeaders.AUTHORIZATION, session.bearerToken());
+    }
+
+    private Endpoint pick(SplittableRandom random) {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < endpoints.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return endpoints[i];
+            }
+        }
+        return endpoints[endpoints.length - 1];
+    }
+
+    // 실제 목록 조회는 대부분 첫 페이지, 가끔 앞쪽 몇 페이지, 드물게 아무 페이지 (깊은 OFFSET 비용이 규모에 따라 드러나도록)
+    private int pickPage(SplittableRandom random) {
+        long lastPage = Math.max(1, dataset.todos() / options.pageSize());
+        int roll = random.nextInt(100);
+        if (roll < 80) {
+            return 1;
+        }
+        if (roll < 95) {
+            return 1 + (int) random.nextLong(Math.min(10, lastPage));
+        }
+        return 1 + (int) random.nextLong(Math.min(Integer.MAX_VALUE, lastPage));
+    }
+
+    private TodoSaveRequest newTodo(SplittableRandom random) {
+        return new TodoSaveRequest("부하 테스트 일정 " + random.nextInt(), "부하 테스트 내용 " + random.nextInt());
+    }
+
+    private List<TodoSaveRequest> newTodos(SplittableRandom random) {
+        List<TodoSaveRequest> todos = new ArrayList<>(CREATE_BATCH_SIZE);
+        for (int i = 0; i < CREATE_BATCH_SIZE; i++) {
+            todos.add(newTodo(random));
+        }
+        return todos;
+    }
+
+    private String json(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 가상 스레드 API 는 21 에서 추가돼 17 로 컴파일하는 이 소스셋에서는 리플렉션으로 찾음
+    private static ExecutorService newClientExecutor(int clients) {
+        if (VIRTUAL_THREADS) {
+            try {
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("가상 스레드 실행기를 만들 수 없습니다.", e);
+            }
+        }
+        return Executors.newFixedThreadPool(clients);
+    }
+
+    private record Session(long userId, String bearerToken) {
+    }
+
+    record Measurement(EndpointStats stats, long elapsedNanos) {
+    }
+}
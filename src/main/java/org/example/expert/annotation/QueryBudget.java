@@ -0,0 +1,15 @@
+package org.example.expert.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 핸들러 한 번에 허용하는 SQL 실행 횟수, 넘으면 QueryBudgetInterceptor 가 경고 로그를 남김
+// 붙이지 않은 핸들러는 jdbc.query-budget.default-max 를 따름
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    int value();
+}
@@ -2,41 +2,65 @@ package org.example.expert.aop;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.annotation.Before;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.example.expert.domain.audit.dto.AdminAuditEvent;
+import org.example.expert.domain.audit.service.AdminAuditBuffer;
+import org.example.expert.domain.audit.service.AdminLatencyRecorder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.lang.reflect.Method;
+import java.util.Map;
 
 @Aspect
 @Component
 @RequiredArgsConstructor
-@Slf4j(topic = "LogAspect")
 public class LogAspect {
 
-    @Before("@annotation(org.example.expert.annotation.AdminLogMethod)")
-    public void log(JoinPoint joinPoint) {
-        // id, 요청 시간, 요청 url logging
-        HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes())
-                .getRequest();
-
-        // id
-        Long userId = (Long) request.getAttribute("userId");
+    private final AdminAuditBuffer adminAuditBuffer;
+    private final AdminLatencyRecorder adminLatencyRecorder;
 
-        // 요청 시간
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-        String currentTime = formatter.format(LocalDateTime.now());
+    // 요청 스레드에서는 이벤트 하나만 만들어 버퍼에 넣고, 포맷팅과 저장은 AdminAuditWriter 가 처리
+    // 성공/실패와 걸린 시간을 남기기 위해 메서드 실행을 감싸고, 예외는 기록만 하고 그대로 던짐
+    @Around("@annotation(org.example.expert.annotation.AdminLogMethod)")
+    public Object log(ProceedingJoinPoint joinPoint) throws Throwable {
+        long requestedAt = System.currentTimeMillis();
+        long startedAt = System.nanoTime();
+        Class<? extends Throwable> exceptionType = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exceptionType = e.getClass();
+            throw e;
+        } finally {
+            long elapsedNanos = System.nanoTime() - startedAt;
+            Method handler = ((MethodSignature) joinPoint.getSignature()).getMethod();
+            adminLatencyRecorder.record(handler, elapsedNanos, exceptionType == null);
+            record(requestedAt, handler, exceptionType, elapsedNanos);
+        }
+    }
 
-        // 요청 url
-        String url = request.getRequestURL().toString();
-        String httpMethod = request.getMethod();
+    @SuppressWarnings("unchecked")
+    private void record(long requestedAt, Method handler, Class<? extends Throwable> exceptionType, long elapsedNanos) {
+        HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes())
+                .getRequest();
+        Map<String, String> pathVariables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
 
-        // 로그
-        log.info("[log] 요청 시간: " + currentTime + ", 요청 사용자 id: " + userId + ", 요청 url: [" + httpMethod + "] " + url);
+        // id, 요청 시간, 요청 url, 핸들러, 경로 변수, 결과, 걸린 시간
+        adminAuditBuffer.offer(new AdminAuditEvent(
+                requestedAt,
+                (Long) request.getAttribute("userId"),
+                request.getMethod(),
+                request.getRequestURI(),
+                handler,
+                pathVariables == null ? Map.of() : pathVariables,
+                exceptionType,
+                elapsedNanos
+        ));
     }
 }
@@ -0,0 +1,52 @@
+package org.example.expert.aop;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.example.expert.domain.common.timing.RequestTiming;
+import org.example.expert.domain.common.timing.TimingStage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// Server-Timing 구간 계측, 기능이 꺼져 있으면 빈 자체가 없어 프록시도 만들어지지 않음
+// 요청 스레드가 아닌 곳(감사 로그 writer, 스케줄러 등)에서는 current() 가 null 이라 그대로 진행
+@Aspect
+@Component
+@ConditionalOnProperty(name = "server-timing.enabled", havingValue = "true")
+public class ServerTimingAspect {
+
+    @Around("execution(* org.example.expert.config.JwtUtil.extractClaims(..))")
+    public Object timeAuth(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, TimingStage.AUTH);
+    }
+
+    @Around("execution(* org.example.expert.config.PasswordEncoder.*(..))")
+    public Object timeBcrypt(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, TimingStage.BCRYPT);
+    }
+
+    // Spring Data 리포지토리와 JdbcTemplate 기반 @Repository 둘 다
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))"
+            + " || within(@org.springframework.stereotype.Repository org.example.expert..*)")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, TimingStage.DB);
+    }
+
+    @Around("execution(* org.example.expert.client.WeatherClient.*(..))")
+    public Object timeWeather(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, TimingStage.WEATHER);
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, TimingStage stage) throws Throwable {
+        RequestTiming timing = RequestTiming.current();
+        if (timing == null) {
+            return joinPoint.proceed();
+        }
+        timing.begin(stage);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            timing.end(stage);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.expert.aop;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.response.PageResponse;
+import org.example.expert.domain.common.jfr.ServiceOperationEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 서비스 메서드마다 JFR ServiceOperationEvent 를 남겨 GC 멈춤이나 할당 급증과 같은 시간축에서 볼 수 있게 함
+// 기록 중이 아니거나 임계값보다 짧으면 shouldCommit() 이 false 라 인자 분석과 필드 채우기를 건너뜀
+@Aspect
+@Component
+@ConditionalOnProperty(name = "jfr.events.enabled", havingValue = "true", matchIfMissing = true)
+public class ServiceEventAspect {
+
+    private final Map<Method, ArgumentIndexes> argumentIndexes = new ConcurrentHashMap<>();
+
+    @Around("execution(public * org.example.expert.domain.todo.service.TodoService.*(..))"
+            + " || execution(public * org.example.expert.domain.comment.service.CommentService.*(..))"
+            + " || execution(public * org.example.expert.domain.manager.service.ManagerService.*(..))"
+            + " || execution(public * org.example.expert.domain.auth.service.AuthService.*(..))")
+    public Object emit(ProceedingJoinPoint joinPoint) throws Throwable {
+        ServiceOperationEvent event = new ServiceOperationEvent();
+        event.begin();
+        Object result = null;
+        Throwable failure = null;
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                fill(event, (MethodSignature) joinPoint.getSignature(), joinPoint.getArgs(), result, failure);
+                event.commit();
+            }
+        }
+    }
+
+    private void fill(ServiceOperationEvent event, MethodSignature signature, Object[] args, Object result, Throwable failure) {
+        Method method = signature.getMethod();
+        ArgumentIndexes indexes = argumentIndexes.computeIfAbsent(method, key -> ArgumentIndexes.of(signature));
+
+        event.setOperation(method.getDeclaringClass().getSimpleName() + "." + method.getName());
+        if (indexes.authUser >= 0 && args[indexes.authUser] instanceof AuthUser authUser && authUser.getId() != null) {
+            event.setUserId(authUser.getId());
+        }
+        if (indexes.entityId >= 0 && args[indexes.entityId] instanceof Long entityId) {
+            event.setEntityId(entityId);
+        }
+        event.setRowCount(rowCountOf(result));
+        if (failure != null) {
+            event.setFailure(failure.getClass().getSimpleName());
+        }
+    }
+
+    private static long rowCountOf(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof PageResponse<?> page) {
+            return page.getContent().size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        return -1;
+    }
+
+    // 인자 위치는 메서드마다 한 번만 찾음, 파라미터 이름은 -parameters 로 컴파일돼 있어야 읽힘
+    private record ArgumentIndexes(int authUser, int entityId) {
+
+        private static ArgumentIndexes of(MethodSignature signature) {
+            Class<?>[] types = signature.getParameterTypes();
+            String[] names = signature.getParameterNames();
+            int authUser = -1;
+            int entityId = -1;
+            for (int i = 0; i < types.length; i++) {
+                if (authUser < 0 && AuthUser.class.equals(types[i])) {
+                    authUser = i;
+                }
+                boolean idType = long.class.equals(types[i]) || Long.class.equals(types[i]);
+                if (entityId < 0 && idType && names != null && names[i].endsWith("Id")) {
+                    entityId = i;
+                }
+            }
+            return new ArgumentIndexes(authUser, entityId);
+        }
+    }
+}
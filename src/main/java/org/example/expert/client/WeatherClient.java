@@ -2,6 +2,7 @@ package org.example.expert.client;
 
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.jfr.WeatherCallEvent;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -22,9 +23,26 @@ public class WeatherClient {
         this.restTemplate = builder.build();
     }
 
+    // 외부 호출 시간과 응답 상태를 JFR 이벤트로 남김, 기록 중이 아니면 commit() 은 아무것도 하지 않음
     public String getTodayWeather() {
+        WeatherCallEvent event = new WeatherCallEvent();
+        event.begin();
+        try {
+            String weather = fetchTodayWeather(event);
+            event.setWeather(weather);
+            return weather;
+        } catch (RuntimeException e) {
+            event.setFailure(e.getClass().getSimpleName());
+            throw e;
+        } finally {
+            event.commit();
+        }
+    }
+
+    private String fetchTodayWeather(WeatherCallEvent event) {
         ResponseEntity<WeatherDto[]> responseEntity =
                 restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+        event.setStatusCode(responseEntity.getStatusCode().value());
 
         WeatherDto[] weatherArray = responseEntity.getBody();
         if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
@@ -33,6 +51,7 @@ public class WeatherClient {
         if (weatherArray == null || weatherArray.length == 0) {
             throw new ServerException("날씨 데이터가 없습니다.");
         }
+        event.setRowCount(weatherArray.length);
 
         String today = getCurrentDate();
 
@@ -1,15 +1,23 @@
 package org.example.expert.config;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.metrics.RequestMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
 
 @Configuration
 @RequiredArgsConstructor
 public class FilterConfig {
 
     private final JwtUtil jwtUtil;
+    private final RequestMetrics requestMetrics;
 
     @Bean
     public FilterRegistrationBean<JwtFilter> jwtFilter() {
@@ -19,4 +27,30 @@ public class FilterConfig {
 
         return registrationBean;
     }
+
+    // JwtFilter 에서 걸러진 요청과 인증 시간까지 포함하도록 가장 바깥에 둠
+    @Bean
+    public FilterRegistrationBean<RequestMetricsFilter> requestMetricsFilter() {
+        FilterRegistrationBean<RequestMetricsFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new RequestMetricsFilter(requestMetrics));
+        registrationBean.addUrlPatterns("/*");
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE);
+
+        return registrationBean;
+    }
+
+    // server-timing.enabled=true 일 때만 등록, JwtFilter 시간도 잡히도록 RequestMetricsFilter 바로 안쪽에 둠
+    @Bean
+    @ConditionalOnProperty(name = "server-timing.enabled", havingValue = "true")
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(
+            @Value("${server-timing.slow-threshold:0ms}") Duration slowThreshold
+    ) {
+        FilterRegistrationBean<ServerTimingFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new ServerTimingFilter(slowThreshold));
+        registrationBean.addUrlPatterns("/*");
+        registrationBean.setDispatcherTypes(DispatcherType.REQUEST, DispatcherType.ASYNC);
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+
+        return registrationBean;
+    }
 }
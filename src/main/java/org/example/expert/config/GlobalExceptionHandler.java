@@ -2,7 +2,9 @@ package org.example.expert.config;
 
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.PreconditionFailedException;
 import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -26,6 +28,19 @@ public class GlobalExceptionHandler {
         return getErrorResponse(status, ex.getMessage());
     }
 
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<Map<String, Object>> handlePreconditionFailedException(PreconditionFailedException ex) {
+        HttpStatus status = HttpStatus.PRECONDITION_FAILED;
+        return getErrorResponse(status, ex.getMessage());
+    }
+
+    // If-Match 를 통과한 뒤 UPDATE ... WHERE version = ? 에서 다른 트랜잭션에 밀린 경우
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, Object>> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        HttpStatus status = HttpStatus.PRECONDITION_FAILED;
+        return getErrorResponse(status, "다른 요청이 먼저 수정했습니다.");
+    }
+
     @ExceptionHandler(ServerException.class)
     public ResponseEntity<Map<String, Object>> handleServerException(ServerException ex) {
         HttpStatus status = HttpStatus.INTERNAL_SERVER_ERROR;
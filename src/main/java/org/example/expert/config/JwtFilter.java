@@ -10,6 +10,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.jfr.JwtVerificationEvent;
 import org.example.expert.domain.user.enums.UserRole;
 
 import java.io.IOException;
@@ -49,7 +50,7 @@ public class JwtFilter implements Filter {
 
         try {
             // JWT 유효성 검사와 claims 추출
-            Claims claims = jwtUtil.extractClaims(jwt);
+            Claims claims = extractClaims(jwt);
             if (claims == null) {
                 httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "잘못된 JWT 토큰입니다.");
                 return;
@@ -87,6 +88,33 @@ public class JwtFilter implements Filter {
         }
     }
 
+    // 서명 검증 시간을 JFR 이벤트로 남김, 기록하지 않을 이벤트면 클레임을 꺼내 필드를 채우는 비용도 들이지 않음
+    private Claims extractClaims(String jwt) {
+        JwtVerificationEvent event = new JwtVerificationEvent();
+        event.begin();
+        Claims claims = null;
+        RuntimeException failure = null;
+        try {
+            claims = jwtUtil.extractClaims(jwt);
+            return claims;
+        } catch (RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                if (claims != null) {
+                    event.setSubject(claims.getSubject());
+                    event.setUserRole(claims.get("userRole", String.class));
+                }
+                if (failure != null) {
+                    event.setFailure(failure.getClass().getSimpleName());
+                }
+                event.commit();
+            }
+        }
+    }
+
     @Override
     public void destroy() {
         Filter.super.destroy();
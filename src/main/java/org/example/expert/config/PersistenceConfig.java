@@ -1,9 +1,84 @@
 package org.example.expert.config;
 
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
 @Configuration
 @EnableJpaAuditing
 public class PersistenceConfig {
+
+    // 2차 캐시 region 목록, 엔티티의 @Cache(region = ...) 와 이름을 맞춰야 함
+    private static final List<String> CACHE_REGIONS = List.of("users", "todos", "todos.managers", "managers");
+    private static final long DEFAULT_REGION_MAX_SIZE = 10_000;
+    private static final Duration DEFAULT_REGION_TTL = Duration.ofMinutes(10);
+
+    @Value("${persistence.jdbc.batch-size:50}")
+    private int jdbcBatchSize;
+
+    @Value("${persistence.cache.statistics-enabled:true}")
+    private boolean cacheStatisticsEnabled;
+
+    // 시퀀스(pooled) 채번과 함께 INSERT/UPDATE 를 JDBC 배치로 묶음
+    // MySQL 은 rewriteBatchedStatements=true 를 JDBC URL 에 추가해야 실제로 한 번에 전송됨
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer() {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, jdbcBatchSize);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+            properties.putIfAbsent(AvailableSettings.BATCH_VERSIONED_DATA, true);
+        };
+    }
+
+    // 프로세스 내부 JCache(Caffeine) 를 2차 캐시로 사용
+    // region 별 크기와 TTL 은 persistence.cache.regions.<region>.max-size / ttl 로 조정
+    @Bean
+    public CacheManager secondLevelCacheManager(Environment environment) {
+        CachingProvider cachingProvider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        // 기본 CacheManager 는 JVM 전역이라 컨텍스트(데이터소스)마다 별도 URI 로 분리
+        CacheManager cacheManager = cachingProvider.getCacheManager(
+                URI.create("expert-second-level-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        for (String region : CACHE_REGIONS) {
+            String prefix = "persistence.cache.regions." + region;
+            long maxSize = environment.getProperty(prefix + ".max-size", Long.class, DEFAULT_REGION_MAX_SIZE);
+            Duration ttl = environment.getProperty(prefix + ".ttl", Duration.class, DEFAULT_REGION_TTL);
+
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+            configuration.setStatisticsEnabled(cacheStatisticsEnabled);
+            cacheManager.createCache(region, configuration);
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.putIfAbsent(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+            properties.putIfAbsent(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            // 목록에 없는 region 이 쓰이면 기동 시점에 바로 실패
+            properties.putIfAbsent(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            properties.putIfAbsent(AvailableSettings.GENERATE_STATISTICS, cacheStatisticsEnabled);
+        };
+    }
 }
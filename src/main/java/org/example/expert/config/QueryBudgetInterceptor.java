@@ -0,0 +1,64 @@
+package org.example.expert.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.annotation.QueryBudget;
+import org.example.expert.domain.common.jdbc.QueryCounter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+// 요청마다 실행된 SQL 을 세고 예산을 넘으면 트랜잭션별 내역과 함께 경고, 응답에는 영향 없음
+// 직렬화 중 지연 로딩(open-in-view)으로 나간 쿼리까지 포함하려고 afterCompletion 에서 닫음
+@Slf4j
+public class QueryBudgetInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String SCOPE_ATTRIBUTE = QueryBudgetInterceptor.class.getName() + ".SCOPE";
+
+    // 0 이면 @QueryBudget 이 붙은 핸들러만 검사
+    private final int defaultMax;
+
+    public QueryBudgetInterceptor(int defaultMax) {
+        this.defaultMax = defaultMax;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            request.setAttribute(SCOPE_ATTRIBUTE, QueryCounter.begin());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        QueryCounter.RequestScope scope = (QueryCounter.RequestScope) request.getAttribute(SCOPE_ATTRIBUTE);
+        if (scope == null) {
+            return;
+        }
+        request.removeAttribute(SCOPE_ATTRIBUTE);
+        QueryCounter.end(scope);
+
+        int budget = budgetOf((HandlerMethod) handler);
+        int total = scope.getCount().getTotal();
+        if (budget > 0 && total > budget) {
+            log.warn("쿼리 예산 초과 {} {} ({}/{}) {} transactions={}", request.getMethod(), request.getRequestURI(),
+                    total, budget, scope.getCount(), scope.getTransactions());
+        }
+    }
+
+    // SSE 처럼 비동기로 넘어간 요청은 afterCompletion 이 다른 스레드에서 불리므로 요청 스레드에서 바로 닫음
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        QueryCounter.RequestScope scope = (QueryCounter.RequestScope) request.getAttribute(SCOPE_ATTRIBUTE);
+        if (scope != null) {
+            request.removeAttribute(SCOPE_ATTRIBUTE);
+            QueryCounter.end(scope);
+        }
+    }
+
+    private int budgetOf(HandlerMethod handler) {
+        QueryBudget queryBudget = handler.getMethodAnnotation(QueryBudget.class);
+        return queryBudget != null ? queryBudget.value() : defaultMax;
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.jdbc.QueryCountingDataSource;
+import org.example.expert.domain.common.jdbc.SlowQueryLog;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class QueryCountingConfig {
+
+    // JPA 와 JdbcTemplate 모두 같은 DataSource 를 쓰므로 여기서 한 번 감싸면 모든 SQL 이 세어짐
+    // SlowQueryLog 가 꺼져 있거나 없는 슬라이스 테스트에서는 실행 시간을 재지 않음
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor(ObjectProvider<SlowQueryLog> slowQueryLogProvider) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                SlowQueryLog slowQueryLog = slowQueryLogProvider.getIfAvailable();
+                return QueryCountingDataSource.wrap(dataSource,
+                        slowQueryLog != null && slowQueryLog.isEnabled() ? slowQueryLog : null);
+            }
+        };
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.expert.config;
+
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.metrics.RequestMetrics;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+// JwtFilter 바깥에서 요청 전체(인증, 핸들러, 직렬화) 시간을 재서 RequestMetrics 에 기록
+@RequiredArgsConstructor
+public class RequestMetricsFilter implements Filter {
+
+    private final RequestMetrics requestMetrics;
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+
+        long startNanos = System.nanoTime();
+        Throwable failure = null;
+        try {
+            chain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            // GlobalExceptionHandler 가 처리한 예외는 DispatcherServlet 이 EXCEPTION_ATTRIBUTE 로 남겨둠
+            Throwable exception = failure != null ? failure
+                    : (Throwable) httpRequest.getAttribute(DispatcherServlet.EXCEPTION_ATTRIBUTE);
+            requestMetrics.record(
+                    httpRequest.getMethod(),
+                    (String) httpRequest.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE),
+                    failure != null ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : httpResponse.getStatus(),
+                    exception,
+                    System.nanoTime() - startNanos
+            );
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.expert.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.entity.TodoTombstone;
+import org.example.expert.domain.user.entity.User;
+import org.hibernate.dialect.sequence.SequenceSupport;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 마이그레이션 도구 없이 ddl-auto 로 컬럼만 추가된 기존 행을 시작 시점에 채움
+// EntityManagerFactory 를 주입받아 스키마 갱신이 끝난 뒤, 요청을 받기 전에 실행되도록 함
+// 각 단계는 이미 채워진 행이 있으면 아무것도 바꾸지 않아 인스턴스마다 실행되어도 안전함
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchemaBackfill {
+
+    // id 를 시퀀스(pooled)로 채번하는 엔티티, 시퀀스 이름과 allocationSize 는 각 엔티티의 @SequenceGenerator 에서 읽음
+    private static final List<Class<?>> SEQUENCE_ENTITIES = List.of(User.class, Todo.class, Comment.class, Manager.class, TodoTombstone.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    public void backfill() {
+        for (Class<?> entity : SEQUENCE_ENTITIES) {
+            seedSequence(entity);
+        }
+        backfillVersions("todos");
+        backfillVersions("comments");
+    }
+
+    // IDENTITY 에서 SEQUENCE 로 바꾸면 새로 만들어진 시퀀스가 1부터 시작해 기존 id 와 겹침
+    // pooled 채번은 시퀀스 값 이전 allocationSize 개를 쓸 수 있으므로 MAX(id) + allocationSize 보다 뒤에서 시작하게 함
+    private void seedSequence(Class<?> entity) {
+        SequenceGenerator generator = sequenceGenerator(entity);
+        String table = entity.getAnnotation(Table.class).name();
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        if (maxId == null) {
+            return;
+        }
+        long start = maxId + generator.allocationSize() + 1;
+
+        SequenceSupport sequenceSupport = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect().getSequenceSupport();
+        if (sequenceSupport.supportsSequences()) {
+            // 현재 값을 읽으면 값 하나를 소비하지만 빈 id 가 하나 생길 뿐임
+            Long current = jdbcTemplate.queryForObject(
+                    sequenceSupport.getSequenceNextValString(generator.sequenceName()), Long.class);
+            if (current != null && current - generator.allocationSize() >= maxId) {
+                return;
+            }
+            jdbcTemplate.execute("ALTER SEQUENCE " + generator.sequenceName() + " RESTART WITH " + start);
+        } else if (jdbcTemplate.update("UPDATE " + generator.sequenceName() + " SET next_val = ? WHERE next_val < ?", start, start) == 0) {
+            // MySQL 처럼 시퀀스가 없으면 Hibernate 가 next_val 컬럼 하나짜리 테이블로 흉내 냄
+            return;
+        }
+        log.info("[schema] {} 시퀀스를 {} 부터 시작하도록 조정 (MAX(id)={})", generator.sequenceName(), start, maxId);
+    }
+
+    private static SequenceGenerator sequenceGenerator(Class<?> entity) {
+        try {
+            return entity.getDeclaredField("id").getAnnotation(SequenceGenerator.class);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException(entity.getSimpleName() + " 에 id 필드가 없습니다.", e);
+        }
+    }
+
+    // @Version 컬럼이 추가되기 전의 행은 version 이 NULL 이라 If-Match/ETag 가 "null" 이 되고 버전 증가도 되지 않음
+    private void backfillVersions(String table) {
+        int updated = jdbcTemplate.update("UPDATE " + table + " SET version = 0 WHERE version IS NULL");
+        if (updated > 0) {
+            log.info("[schema] {} version 채움: {}건", table, updated);
+        }
+    }
+}
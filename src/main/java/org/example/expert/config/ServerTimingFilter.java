@@ -0,0 +1,115 @@
+package org.example.expert.config;
+
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.timing.RequestTiming;
+import org.springframework.http.MediaType;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.Duration;
+
+// 요청마다 RequestTiming 을 걸어두고 끝나면 Server-Timing 헤더로 구간별 시간을 돌려줌
+// 직렬화 시간까지 헤더에 넣으려면 본문이 커밋되기 전이어야 해서 응답 본문을 버퍼링했다가 헤더를 단 뒤 내보냄
+// 비동기 응답은 첫 디스패치가 끝난 뒤에 본문이 쓰이므로 헤더 없이 내보내고, REQUEST 와 ASYNC 디스패치 모두에 등록해야 함
+@Slf4j
+@RequiredArgsConstructor
+public class ServerTimingFilter implements Filter {
+
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    // 0 이면 느린 요청 로그를 남기지 않음
+    private final Duration slowThreshold;
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+
+        // Callable/DeferredResult 처럼 결과를 ASYNC 재디스패치에서 쓰는 경우, 응답은 첫 디스패치의 wrapper 를 그대로 받으므로
+        // 마지막 디스패치가 끝날 때 버퍼에 쌓인 본문을 내보냄
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                TimingResponseWrapper responseWrapper = WebUtils.getNativeResponse(response, TimingResponseWrapper.class);
+                if (responseWrapper != null && !httpRequest.isAsyncStarted()) {
+                    responseWrapper.copyBodyToResponse();
+                }
+            }
+            return;
+        }
+
+        RequestTiming timing = RequestTiming.start();
+        TimingResponseWrapper responseWrapper = new TimingResponseWrapper(httpRequest, httpResponse);
+        try {
+            chain.doFilter(request, responseWrapper);
+        } finally {
+            RequestTiming.clear();
+            timing.finish();
+            if (!httpRequest.isAsyncStarted()) {
+                responseWrapper.setHeader(SERVER_TIMING_HEADER, timing.toHeaderValue());
+                logIfSlow(httpRequest, timing);
+                responseWrapper.copyBodyToResponse();
+            }
+        }
+    }
+
+    private void logIfSlow(HttpServletRequest request, RequestTiming timing) {
+        if (slowThreshold.isZero() || timing.getTotalNanos() < slowThreshold.toNanos()) {
+            return;
+        }
+        log.warn("느린 요청 {} {} ({})", request.getMethod(), request.getRequestURI(), timing.toHeaderValue());
+    }
+
+    // SSE 응답은 버퍼링하면 클라이언트에 아무것도 전달되지 않으므로 Content-Type 이 text/event-stream 이면 그대로 통과시킴
+    // ServletServerHttpResponse 는 Content-Type 을 setContentType 이 아니라 addHeader 로 바로 컨테이너에 넘기므로
+    // 어느 경로로 정해졌든 본문을 쓰기 시작하는 시점에 컨테이너의 getContentType() 으로 판단
+    // StreamingResponseBody 처럼 비동기 처리 중 다른 스레드에서 쓰는 본문도 필터가 내보내 줄 시점이 없어 그대로 통과시킴
+    static class TimingResponseWrapper extends ContentCachingResponseWrapper {
+
+        private final HttpServletRequest request;
+        private volatile boolean streaming;
+
+        TimingResponseWrapper(HttpServletRequest request, HttpServletResponse response) {
+            super(response);
+            this.request = request;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            return isStreaming() ? getResponse().getOutputStream() : super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            return isStreaming() ? getResponse().getWriter() : super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (isStreaming()) {
+                getResponse().flushBuffer();
+            } else {
+                super.flushBuffer();
+            }
+        }
+
+        // 통과로 바뀌기 전에 버퍼에 쌓인 본문이 있으면 순서가 뒤바뀌지 않도록 먼저 내보냄
+        private boolean isStreaming() throws IOException {
+            if (!streaming) {
+                String contentType = getContentType();
+                if ((contentType != null && contentType.startsWith(MediaType.TEXT_EVENT_STREAM_VALUE)) || request.isAsyncStarted()) {
+                    copyBodyToResponse(false);
+                    streaming = true;
+                }
+            }
+            return streaming;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.timing.RequestTiming;
+import org.example.expert.domain.common.timing.TimingStage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+// 메시지 컨버터가 쓰기 직전에 serialize 구간을 열어둠, 닫는 건 요청이 끝날 때 ServerTimingFilter 가 함
+@RestControllerAdvice
+@ConditionalOnProperty(name = "server-timing.enabled", havingValue = "true")
+public class ServerTimingResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestTiming timing = RequestTiming.current();
+        if (timing != null) {
+            timing.begin(TimingStage.SERIALIZE);
+        }
+        return body;
+    }
+}
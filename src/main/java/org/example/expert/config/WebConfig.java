@@ -1,8 +1,16 @@
 package org.example.expert.config;
 
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.util.List;
@@ -11,9 +19,36 @@ import java.util.List;
 @RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    // spring.jackson.* 설정이 적용된 builder (prototype 빈이라 이 설정 클래스 전용)
+    private final Jackson2ObjectMapperBuilder objectMapperBuilder;
+
+    @Value("${jdbc.query-budget.enabled:true}")
+    private boolean queryBudgetEnabled;
+
+    @Value("${jdbc.query-budget.default-max:30}")
+    private int queryBudgetDefaultMax;
+
     // ArgumentResolver 등록
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         resolvers.add(new AuthUserArgumentResolver());
     }
+
+    // 요청당 SQL 실행 횟수가 예산을 넘으면 경고 로그, N+1 이 새로 생겼는지 운영에서 확인하는 용도
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (queryBudgetEnabled) {
+            registry.addInterceptor(new QueryBudgetInterceptor(queryBudgetDefaultMax));
+        }
+    }
+
+    // Accept: application/x-jackson-smile 또는 application/cbor 요청에는 바이너리로 응답, 그 외에는 기존처럼 JSON
+    // Spring 이 기본으로 등록하는 Smile/CBOR 컨버터는 spring.jackson.* 설정을 따르지 않으므로 같은 builder 로 다시 만듦
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2SmileHttpMessageConverter
+                || converter instanceof MappingJackson2CborHttpMessageConverter);
+        converters.add(new MappingJackson2SmileHttpMessageConverter(objectMapperBuilder.factory(new SmileFactory()).build()));
+        converters.add(new MappingJackson2CborHttpMessageConverter(objectMapperBuilder.factory(new CBORFactory()).build()));
+    }
 }
@@ -0,0 +1,38 @@
+package org.example.expert.domain.audit.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.audit.dto.response.AdminAuditLogResponse;
+import org.example.expert.domain.audit.dto.response.AdminLatencyStatsResponse;
+import org.example.expert.domain.audit.service.AdminAuditService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class AdminAuditController {
+
+    private final AdminAuditService adminAuditService;
+
+    // url 은 앞부분 일치, 예: url=/admin/users 이면 권한 변경 요청만 조회
+    @GetMapping("/admin/audit-logs")
+    public ResponseEntity<List<AdminAuditLogResponse>> getAuditLogs(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) String url,
+            @RequestParam(defaultValue = "100") int size
+    ) {
+        return ResponseEntity.ok(adminAuditService.getAuditLogs(from, to, userId, url, size));
+    }
+
+    @GetMapping("/admin/audit-logs/latency")
+    public ResponseEntity<List<AdminLatencyStatsResponse>> getLatencyStats() {
+        return ResponseEntity.ok(adminAuditService.getLatencyStats());
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.expert.domain.audit.dto;
+
+import lombok.Getter;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+// 요청 스레드에서 만드는 유일한 객체, 포맷팅과 저장은 AdminAuditWriter 스레드에서 처리
+// handler, pathVariables, exceptionType 은 이미 있는 객체의 참조만 담음
+@Getter
+public class AdminAuditEvent {
+
+    private final long requestedAt;
+    private final Long userId;
+    private final String httpMethod;
+    private final String url;
+    private final Method handler;
+    private final Map<String, String> pathVariables;
+    private final Class<? extends Throwable> exceptionType;
+    private final long elapsedNanos;
+
+    public AdminAuditEvent(long requestedAt, Long userId, String httpMethod, String url) {
+        this(requestedAt, userId, httpMethod, url, null, Map.of(), null, 0);
+    }
+
+    public AdminAuditEvent(long requestedAt, Long userId, String httpMethod, String url, Method handler,
+                           Map<String, String> pathVariables, Class<? extends Throwable> exceptionType, long elapsedNanos) {
+        this.requestedAt = requestedAt;
+        this.userId = userId;
+        this.httpMethod = httpMethod;
+        this.url = url;
+        this.handler = handler;
+        this.pathVariables = pathVariables;
+        this.exceptionType = exceptionType;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public boolean isSuccess() {
+        return exceptionType == null;
+    }
+
+    public String getHandlerName() {
+        return handler == null ? null : handlerName(handler);
+    }
+
+    // TodoAdminController.deleteTodo
+    public static String handlerName(Method handler) {
+        return handler.getDeclaringClass().getSimpleName() + "." + handler.getName();
+    }
+}
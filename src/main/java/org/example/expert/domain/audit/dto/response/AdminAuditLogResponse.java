@@ -0,0 +1,33 @@
+package org.example.expert.domain.audit.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.audit.enums.AuditOutcome;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class AdminAuditLogResponse {
+
+    private final LocalDateTime requestedAt;
+    private final Long userId;
+    private final String httpMethod;
+    private final String url;
+    private final String handler;
+    private final String pathVariables;
+    private final AuditOutcome outcome;
+    private final String exceptionType;
+    private final long elapsedNanos;
+
+    public AdminAuditLogResponse(LocalDateTime requestedAt, Long userId, String httpMethod, String url, String handler,
+                                 String pathVariables, AuditOutcome outcome, String exceptionType, long elapsedNanos) {
+        this.requestedAt = requestedAt;
+        this.userId = userId;
+        this.httpMethod = httpMethod;
+        this.url = url;
+        this.handler = handler;
+        this.pathVariables = pathVariables;
+        this.outcome = outcome;
+        this.exceptionType = exceptionType;
+        this.elapsedNanos = elapsedNanos;
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.expert.domain.audit.dto.response;
+
+import lombok.Getter;
+
+// 시간 값은 모두 마이크로초
+@Getter
+public class AdminLatencyStatsResponse {
+
+    private final String handler;
+    private final long count;
+    private final long errorCount;
+    private final double meanMicros;
+    private final long p50Micros;
+    private final long p90Micros;
+    private final long p99Micros;
+    private final long maxMicros;
+
+    public AdminLatencyStatsResponse(String handler, long count, long errorCount, double meanMicros,
+                                     long p50Micros, long p90Micros, long p99Micros, long maxMicros) {
+        this.handler = handler;
+        this.count = count;
+        this.errorCount = errorCount;
+        this.meanMicros = meanMicros;
+        this.p50Micros = p50Micros;
+        this.p90Micros = p90Micros;
+        this.p99Micros = p99Micros;
+        this.maxMicros = maxMicros;
+    }
+}
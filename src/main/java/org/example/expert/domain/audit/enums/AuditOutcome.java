@@ -0,0 +1,6 @@
+package org.example.expert.domain.audit.enums;
+
+public enum AuditOutcome {
+    SUCCESS,
+    FAILURE
+}
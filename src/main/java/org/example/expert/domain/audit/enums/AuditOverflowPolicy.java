@@ -0,0 +1,9 @@
+package org.example.expert.domain.audit.enums;
+
+// 감사 로그 버퍼가 가득 찼을 때의 처리
+public enum AuditOverflowPolicy {
+    // 이벤트를 버리고 개수만 센다, 요청 지연이 늘지 않음
+    DROP,
+    // 자리가 날 때까지 요청 스레드가 기다린다, 감사 로그를 잃지 않음
+    BLOCK
+}
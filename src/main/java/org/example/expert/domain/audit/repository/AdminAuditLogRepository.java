@@ -0,0 +1,300 @@
+package org.example.expert.domain.audit.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.audit.dto.AdminAuditEvent;
+import org.example.expert.domain.audit.dto.response.AdminAuditLogResponse;
+import org.example.expert.domain.audit.enums.AuditOutcome;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 감사 로그를 하루 단위 테이블(admin_audit_log_20241231)에 나눠 저장
+// 조회는 요청한 기간에 해당하는 테이블만 읽고, 보존 기간이 지난 날짜는 DELETE 대신 DROP TABLE 로 지움
+// 엔티티로 다룰 일이 없어 영속성 컨텍스트를 거치지 않고 JDBC 로 바로 기록
+// 여러 인스턴스가 같은 DB 에 테이블을 만들고 지우므로, 조회와 삭제 전에는 DB 메타데이터로 날짜 목록을 다시 읽음
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class AdminAuditLogRepository {
+
+    private static final String TABLE_PREFIX = "admin_audit_log_";
+    private static final DateTimeFormatter TABLE_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final String COLUMNS = "requested_at, user_id, http_method, url, handler, path_variables, outcome, exception_type, elapsed_nanos";
+    private static final Pattern TABLE_NAME = Pattern.compile("(?i)" + TABLE_PREFIX + "(\\d{8})");
+    // 처음 만든 테이블(requested_at, user_id, http_method, url) 이후에 추가된 컬럼
+    // 기존 행은 결과와 소요 시간을 알 수 없으므로 NULL 로 둠
+    private static final Map<String, String> ADDED_COLUMNS = addedColumns();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ZoneId zoneId = ZoneId.systemDefault();
+    // 존재하는 날짜 테이블, 기록은 writer 스레드 하나가 하고 조회는 요청 스레드에서 함
+    private final NavigableSet<LocalDate> partitions = new ConcurrentSkipListSet<>();
+
+    // DB 에 있는 날짜 테이블로 목록을 맞추고, 예전 스키마로 만들어진 테이블에는 빠진 컬럼을 추가
+    public void loadPartitions() {
+        Set<LocalDate> found = refreshPartitions();
+        for (LocalDate day : found) {
+            upgradeColumns(tableName(day));
+        }
+    }
+
+    // 이벤트는 시간순으로 들어오므로 같은 날짜끼리 이어진 구간마다 배치 INSERT 한 번
+    public void batchInsert(List<AdminAuditEvent> events) {
+        int from = 0;
+        while (from < events.size()) {
+            LocalDate day = dayOf(events.get(from).getRequestedAt());
+            int to = from + 1;
+            while (to < events.size() && dayOf(events.get(to).getRequestedAt()).equals(day)) {
+                to++;
+            }
+            insert(day, events.subList(from, to));
+            from = to;
+        }
+    }
+
+    // 최신순으로 limit 건까지, 범위 안에서 테이블이 있는 날짜만 최근 날짜부터 읽다가 채워지면 멈춤
+    public List<AdminAuditLogResponse> find(LocalDateTime from, LocalDateTime to, Long userId, String urlPrefix, int limit) {
+        long fromMillis = toMillis(from);
+        long toMillis = toMillis(to);
+
+        StringBuilder where = new StringBuilder(" WHERE requested_at >= ? AND requested_at < ?");
+        List<Object> args = new ArrayList<>();
+        args.add(fromMillis);
+        args.add(toMillis);
+        if (userId != null) {
+            where.append(" AND user_id = ?");
+            args.add(userId);
+        }
+        if (urlPrefix != null) {
+            where.append(" AND url LIKE ? ESCAPE '!'");
+            args.add(escapeLike(urlPrefix) + "%");
+        }
+
+        refreshPartitions();
+        List<AdminAuditLogResponse> logs = new ArrayList<>();
+        for (LocalDate day : partitions.subSet(from.toLocalDate(), true, to.toLocalDate(), true).descendingSet()) {
+            int remaining = limit - logs.size();
+            if (remaining <= 0) {
+                break;
+            }
+            List<Object> dayArgs = new ArrayList<>(args);
+            dayArgs.add(remaining);
+            try {
+                logs.addAll(findInPartition(day, where, dayArgs));
+            } catch (BadSqlGrammarException e) {
+                // 목록을 읽은 뒤 다른 인스턴스가 보존 기간 정리로 지운 테이블이면 건너뜀, 테이블이 있으면 다른 오류
+                if (refreshPartitions().contains(day)) {
+                    throw e;
+                }
+                log.debug("[audit] 사라진 파티션 건너뜀: {}", tableName(day));
+            }
+        }
+        return logs;
+    }
+
+    private List<AdminAuditLogResponse> findInPartition(LocalDate day, StringBuilder where, List<Object> dayArgs) {
+        return jdbcTemplate.query(
+                "SELECT " + COLUMNS + " FROM " + tableName(day) + where + " ORDER BY requested_at DESC LIMIT ?",
+                (rs, rowNum) -> {
+                    // 컬럼이 추가되기 전에 기록된 행은 결과가 없음
+                    String outcome = rs.getString("outcome");
+                    return new AdminAuditLogResponse(
+                            LocalDateTime.ofInstant(Instant.ofEpochMilli(rs.getLong("requested_at")), zoneId),
+                            rs.getObject("user_id", Long.class),
+                            rs.getString("http_method"),
+                            rs.getString("url"),
+                            rs.getString("handler"),
+                            rs.getString("path_variables"),
+                            outcome == null ? null : AuditOutcome.valueOf(outcome),
+                            rs.getString("exception_type"),
+                            rs.getLong("elapsed_nanos")
+                    );
+                },
+                dayArgs.toArray()
+        );
+    }
+
+    // cutoff 이전 날짜의 테이블을 통째로 삭제, 지운 날짜를 반환
+    public List<LocalDate> dropPartitionsBefore(LocalDate cutoff) {
+        refreshPartitions();
+        List<LocalDate> dropped = new ArrayList<>();
+        for (LocalDate day : new ArrayList<>(partitions.headSet(cutoff, false))) {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + tableName(day));
+            partitions.remove(day);
+            dropped.add(day);
+        }
+        return dropped;
+    }
+
+    public List<LocalDate> getPartitions() {
+        refreshPartitions();
+        return new ArrayList<>(partitions);
+    }
+
+    public LocalDate dayOf(long epochMillis) {
+        return LocalDate.ofInstant(Instant.ofEpochMilli(epochMillis), zoneId);
+    }
+
+    private void insert(LocalDate day, List<AdminAuditEvent> events) {
+        ensurePartition(day);
+        jdbcTemplate.batchUpdate("INSERT INTO " + tableName(day) + " (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                events, events.size(), (ps, event) -> {
+                    ps.setLong(1, event.getRequestedAt());
+                    if (event.getUserId() == null) {
+                        ps.setNull(2, Types.BIGINT);
+                    } else {
+                        ps.setLong(2, event.getUserId());
+                    }
+                    ps.setString(3, event.getHttpMethod());
+                    ps.setString(4, event.getUrl());
+                    ps.setString(5, event.getHandlerName());
+                    ps.setString(6, formatPathVariables(event.getPathVariables()));
+                    ps.setString(7, (event.isSuccess() ? AuditOutcome.SUCCESS : AuditOutcome.FAILURE).name());
+                    ps.setString(8, event.getExceptionType() == null ? null : event.getExceptionType().getName());
+                    ps.setLong(9, event.getElapsedNanos());
+                });
+    }
+
+    // requested_at 은 epoch millis, H2 와 MySQL 에서 같은 DDL 이 동작하도록 숫자로 저장
+    private void ensurePartition(LocalDate day) {
+        if (partitions.contains(day)) {
+            return;
+        }
+        String table = tableName(day);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + table + " (" +
+                "id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "requested_at BIGINT NOT NULL, " +
+                "user_id BIGINT, " +
+                "http_method VARCHAR(10) NOT NULL, " +
+                "url VARCHAR(2048) NOT NULL, " +
+                "handler VARCHAR(255), " +
+                "path_variables VARCHAR(1024), " +
+                "outcome VARCHAR(10) NOT NULL, " +
+                "exception_type VARCHAR(255), " +
+                "elapsed_nanos BIGINT NOT NULL)");
+        createIndex("CREATE INDEX idx_" + table + "_requested_at ON " + table + " (requested_at)");
+        createIndex("CREATE INDEX idx_" + table + "_user_id ON " + table + " (user_id, requested_at)");
+        // 배포 중에 이전 버전 인스턴스가 먼저 만든 테이블일 수 있음
+        upgradeColumns(table);
+        partitions.add(day);
+        log.info("[audit] 파티션 생성: {}", table);
+    }
+
+    // 다른 인스턴스가 만든 날짜는 추가하고 지운 날짜는 빼서 DB 와 같게 맞춤, 찾은 날짜를 반환
+    private Set<LocalDate> refreshPartitions() {
+        List<String> tableNames = jdbcTemplate.execute((ConnectionCallback<List<String>>) connection -> {
+            List<String> names = new ArrayList<>();
+            try (ResultSet tables = connection.getMetaData().getTables(connection.getCatalog(), null, "%", new String[]{"TABLE"})) {
+                while (tables.next()) {
+                    names.add(tables.getString("TABLE_NAME"));
+                }
+            }
+            return names;
+        });
+        Set<LocalDate> found = new HashSet<>();
+        for (String tableName : tableNames) {
+            Matcher matcher = TABLE_NAME.matcher(tableName);
+            if (matcher.matches()) {
+                found.add(LocalDate.parse(matcher.group(1), TABLE_SUFFIX));
+            }
+        }
+        partitions.retainAll(found);
+        partitions.addAll(found);
+        return found;
+    }
+
+    // CREATE TABLE IF NOT EXISTS 는 이미 있는 테이블을 바꾸지 않으므로 빠진 컬럼을 ALTER 로 추가
+    // MySQL 은 ADD COLUMN IF NOT EXISTS 가 없어 메타데이터로 있는 컬럼을 확인함
+    private void upgradeColumns(String table) {
+        Set<String> columns = jdbcTemplate.execute((ConnectionCallback<Set<String>>) connection -> existingColumns(connection, table));
+        for (Map.Entry<String, String> column : ADDED_COLUMNS.entrySet()) {
+            if (!columns.contains(column.getKey())) {
+                jdbcTemplate.execute("ALTER TABLE " + table + " ADD COLUMN " + column.getKey() + " " + column.getValue());
+                log.info("[audit] 파티션 컬럼 추가: {}.{}", table, column.getKey());
+            }
+        }
+    }
+
+    private Set<String> existingColumns(Connection connection, String table) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        String pattern = metaData.storesUpperCaseIdentifiers() ? table.toUpperCase(Locale.ROOT) : table;
+        Set<String> columns = new HashSet<>();
+        try (ResultSet rs = metaData.getColumns(connection.getCatalog(), null, pattern, "%")) {
+            while (rs.next()) {
+                columns.add(rs.getString("COLUMN_NAME").toLowerCase(Locale.ROOT));
+            }
+        }
+        return columns;
+    }
+
+    private static Map<String, String> addedColumns() {
+        Map<String, String> columns = new LinkedHashMap<>();
+        columns.put("handler", "VARCHAR(255)");
+        columns.put("path_variables", "VARCHAR(1024)");
+        columns.put("outcome", "VARCHAR(10)");
+        columns.put("exception_type", "VARCHAR(255)");
+        columns.put("elapsed_nanos", "BIGINT");
+        return columns;
+    }
+
+    // 다른 인스턴스가 먼저 테이블을 만든 경우 인덱스가 이미 있을 수 있음
+    private void createIndex(String ddl) {
+        try {
+            jdbcTemplate.execute(ddl);
+        } catch (DataAccessException e) {
+            log.debug("[audit] 인덱스 생성 생략: {}", e.getMostSpecificCause().getMessage());
+        }
+    }
+
+    // {todoId=1} -> todoId=1, 여러 개면 & 로 연결
+    private String formatPathVariables(Map<String, String> pathVariables) {
+        if (pathVariables == null || pathVariables.isEmpty()) {
+            return null;
+        }
+        StringBuilder builder = new StringBuilder();
+        for (Map.Entry<String, String> entry : pathVariables.entrySet()) {
+            if (!builder.isEmpty()) {
+                builder.append('&');
+            }
+            builder.append(entry.getKey()).append('=').append(entry.getValue());
+        }
+        return builder.toString();
+    }
+
+    private String tableName(LocalDate day) {
+        return TABLE_PREFIX + TABLE_SUFFIX.format(day);
+    }
+
+    private long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(zoneId).toInstant().toEpochMilli();
+    }
+
+    private String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+}
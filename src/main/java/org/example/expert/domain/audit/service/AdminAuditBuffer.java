@@ -0,0 +1,93 @@
+package org.example.expert.domain.audit.service;
+
+import org.example.expert.domain.audit.dto.AdminAuditEvent;
+import org.example.expert.domain.audit.enums.AuditOverflowPolicy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+// 여러 요청 스레드가 넣고 AdminAuditWriter 스레드 하나가 꺼내는 고정 크기 링 버퍼, 락 없이 CAS 로만 동작
+// 생산자는 tail 을 CAS 로 증가시켜 칸을 예약한 뒤 칸에 이벤트를 기록하고,
+// 소비자는 칸이 채워졌는지 확인해 꺼낸 뒤 칸을 비우고 head 를 증가시킴
+@Component
+public class AdminAuditBuffer {
+
+    private static final long BLOCK_PARK_NANOS = 100_000;
+
+    private final AtomicReferenceArray<AdminAuditEvent> slots;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final AuditOverflowPolicy overflowPolicy;
+    private final LongAdder droppedCount = new LongAdder();
+
+    public AdminAuditBuffer(
+            @Value("${audit.buffer.capacity:8192}") int capacity,
+            @Value("${audit.buffer.overflow-policy:DROP}") AuditOverflowPolicy overflowPolicy
+    ) {
+        // 인덱스를 나머지 연산 대신 비트 마스크로 구하기 위해 2의 거듭제곱으로 올림
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    // 요청 스레드에서 호출, DROP 이면 가득 찼을 때 false
+    public boolean offer(AdminAuditEvent event) {
+        while (true) {
+            long currentTail = tail.get();
+            if (currentTail - head.get() >= slots.length()) {
+                if (overflowPolicy == AuditOverflowPolicy.DROP) {
+                    droppedCount.increment();
+                    return false;
+                }
+                LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                continue;
+            }
+            if (tail.compareAndSet(currentTail, currentTail + 1)) {
+                slots.lazySet((int) currentTail & mask, event);
+                return true;
+            }
+        }
+    }
+
+    // 소비자 스레드 하나에서만 호출, 예약만 되고 아직 기록되지 않은 칸에서 멈춤
+    public int drainTo(List<AdminAuditEvent> batch, int maxSize) {
+        int drained = 0;
+        long currentHead = head.get();
+        while (drained < maxSize) {
+            int index = (int) currentHead & mask;
+            AdminAuditEvent event = slots.get(index);
+            if (event == null) {
+                break;
+            }
+            slots.lazySet(index, null);
+            batch.add(event);
+            currentHead++;
+            drained++;
+        }
+        head.lazySet(currentHead);
+        return drained;
+    }
+
+    public boolean isEmpty() {
+        return head.get() == tail.get();
+    }
+
+    public int size() {
+        return (int) (tail.get() - head.get());
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.expert.domain.audit.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.audit.dto.response.AdminAuditLogResponse;
+import org.example.expert.domain.audit.dto.response.AdminLatencyStatsResponse;
+import org.example.expert.domain.audit.repository.AdminAuditLogRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class AdminAuditService {
+
+    private final AdminAuditLogRepository adminAuditLogRepository;
+    private final AdminLatencyRecorder adminLatencyRecorder;
+
+    @Value("${audit.query.max-days:31}")
+    private int maxDays;
+
+    @Value("${audit.query.max-size:1000}")
+    private int maxSize;
+
+    // 기간은 [from, to), 기간이 길수록 읽는 날짜 테이블이 늘어나므로 최대 maxDays 일로 제한
+    public List<AdminAuditLogResponse> getAuditLogs(LocalDateTime from, LocalDateTime to, Long userId, String url, int size) {
+        LocalDateTime end = to == null ? LocalDateTime.now() : to;
+        LocalDateTime start = from == null ? end.minusDays(1) : from;
+        if (!start.isBefore(end)) {
+            throw new InvalidRequestException("조회 시작 시각은 종료 시각보다 앞서야 합니다.");
+        }
+        if (Duration.between(start, end).toDays() >= maxDays) {
+            throw new InvalidRequestException("감사 로그는 한 번에 최대 " + maxDays + "일까지 조회할 수 있습니다.");
+        }
+        if (size < 1 || size > maxSize) {
+            throw new InvalidRequestException("size 는 1 이상 " + maxSize + " 이하여야 합니다.");
+        }
+
+        return adminAuditLogRepository.find(start, end, userId, StringUtils.hasText(url) ? url : null, size);
+    }
+
+    public List<AdminLatencyStatsResponse> getLatencyStats() {
+        return adminLatencyRecorder.getStats();
+    }
+}
@@ -0,0 +1,118 @@
+package org.example.expert.domain.audit.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.audit.dto.AdminAuditEvent;
+import org.example.expert.domain.audit.repository.AdminAuditLogRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+// AdminAuditBuffer 를 비우는 백그라운드 스레드, 모인 이벤트를 batchSize 단위로 한 번에 INSERT
+// 버퍼가 비어 있으면 flushInterval 만큼 쉬므로 감사 로그는 최대 flushInterval 만큼 늦게 기록됨
+// 날짜가 바뀌면 보존 기간(retentionDays)이 지난 날짜 테이블을 같은 스레드에서 삭제
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdminAuditWriter {
+
+    private final AdminAuditBuffer adminAuditBuffer;
+    private final AdminAuditLogRepository adminAuditLogRepository;
+
+    @Value("${audit.writer.batch-size:256}")
+    private int batchSize;
+
+    @Value("${audit.writer.flush-interval:200ms}")
+    private Duration flushInterval;
+
+    @Value("${audit.retention-days:90}")
+    private int retentionDays;
+
+    private volatile boolean running;
+    private Thread thread;
+    private long reportedDroppedCount;
+    private LocalDate lastRetentionDay;
+
+    @PostConstruct
+    public void start() {
+        adminAuditLogRepository.loadPartitions();
+        running = true;
+        thread = new Thread(this::run, "admin-audit-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // 종료 시 남은 이벤트를 모두 기록한 뒤 멈춤
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(thread);
+        thread.join(Duration.ofSeconds(5).toMillis());
+    }
+
+    // 이 스레드가 죽으면 DROP 은 이후 이벤트를 모두 버리고 BLOCK 은 요청 스레드가 영원히 기다리므로, 어떤 예외에도 루프를 이어감
+    private void run() {
+        List<AdminAuditEvent> batch = new ArrayList<>(batchSize);
+        while (running || !adminAuditBuffer.isEmpty()) {
+            int drained;
+            try {
+                drained = flush(batch);
+            } catch (RuntimeException e) {
+                log.error("[audit] 감사 로그 기록 스레드 오류", e);
+                drained = 0;
+            }
+            if (drained == 0 && running) {
+                LockSupport.parkNanos(flushInterval.toNanos());
+            }
+        }
+        flush(batch);
+    }
+
+    // 한 번에 batchSize 건까지 꺼내서 기록, 기록한 건수를 반환
+    int flush(List<AdminAuditEvent> batch) {
+        batch.clear();
+        int drained = adminAuditBuffer.drainTo(batch, batchSize);
+        if (drained > 0) {
+            try {
+                adminAuditLogRepository.batchInsert(batch);
+            } catch (RuntimeException e) {
+                // 기록에 실패해도 버퍼는 계속 비워야 요청 스레드가 막히지 않음, DB 오류 외에 값 변환 오류도 여기서 멈춤
+                log.error("[audit] 감사 로그 {}건 기록 실패", drained, e);
+            }
+        }
+        reportDropped();
+        applyRetention();
+        return drained;
+    }
+
+    private void applyRetention() {
+        LocalDate today = adminAuditLogRepository.dayOf(System.currentTimeMillis());
+        if (today.equals(lastRetentionDay)) {
+            return;
+        }
+        lastRetentionDay = today;
+        try {
+            List<LocalDate> dropped = adminAuditLogRepository.dropPartitionsBefore(today.minusDays(retentionDays));
+            if (!dropped.isEmpty()) {
+                log.info("[audit] 보존 기간 {}일이 지난 파티션 삭제: {}", retentionDays, dropped);
+            }
+        } catch (RuntimeException e) {
+            log.error("[audit] 파티션 삭제 실패", e);
+        }
+    }
+
+    private void reportDropped() {
+        long droppedCount = adminAuditBuffer.getDroppedCount();
+        if (droppedCount > reportedDroppedCount) {
+            log.warn("[audit] 버퍼가 가득 차 감사 로그 {}건을 버림 (누적 {}건)", droppedCount - reportedDroppedCount, droppedCount);
+            reportedDroppedCount = droppedCount;
+        }
+    }
+}
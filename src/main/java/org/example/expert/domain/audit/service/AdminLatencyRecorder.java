@@ -0,0 +1,56 @@
+package org.example.expert.domain.audit.service;
+
+import org.example.expert.domain.audit.dto.AdminAuditEvent;
+import org.example.expert.domain.audit.dto.response.AdminLatencyStatsResponse;
+import org.example.expert.domain.common.metrics.LatencyHistogram;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// @AdminLogMethod 핸들러 메서드별 지연 시간 히스토그램과 실패 횟수, 별도 APM 없이 /admin/audit-logs/latency 로 조회
+@Component
+public class AdminLatencyRecorder {
+
+    private final Map<Method, EndpointStats> stats = new ConcurrentHashMap<>();
+
+    public void record(Method handler, long elapsedNanos, boolean success) {
+        EndpointStats endpointStats = stats.get(handler);
+        if (endpointStats == null) {
+            endpointStats = stats.computeIfAbsent(handler, method -> new EndpointStats());
+        }
+        endpointStats.histogram.record(elapsedNanos);
+        if (!success) {
+            endpointStats.errorCount.increment();
+        }
+    }
+
+    public List<AdminLatencyStatsResponse> getStats() {
+        List<AdminLatencyStatsResponse> responses = new ArrayList<>();
+        for (Map.Entry<Method, EndpointStats> entry : stats.entrySet()) {
+            LatencyHistogram histogram = entry.getValue().histogram;
+            responses.add(new AdminLatencyStatsResponse(
+                    AdminAuditEvent.handlerName(entry.getKey()),
+                    histogram.getCount(),
+                    entry.getValue().errorCount.sum(),
+                    histogram.getMeanNanos() / 1_000,
+                    histogram.getPercentileNanos(50) / 1_000,
+                    histogram.getPercentileNanos(90) / 1_000,
+                    histogram.getPercentileNanos(99) / 1_000,
+                    histogram.getMaxNanos() / 1_000
+            ));
+        }
+        responses.sort(Comparator.comparing(AdminLatencyStatsResponse::getHandler));
+        return responses;
+    }
+
+    private static class EndpointStats {
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final LongAdder errorCount = new LongAdder();
+    }
+}
@@ -2,20 +2,48 @@ package org.example.expert.domain.comment.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.annotation.AdminLogMethod;
+import org.example.expert.domain.comment.dto.response.CommentPurgeResponse;
+import org.example.expert.domain.comment.dto.response.CommentStreamStatsResponse;
 import org.example.expert.domain.comment.service.CommentAdminService;
-import org.springframework.web.bind.annotation.DeleteMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RestController;
+import org.example.expert.domain.comment.service.CommentStreamService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
 public class CommentAdminController {
 
     private final CommentAdminService commentAdminService;
+    private final CommentStreamService commentStreamService;
 
     @AdminLogMethod
     @DeleteMapping("/admin/comments/{commentId}")
     public void deleteComment(@PathVariable long commentId) {
         commentAdminService.deleteComment(commentId);
     }
+
+    @AdminLogMethod
+    @DeleteMapping("/admin/comments")
+    public ResponseEntity<CommentPurgeResponse> purgeComments(@RequestParam List<Long> commentIds) {
+        return ResponseEntity.ok(commentAdminService.purgeComments(commentIds));
+    }
+
+    @AdminLogMethod
+    @DeleteMapping("/admin/todos/{todoId}/comments")
+    public ResponseEntity<CommentPurgeResponse> purgeCommentsByTodo(@PathVariable long todoId) {
+        return ResponseEntity.ok(commentAdminService.purgeCommentsByTodo(todoId));
+    }
+
+    @AdminLogMethod
+    @DeleteMapping("/admin/users/{userId}/comments")
+    public ResponseEntity<CommentPurgeResponse> purgeCommentsByUser(@PathVariable long userId) {
+        return ResponseEntity.ok(commentAdminService.purgeCommentsByUser(userId));
+    }
+
+    @GetMapping("/admin/comments/streams")
+    public ResponseEntity<CommentStreamStatsResponse> getCommentStreamStats() {
+        return ResponseEntity.ok(commentStreamService.getStats());
+    }
 }
@@ -2,23 +2,38 @@ package org.example.expert.domain.comment.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.annotation.QueryBudget;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.request.CommentUpdateRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.comment.service.CommentStreamService;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.enums.TodoResourceType;
+import org.example.expert.domain.todo.service.TodoVersionRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequiredArgsConstructor
 public class CommentController {
 
     private final CommentService commentService;
+    private final CommentStreamService commentStreamService;
+    private final TodoVersionRegistry todoVersionRegistry;
 
+    // 일정 1 + 담당자 컬렉션 1 + INSERT 1 + todo_summary 갱신, 담당자마다 쿼리가 늘어나면 예산 초과로 드러남
+    @QueryBudget(8)
     @PostMapping("/todos/{todoId}/comments")
     public ResponseEntity<CommentSaveResponse> saveComment(
             @Auth AuthUser authUser,
@@ -28,8 +43,43 @@ public class CommentController {
         return ResponseEntity.ok(commentService.saveComment(authUser, todoId, commentSaveRequest));
     }
 
+    // If-Match 에는 응답 본문의 version 을 "3" 형태로 넣음
+    @PatchMapping("/todos/{todoId}/comments/{commentId}")
+    public ResponseEntity<CommentResponse> updateComment(
+            @Auth AuthUser authUser,
+            @PathVariable long todoId,
+            @PathVariable long commentId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody CommentUpdateRequest commentUpdateRequest
+    ) {
+        return ResponseEntity.ok(commentService.updateComment(authUser, todoId, commentId, ifMatch, commentUpdateRequest));
+    }
+
     @GetMapping("/todos/{todoId}/comments")
-    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId) {
+    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId, WebRequest webRequest) {
+        if (todoVersionRegistry.checkNotModified(webRequest, todoId, TodoResourceType.COMMENTS)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         return ResponseEntity.ok(commentService.getComments(todoId));
     }
+
+    @GetMapping(value = "/todos/{todoId}/comments", params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> getCommentFields(
+            @PathVariable long todoId,
+            @RequestParam String fields,
+            WebRequest webRequest
+    ) {
+        if (todoVersionRegistry.checkNotModified(webRequest, todoId, TodoResourceType.COMMENTS)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok(commentService.getComments(todoId, fields));
+    }
+
+    @GetMapping(value = "/todos/{todoId}/comments/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamComments(
+            @PathVariable long todoId,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId
+    ) {
+        return commentStreamService.subscribe(todoId, lastEventId);
+    }
 }
@@ -0,0 +1,13 @@
+package org.example.expert.domain.comment.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class CommentPurgeResponse {
+
+    private final int deletedCount;
+
+    public CommentPurgeResponse(int deletedCount) {
+        this.deletedCount = deletedCount;
+    }
+}
@@ -9,10 +9,17 @@ public class CommentResponse {
     private final Long id;
     private final String contents;
     private final UserResponse user;
+    // PATCH 요청의 If-Match 에 넣을 값
+    private final Long version;
 
     public CommentResponse(Long id, String contents, UserResponse user) {
+        this(id, contents, user, null);
+    }
+
+    public CommentResponse(Long id, String contents, UserResponse user, Long version) {
         this.id = id;
         this.contents = contents;
         this.user = user;
+        this.version = version;
     }
 }
@@ -0,0 +1,19 @@
+package org.example.expert.domain.comment.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class CommentStreamStatsResponse {
+
+    private final int todoCount;
+    private final int subscriberCount;
+    private final long deliveredEventCount;
+    private final long droppedEventCount;
+
+    public CommentStreamStatsResponse(int todoCount, int subscriberCount, long deliveredEventCount, long droppedEventCount) {
+        this.todoCount = todoCount;
+        this.subscriberCount = subscriberCount;
+        this.deliveredEventCount = deliveredEventCount;
+        this.droppedEventCount = droppedEventCount;
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.expert.domain.comment.event;
+
+import lombok.Getter;
+
+// 기존 댓글의 내용이 수정되었을 때 발행, 새 댓글은 CommentSavedEvent 로 알림
+@Getter
+public class CommentChangedEvent {
+
+    private final Long todoId;
+
+    public CommentChangedEvent(Long todoId) {
+        this.todoId = todoId;
+    }
+}
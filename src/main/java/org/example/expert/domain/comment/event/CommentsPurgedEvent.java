@@ -0,0 +1,23 @@
+package org.example.expert.domain.comment.event;
+
+import lombok.Getter;
+
+import java.util.Map;
+
+// 관리자 벌크 삭제 후 발행, todoId 가 null 이면 어떤 일정의 댓글이 지워졌는지 모르는 경우
+// deletedCounts 는 일정별로 지워진 댓글 수, 목록 읽기 모델의 댓글 수를 차감하는 데 사용
+@Getter
+public class CommentsPurgedEvent {
+
+    private final Long todoId;
+    private final Map<Long, Long> deletedCounts;
+
+    public CommentsPurgedEvent(Long todoId) {
+        this(todoId, Map.of());
+    }
+
+    public CommentsPurgedEvent(Long todoId, Map<Long, Long> deletedCounts) {
+        this.todoId = todoId;
+        this.deletedCounts = deletedCounts;
+    }
+}
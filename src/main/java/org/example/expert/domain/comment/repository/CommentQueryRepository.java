@@ -0,0 +1,25 @@
+package org.example.expert.domain.comment.repository;
+
+import org.example.expert.domain.common.query.SparseFieldset;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public interface CommentQueryRepository {
+
+    // CommentResponse 와 같은 필드 이름, user.email 만 users 조인이 필요함
+    Map<String, String> FIELDS = fields();
+
+    List<Map<String, Object>> findAllProjectedByTodoId(SparseFieldset fieldset, long todoId);
+
+    private static Map<String, String> fields() {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("id", "c.id");
+        fields.put("contents", "c.contents");
+        fields.put("user.id", "c.user.id");
+        fields.put("user.email", "u.email");
+        return Collections.unmodifiableMap(fields);
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.expert.domain.comment.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.query.SparseFieldset;
+
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class CommentQueryRepositoryImpl implements CommentQueryRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findAllProjectedByTodoId(SparseFieldset fieldset, long todoId) {
+        String jpql = "SELECT " + fieldset.selectClause() + " FROM Comment c" +
+                (fieldset.uses("u") ? " JOIN c.user u" : "") +
+                " WHERE c.todo.id = :todoId ORDER BY c.id";
+
+        return entityManager.createQuery(jpql, Tuple.class)
+                .setParameter("todoId", todoId)
+                .getResultList()
+                .stream()
+                .map(fieldset::toMap)
+                .toList();
+    }
+}
@@ -2,13 +2,46 @@ package org.example.expert.domain.comment.repository;
 
 import org.example.expert.domain.comment.entity.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface CommentRepository extends JpaRepository<Comment, Long> {
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentQueryRepository {
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.id = :commentId")
+    Optional<Comment> findByIdWithUser(@Param("commentId") Long commentId);
 
     @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
     List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId AND c.id > :lastCommentId ORDER BY c.id")
+    List<Comment> findByTodoIdAndIdGreaterThanWithUser(@Param("todoId") Long todoId, @Param("lastCommentId") Long lastCommentId);
+
+    // 벌크 삭제 전에 일정별로 지워질 댓글 수를 [todoId, count] 로 조회
+    @Query("SELECT c.todo.id, COUNT(c) FROM Comment c WHERE c.id IN :commentIds GROUP BY c.todo.id")
+    List<Object[]> countByTodoIdForIds(@Param("commentIds") Collection<Long> commentIds);
+
+    @Query("SELECT c.todo.id, COUNT(c) FROM Comment c WHERE c.user.id = :userId GROUP BY c.todo.id")
+    List<Object[]> countByTodoIdForUser(@Param("userId") Long userId);
+
+    // 엔티티를 조회하지 않고 한 번의 DELETE 문으로 삭제
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Comment c WHERE c.id = :commentId")
+    int deleteByIdInBulk(@Param("commentId") Long commentId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Comment c WHERE c.id IN :commentIds")
+    int deleteAllByIdInBulk(@Param("commentIds") Collection<Long> commentIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Comment c WHERE c.todo.id = :todoId")
+    int deleteAllByTodoIdInBulk(@Param("todoId") Long todoId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Comment c WHERE c.user.id = :userId")
+    int deleteAllByUserIdInBulk(@Param("userId") Long userId);
 }
@@ -1,18 +1,63 @@
 package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.response.CommentPurgeResponse;
+import org.example.expert.domain.comment.event.CommentsPurgedEvent;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 public class CommentAdminService {
 
     private final CommentRepository commentRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void deleteComment(long commentId) {
-        commentRepository.deleteById(commentId);
+        Map<Long, Long> deletedCounts = toCountMap(commentRepository.countByTodoIdForIds(List.of(commentId)));
+        commentRepository.deleteByIdInBulk(commentId);
+        eventPublisher.publishEvent(new CommentsPurgedEvent(null, deletedCounts));
+    }
+
+    @Transactional
+    public CommentPurgeResponse purgeComments(List<Long> commentIds) {
+        if (commentIds == null || commentIds.isEmpty()) {
+            throw new InvalidRequestException("삭제할 댓글 id가 없습니다.");
+        }
+        Map<Long, Long> deletedCounts = toCountMap(commentRepository.countByTodoIdForIds(commentIds));
+        int deletedCount = commentRepository.deleteAllByIdInBulk(commentIds);
+        eventPublisher.publishEvent(new CommentsPurgedEvent(null, deletedCounts));
+        return new CommentPurgeResponse(deletedCount);
+    }
+
+    @Transactional
+    public CommentPurgeResponse purgeCommentsByTodo(long todoId) {
+        int deletedCount = commentRepository.deleteAllByTodoIdInBulk(todoId);
+        eventPublisher.publishEvent(new CommentsPurgedEvent(todoId, Map.of(todoId, (long) deletedCount)));
+        return new CommentPurgeResponse(deletedCount);
+    }
+
+    @Transactional
+    public CommentPurgeResponse purgeCommentsByUser(long userId) {
+        Map<Long, Long> deletedCounts = toCountMap(commentRepository.countByTodoIdForUser(userId));
+        int deletedCount = commentRepository.deleteAllByUserIdInBulk(userId);
+        eventPublisher.publishEvent(new CommentsPurgedEvent(null, deletedCounts));
+        return new CommentPurgeResponse(deletedCount);
+    }
+
+    private Map<Long, Long> toCountMap(List<Object[]> rows) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put((Long) row[0], (Long) row[1]);
+        }
+        return counts;
     }
 }
@@ -2,22 +2,31 @@ package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.request.CommentUpdateRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.event.CommentChangedEvent;
+import org.example.expert.domain.comment.event.CommentSavedEvent;
+import org.example.expert.domain.comment.repository.CommentQueryRepository;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.http.VersionETag;
+import org.example.expert.domain.common.query.SparseFieldset;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ObjectUtils;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,6 +36,7 @@ public class CommentService {
 
     private final TodoRepository todoRepository;
     private final CommentRepository commentRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
@@ -47,6 +57,14 @@ public class CommentService {
 
         Comment savedComment = commentRepository.save(newComment);
 
+        // 커밋 이후 SSE 구독자에게 전달
+        eventPublisher.publishEvent(new CommentSavedEvent(todo.getId(), new CommentResponse(
+                savedComment.getId(),
+                savedComment.getContents(),
+                new UserResponse(user.getId(), user.getEmail()),
+                savedComment.getVersion()
+        )));
+
         return new CommentSaveResponse(
                 savedComment.getId(),
                 savedComment.getContents(),
@@ -54,6 +72,33 @@ public class CommentService {
         );
     }
 
+    // If-Match 의 버전이 현재 버전과 다르면 412, 동시 수정은 UPDATE ... WHERE version = ? 로 감지
+    @Transactional
+    public CommentResponse updateComment(AuthUser authUser, long todoId, long commentId, String ifMatch, CommentUpdateRequest commentUpdateRequest) {
+        Comment comment = commentRepository.findByIdWithUser(commentId)
+                .orElseThrow(() -> new InvalidRequestException("Comment not found"));
+        if (!ObjectUtils.nullSafeEquals(todoId, comment.getTodo().getId())) {
+            throw new InvalidRequestException("해당 일정의 댓글이 아닙니다.");
+        }
+        User user = comment.getUser();
+        if (!ObjectUtils.nullSafeEquals(authUser.getId(), user.getId())) {
+            throw new InvalidRequestException("댓글을 작성한 유저만 수정할 수 있습니다.");
+        }
+        VersionETag.checkIfMatch(ifMatch, comment.getVersion());
+
+        comment.update(commentUpdateRequest.getContents());
+        // 응답에 올라간 버전을 담기 위해 여기서 UPDATE 를 실행, 다른 요청에 밀렸으면 이 시점에 실패
+        commentRepository.flush();
+        eventPublisher.publishEvent(new CommentChangedEvent(todoId));
+
+        return new CommentResponse(
+                comment.getId(),
+                comment.getContents(),
+                new UserResponse(user.getId(), user.getEmail()),
+                comment.getVersion()
+        );
+    }
+
     public List<CommentResponse> getComments(long todoId) {
         List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
 
@@ -63,10 +108,16 @@ public class CommentService {
             CommentResponse dto = new CommentResponse(
                     comment.getId(),
                     comment.getContents(),
-                    new UserResponse(user.getId(), user.getEmail())
+                    new UserResponse(user.getId(), user.getEmail()),
+                    comment.getVersion()
             );
             dtoList.add(dto);
         }
         return dtoList;
     }
+
+    public List<Map<String, Object>> getComments(long todoId, String fields) {
+        SparseFieldset fieldset = SparseFieldset.parse(fields, CommentQueryRepository.FIELDS);
+        return commentRepository.findAllProjectedByTodoId(fieldset, todoId);
+    }
 }
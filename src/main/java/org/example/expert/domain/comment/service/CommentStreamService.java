@@ -0,0 +1,233 @@
+package org.example.expert.domain.comment.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.dto.response.CommentStreamStatsResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.event.CommentSavedEvent;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CommentStreamService {
+
+    private static final String EVENT_NAME = "comment";
+
+    private final CommentRepository commentRepository;
+    private final ObjectMapper objectMapper;
+
+    // todoId 별 구독자 목록
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicLong deliveredEventCount = new AtomicLong();
+    private final AtomicLong droppedEventCount = new AtomicLong();
+
+    @Value("${comment.stream.timeout-ms:1800000}")
+    private long timeoutMillis;
+
+    @Value("${comment.stream.queue-capacity:10000}")
+    private int queueCapacity;
+
+    // 커밋한 요청 스레드가 느린 구독자에게 쓰는 시간을 기다리지 않도록 전송은 별도 스레드 하나에서 함
+    // 스레드가 하나라 이벤트는 커밋 순서대로 전송되고, 큐가 가득 차면 버리고 유실 건수로 집계
+    private Executor fanOutExecutor;
+
+    @PostConstruct
+    public void start() {
+        fanOutExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "comment-stream-fan-out");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (fanOutExecutor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    // 구독을 먼저 등록하고 놓친 댓글을 조회해야 그 사이에 커밋된 댓글이 빠지지 않음
+    // 재전송이 끝날 때까지 새 댓글은 구독자에 쌓아 두었다가, 재전송한 댓글과 겹치는 것을 빼고 이어서 전송
+    @Transactional(readOnly = true)
+    public SseEmitter subscribe(long todoId, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(todoId, emitter, lastEventId != null);
+        subscribers.compute(todoId, (id, existing) -> {
+            Set<Subscriber> target = existing == null ? new CopyOnWriteArraySet<>() : existing;
+            target.add(subscriber);
+            return target;
+        });
+
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+
+        // Last-Event-ID 이후에 놓친 댓글만 다시 전송
+        if (lastEventId != null) {
+            List<Comment> missedComments = commentRepository.findByTodoIdAndIdGreaterThanWithUser(todoId, lastEventId);
+            Set<Long> replayedIds = new HashSet<>();
+            for (Comment comment : missedComments) {
+                CommentResponse dto = new CommentResponse(
+                        comment.getId(),
+                        comment.getContents(),
+                        new UserResponse(comment.getUser().getId(), comment.getUser().getEmail()),
+                        comment.getVersion()
+                );
+                replayedIds.add(comment.getId());
+                if (!send(subscriber, toFrame(dto))) {
+                    break;
+                }
+            }
+            subscriber.finishReplay(replayedIds);
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentSaved(CommentSavedEvent event) {
+        Set<Subscriber> targets = subscribers.get(event.getTodoId());
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+
+        try {
+            fanOutExecutor.execute(() -> fanOut(event));
+        } catch (RejectedExecutionException e) {
+            droppedEventCount.addAndGet(targets.size());
+            log.warn("댓글 이벤트 전송 대기열이 가득 차서 버림, todoId: {}", event.getTodoId());
+        }
+    }
+
+    public CommentStreamStatsResponse getStats() {
+        int subscriberCount = 0;
+        for (Set<Subscriber> targets : subscribers.values()) {
+            subscriberCount += targets.size();
+        }
+        return new CommentStreamStatsResponse(
+                subscribers.size(),
+                subscriberCount,
+                deliveredEventCount.get(),
+                droppedEventCount.get()
+        );
+    }
+
+    // 실행 시점의 구독자 목록을 다시 읽어, 커밋 이후에 구독한 연결에도 전송 (재전송과 겹치면 구독자가 걸러냄)
+    private void fanOut(CommentSavedEvent event) {
+        Set<Subscriber> targets = subscribers.get(event.getTodoId());
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+
+        // 직렬화는 한 번만 하고 같은 프레임을 모든 구독자에게 전송
+        Set<ResponseBodyEmitter.DataWithMediaType> frame = toFrame(event.getComment());
+        for (Subscriber subscriber : targets) {
+            subscriber.deliver(event.getComment().getId(), frame);
+        }
+    }
+
+    private boolean send(Subscriber subscriber, Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+        try {
+            subscriber.emitter.send(frame);
+            deliveredEventCount.incrementAndGet();
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 연결이 끊긴 구독자는 정리하고 유실 건수로 집계
+            droppedEventCount.incrementAndGet();
+            unsubscribe(subscriber);
+            log.debug("댓글 이벤트 전송 실패, todoId: {}", subscriber.todoId, e);
+            return false;
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.todoId, (id, targets) -> {
+            targets.remove(subscriber);
+            return targets.isEmpty() ? null : targets;
+        });
+    }
+
+    private Set<ResponseBodyEmitter.DataWithMediaType> toFrame(CommentResponse comment) {
+        try {
+            return SseEmitter.event()
+                    .id(String.valueOf(comment.getId()))
+                    .name(EVENT_NAME)
+                    .data(objectMapper.writeValueAsString(comment), MediaType.APPLICATION_JSON)
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new ServerException("댓글 이벤트를 직렬화하지 못했습니다.");
+        }
+    }
+
+    // 연결 하나, 재전송 중에 도착한 이벤트를 순서대로 쌓아 둠
+    private final class Subscriber {
+
+        private final long todoId;
+        private final SseEmitter emitter;
+        // 재전송이 끝나면 null
+        private List<PendingFrame> pending;
+        // 재전송한 댓글 id, 커밋 직후에 구독하면 같은 댓글이 재전송과 실시간 전송 양쪽으로 올 수 있음
+        private Set<Long> replayedIds = Set.of();
+
+        private Subscriber(long todoId, SseEmitter emitter, boolean replaying) {
+            this.todoId = todoId;
+            this.emitter = emitter;
+            this.pending = replaying ? new ArrayList<>() : null;
+        }
+
+        private synchronized void deliver(long commentId, Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+            if (pending != null) {
+                pending.add(new PendingFrame(commentId, frame));
+            } else if (!replayedIds.contains(commentId)) {
+                send(this, frame);
+            }
+        }
+
+        private synchronized void finishReplay(Set<Long> replayedIds) {
+            this.replayedIds = replayedIds;
+            List<PendingFrame> buffered = pending;
+            pending = null;
+            for (PendingFrame frame : buffered) {
+                if (!replayedIds.contains(frame.commentId()) && !send(this, frame.frame())) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private record PendingFrame(long commentId, Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.expert.domain.common.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.dto.response.SecondLevelCacheStatsResponse;
+import org.example.expert.domain.common.service.CacheAdminService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class CacheAdminController {
+
+    private final CacheAdminService cacheAdminService;
+
+    @GetMapping("/admin/caches/second-level")
+    public ResponseEntity<SecondLevelCacheStatsResponse> getSecondLevelCacheStats() {
+        return ResponseEntity.ok(cacheAdminService.getSecondLevelCacheStats());
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.expert.domain.common.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.dto.response.JfrRecordingResponse;
+import org.example.expert.domain.common.service.JfrRecordingService;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+@RestController
+@RequiredArgsConstructor
+public class JfrController {
+
+    private static final DateTimeFormatter FILE_NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final JfrRecordingService jfrRecordingService;
+
+    @PostMapping("/admin/jfr/recordings")
+    public ResponseEntity<JfrRecordingResponse> startRecording(@RequestParam(defaultValue = "60") long durationSeconds) {
+        return ResponseEntity.ok(jfrRecordingService.startRecording(Duration.ofSeconds(durationSeconds)));
+    }
+
+    // 파일이 수백 MB 일 수 있어 메모리에 올리지 않고 스트리밍한 뒤 임시 파일을 지움
+    @GetMapping("/admin/jfr/dump")
+    public ResponseEntity<StreamingResponseBody> dump(@RequestParam(required = false) Long maxAgeMinutes) {
+        Path file = jfrRecordingService.dump(maxAgeMinutes == null ? null : Duration.ofMinutes(maxAgeMinutes));
+        String fileName = "expert-" + LocalDateTime.now().format(FILE_NAME_FORMAT) + ".jfr";
+
+        StreamingResponseBody body = outputStream -> {
+            try {
+                Files.copy(file, outputStream);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.expert.domain.common.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.dto.response.RequestMetricsResponse;
+import org.example.expert.domain.common.metrics.RequestMetrics;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class RequestMetricsController {
+
+    private final RequestMetrics requestMetrics;
+
+    @GetMapping("/admin/metrics/requests")
+    public ResponseEntity<RequestMetricsResponse> getRequestMetrics() {
+        return ResponseEntity.ok(requestMetrics.getMetrics());
+    }
+
+    @DeleteMapping("/admin/metrics/requests")
+    public ResponseEntity<Void> resetRequestMetrics() {
+        requestMetrics.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
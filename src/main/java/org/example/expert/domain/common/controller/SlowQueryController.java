@@ -0,0 +1,29 @@
+package org.example.expert.domain.common.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.dto.response.SlowQueryResponse;
+import org.example.expert.domain.common.jdbc.SlowQueryLog;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class SlowQueryController {
+
+    private final SlowQueryLog slowQueryLog;
+
+    @GetMapping("/admin/slow-queries")
+    public ResponseEntity<List<SlowQueryResponse>> getSlowQueries() {
+        return ResponseEntity.ok(slowQueryLog.getTopQueries());
+    }
+
+    @DeleteMapping("/admin/slow-queries")
+    public ResponseEntity<Void> resetSlowQueries() {
+        slowQueryLog.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.expert.domain.common.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class CacheRegionStatsResponse {
+
+    private final String region;
+    private final long hitCount;
+    private final long missCount;
+    private final long putCount;
+    private final long elementCount;
+
+    public CacheRegionStatsResponse(String region, long hitCount, long missCount, long putCount, long elementCount) {
+        this.region = region;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.putCount = putCount;
+        this.elementCount = elementCount;
+    }
+}
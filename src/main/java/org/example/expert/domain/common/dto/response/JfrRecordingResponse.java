@@ -0,0 +1,21 @@
+package org.example.expert.domain.common.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class JfrRecordingResponse {
+
+    private final long id;
+    private final String name;
+    private final LocalDateTime startedAt;
+    private final long durationSeconds;
+
+    public JfrRecordingResponse(long id, String name, LocalDateTime startedAt, long durationSeconds) {
+        this.id = id;
+        this.name = name;
+        this.startedAt = startedAt;
+        this.durationSeconds = durationSeconds;
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.expert.domain.common.dto.response;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import lombok.Getter;
+import org.example.expert.domain.common.json.PageResponseSerializer;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+// PageImpl 대신 반환하는 페이지 응답, 목록과 페이지 정보만 직렬화함
+// number 는 요청 파라미터 page 와 같은 1부터 시작하는 번호
+@Getter
+@JsonSerialize(using = PageResponseSerializer.class)
+public class PageResponse<T> {
+
+    private final List<T> content;
+    private final int number;
+    private final int size;
+    private final long totalElements;
+    private final int totalPages;
+
+    public PageResponse(List<T> content, int number, int size, long totalElements, int totalPages) {
+        this.content = content;
+        this.number = number;
+        this.size = size;
+        this.totalElements = totalElements;
+        this.totalPages = totalPages;
+    }
+
+    public static <T> PageResponse<T> from(Page<T> page) {
+        return new PageResponse<>(
+                page.getContent(),
+                page.getNumber() + 1,
+                page.getSize(),
+                page.getTotalElements(),
+                page.getTotalPages()
+        );
+    }
+}
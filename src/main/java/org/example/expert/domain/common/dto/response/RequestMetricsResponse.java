@@ -0,0 +1,27 @@
+package org.example.expert.domain.common.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+public class RequestMetricsResponse {
+
+    // 마지막 초기화 이후 경과 시간, 처리량은 이 구간 기준
+    private final long windowSeconds;
+    private final long totalCount;
+    private final double requestsPerSecond;
+    private final List<RouteMetricsResponse> routes;
+    // 예외 클래스 이름 -> 횟수
+    private final Map<String, Long> errors;
+
+    public RequestMetricsResponse(long windowSeconds, long totalCount, double requestsPerSecond,
+                                  List<RouteMetricsResponse> routes, Map<String, Long> errors) {
+        this.windowSeconds = windowSeconds;
+        this.totalCount = totalCount;
+        this.requestsPerSecond = requestsPerSecond;
+        this.routes = routes;
+        this.errors = errors;
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.expert.domain.common.dto.response;
+
+import lombok.Getter;
+
+// 시간 값은 모두 마이크로초
+@Getter
+public class RouteMetricsResponse {
+
+    private final String method;
+    private final String route;
+    private final long count;
+    private final long errorCount;
+    private final double requestsPerSecond;
+    private final double meanMicros;
+    private final long p50Micros;
+    private final long p90Micros;
+    private final long p99Micros;
+    private final long p999Micros;
+    private final long maxMicros;
+
+    public RouteMetricsResponse(String method, String route, long count, long errorCount, double requestsPerSecond,
+                                double meanMicros, long p50Micros, long p90Micros, long p99Micros, long p999Micros,
+                                long maxMicros) {
+        this.method = method;
+        this.route = route;
+        this.count = count;
+        this.errorCount = errorCount;
+        this.requestsPerSecond = requestsPerSecond;
+        this.meanMicros = meanMicros;
+        this.p50Micros = p50Micros;
+        this.p90Micros = p90Micros;
+        this.p99Micros = p99Micros;
+        this.p999Micros = p999Micros;
+        this.maxMicros = maxMicros;
+    }
+}
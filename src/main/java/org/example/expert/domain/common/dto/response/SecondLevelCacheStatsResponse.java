@@ -0,0 +1,26 @@
+package org.example.expert.domain.common.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class SecondLevelCacheStatsResponse {
+
+    private final boolean statisticsEnabled;
+    private final long hitCount;
+    private final long missCount;
+    private final long putCount;
+    private final long prepareStatementCount;
+    private final List<CacheRegionStatsResponse> regions;
+
+    public SecondLevelCacheStatsResponse(boolean statisticsEnabled, long hitCount, long missCount, long putCount,
+                                         long prepareStatementCount, List<CacheRegionStatsResponse> regions) {
+        this.statisticsEnabled = statisticsEnabled;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.putCount = putCount;
+        this.prepareStatementCount = prepareStatementCount;
+        this.regions = regions;
+    }
+}
@@ -0,0 +1,34 @@
+package org.example.expert.domain.common.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 시간 값은 밀리초, rows 와 caller, bindValues, capturedAt 은 가장 느렸던 실행 기준
+@Getter
+public class SlowQueryResponse {
+
+    private final String sql;
+    private final long count;
+    private final double maxMillis;
+    private final double meanMillis;
+    private final long rows;
+    private final String caller;
+    private final List<String> bindValues;
+    private final String plan;
+    private final LocalDateTime capturedAt;
+
+    public SlowQueryResponse(String sql, long count, double maxMillis, double meanMillis, long rows, String caller,
+                             List<String> bindValues, String plan, LocalDateTime capturedAt) {
+        this.sql = sql;
+        this.count = count;
+        this.maxMillis = maxMillis;
+        this.meanMillis = meanMillis;
+        this.rows = rows;
+        this.caller = caller;
+        this.bindValues = bindValues;
+        this.plan = plan;
+        this.capturedAt = capturedAt;
+    }
+}
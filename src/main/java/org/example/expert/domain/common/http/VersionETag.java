@@ -0,0 +1,33 @@
+package org.example.expert.domain.common.http;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.PreconditionFailedException;
+import org.springframework.util.StringUtils;
+
+// 엔티티의 @Version 값을 강한 ETag("3") 로 주고받음, PATCH 의 If-Match 비교에 사용
+// If-Match 는 강한 비교만 허용하므로 W/ 로 시작하는 태그는 일치하지 않는 것으로 처리
+public final class VersionETag {
+
+    private VersionETag() {
+    }
+
+    public static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    // 일치하지 않으면 412, 헤더가 없으면 400
+    public static void checkIfMatch(String ifMatch, Long currentVersion) {
+        if (!StringUtils.hasText(ifMatch)) {
+            throw new InvalidRequestException("If-Match 헤더가 필요합니다.");
+        }
+
+        String current = of(currentVersion);
+        for (String tag : ifMatch.split(",")) {
+            String trimmed = tag.trim();
+            if (trimmed.equals("*") || trimmed.equals(current)) {
+                return;
+            }
+        }
+        throw new PreconditionFailedException("다른 요청이 먼저 수정했습니다. 최신 버전: " + current);
+    }
+}
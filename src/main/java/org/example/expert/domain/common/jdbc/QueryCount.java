@@ -0,0 +1,39 @@
+package org.example.expert.domain.common.jdbc;
+
+// 한 스레드 안에서만 쓰는 구간별 SQL 실행 횟수 (요청, 트랜잭션, 테스트 블록)
+public class QueryCount {
+
+    private final int[] counts = new int[QueryType.values().length];
+
+    void increment(QueryType type) {
+        counts[type.ordinal()]++;
+    }
+
+    void add(QueryCount other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+    }
+
+    public int get(QueryType type) {
+        return counts[type.ordinal()];
+    }
+
+    public int getTotal() {
+        int total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        return "total=" + getTotal()
+                + " select=" + get(QueryType.SELECT)
+                + " insert=" + get(QueryType.INSERT)
+                + " update=" + get(QueryType.UPDATE)
+                + " delete=" + get(QueryType.DELETE)
+                + " other=" + get(QueryType.OTHER);
+    }
+}
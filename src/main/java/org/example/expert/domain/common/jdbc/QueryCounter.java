@@ -0,0 +1,111 @@
+package org.example.expert.domain.common.jdbc;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+// QueryCountingDataSource 가 실행한 SQL 을 현재 스레드의 요청 구간과 트랜잭션에 나눠 셈
+// 트랜잭션별 횟수는 트랜잭션 리소스로 묶어두고 완료 시점에 요청 구간으로 옮김
+// REQUIRES_NEW 로 중첩된 트랜잭션의 쿼리는 바깥 트랜잭션 횟수에 합쳐짐
+public final class QueryCounter {
+
+    private static final ThreadLocal<RequestScope> CURRENT = new ThreadLocal<>();
+    private static final Object TRANSACTION_KEY = QueryCounter.class.getName() + ".TRANSACTION";
+
+    private QueryCounter() {
+    }
+
+    public static RequestScope begin() {
+        RequestScope scope = new RequestScope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    // begin() 으로 연 구간을 닫고, 바깥 구간이 있으면 그 구간에도 횟수를 더함
+    public static RequestScope end(RequestScope scope) {
+        if (scope.parent == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(scope.parent);
+            scope.parent.merge(scope);
+        }
+        return scope;
+    }
+
+    // 블록 안에서 실행된 SQL 횟수, 테스트에서 서비스 메서드의 쿼리 예산을 확인할 때 사용
+    public static <T> Counted<T> count(Supplier<T> action) {
+        RequestScope scope = begin();
+        try {
+            T result = action.get();
+            return new Counted<>(result, scope.getCount());
+        } finally {
+            end(scope);
+        }
+    }
+
+    static void record(String sql) {
+        QueryType type = QueryType.of(sql);
+        RequestScope scope = CURRENT.get();
+        if (scope != null) {
+            scope.count.increment(type);
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            transactionCount().increment(type);
+        }
+    }
+
+    private static QueryCount transactionCount() {
+        QueryCount count = (QueryCount) TransactionSynchronizationManager.getResource(TRANSACTION_KEY);
+        if (count != null) {
+            return count;
+        }
+        QueryCount newCount = new QueryCount();
+        String transactionName = TransactionSynchronizationManager.getCurrentTransactionName();
+        TransactionSynchronizationManager.bindResource(TRANSACTION_KEY, newCount);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TRANSACTION_KEY);
+                RequestScope scope = CURRENT.get();
+                if (scope != null) {
+                    scope.transactions.add(new TransactionQueryCount(transactionName, newCount));
+                }
+            }
+        });
+        return newCount;
+    }
+
+    public static class RequestScope {
+
+        private final RequestScope parent;
+        private final QueryCount count = new QueryCount();
+        private final List<TransactionQueryCount> transactions = new ArrayList<>();
+
+        private RequestScope(RequestScope parent) {
+            this.parent = parent;
+        }
+
+        public QueryCount getCount() {
+            return count;
+        }
+
+        // 구간 안에서 완료된 트랜잭션별 횟수 (트랜잭션 이름은 보통 "클래스.메서드")
+        public List<TransactionQueryCount> getTransactions() {
+            return transactions;
+        }
+
+        private void merge(RequestScope child) {
+            count.add(child.count);
+            transactions.addAll(child.transactions);
+        }
+    }
+
+    public record TransactionQueryCount(String name, QueryCount count) {
+    }
+
+    public record Counted<T>(T result, QueryCount count) {
+    }
+}
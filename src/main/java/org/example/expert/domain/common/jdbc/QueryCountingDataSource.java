@@ -0,0 +1,179 @@
+package org.example.expert.domain.common.jdbc;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.TreeMap;
+
+// DataSource -> Connection -> Statement 를 JDK 프록시로 감싸 실행되는 SQL 을 QueryCounter 에 기록
+// JDBC 배치는 addBatch 한 건마다 한 문장으로 셈 (executeBatch 는 세지 않음)
+// SlowQueryLog 가 있으면 실행 시간도 재서 임계값을 넘은 문장을 바인드 값, 행 수, 호출한 리포지토리와 함께 넘김
+public final class QueryCountingDataSource {
+
+    private QueryCountingDataSource() {
+    }
+
+    public static DataSource wrap(DataSource dataSource) {
+        return wrap(dataSource, null);
+    }
+
+    public static DataSource wrap(DataSource dataSource, SlowQueryLog slowQueryLog) {
+        if (Proxy.isProxyClass(dataSource.getClass())
+                && Proxy.getInvocationHandler(dataSource) instanceof DataSourceHandler) {
+            return dataSource;
+        }
+        return proxy(DataSource.class, new DataSourceHandler(dataSource, slowQueryLog));
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(QueryCountingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private record DataSourceHandler(DataSource target, SlowQueryLog slowQueryLog) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = QueryCountingDataSource.invoke(target, method, args);
+            if (result instanceof Connection connection) {
+                return proxy(Connection.class, new ConnectionHandler(connection, slowQueryLog));
+            }
+            return result;
+        }
+    }
+
+    private record ConnectionHandler(Connection target, SlowQueryLog slowQueryLog) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = QueryCountingDataSource.invoke(target, method, args);
+            if (result instanceof CallableStatement statement) {
+                return proxy(CallableStatement.class, new StatementHandler(statement, (String) args[0], slowQueryLog));
+            }
+            if (result instanceof PreparedStatement statement) {
+                return proxy(PreparedStatement.class, new StatementHandler(statement, (String) args[0], slowQueryLog));
+            }
+            if (result instanceof Statement statement) {
+                return proxy(Statement.class, new StatementHandler(statement, null, slowQueryLog));
+            }
+            return result;
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String preparedSql;
+        private final SlowQueryLog slowQueryLog;
+        // 파라미터 번호 -> 값, 느린 문장을 기록할 때와 EXPLAIN 에만 씀 (배치는 마지막 행의 값)
+        private final Map<Integer, Object> bindValues;
+        // SELECT 는 결과를 다 읽은 뒤에야 행 수를 알 수 있어서 ResultSet 이 닫힐 때까지 보류
+        private SlowQueryLog.Capture pending;
+
+        private StatementHandler(Statement target, String preparedSql, SlowQueryLog slowQueryLog) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+            this.slowQueryLog = slowQueryLog;
+            this.bindValues = slowQueryLog == null ? null : new TreeMap<>();
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            // 인자가 있으면 Statement 에 직접 넘긴 SQL, 없으면 prepare 시점의 SQL
+            String sql = args != null && args.length > 0 && args[0] instanceof String argument ? argument : preparedSql;
+            boolean execute = name.startsWith("execute");
+            if (name.equals("addBatch") || (execute && !name.endsWith("Batch"))) {
+                QueryCounter.record(sql);
+            }
+            if (slowQueryLog == null) {
+                return QueryCountingDataSource.invoke(target, method, args);
+            }
+
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                bindValues.put(index, name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                bindValues.clear();
+            } else if (name.equals("close")) {
+                flushPending();
+            }
+            if (!execute) {
+                return QueryCountingDataSource.invoke(target, method, args);
+            }
+
+            flushPending();
+            long startNanos = System.nanoTime();
+            Object result = QueryCountingDataSource.invoke(target, method, args);
+            long elapsedNanos = System.nanoTime() - startNanos;
+            if (!slowQueryLog.isSlow(elapsedNanos)) {
+                return result;
+            }
+
+            SlowQueryLog.Capture capture = slowQueryLog.capture(sql, bindValues, elapsedNanos);
+            if (result instanceof ResultSet resultSet) {
+                pending = capture;
+                return proxy(ResultSet.class, new ResultSetHandler(resultSet, this));
+            }
+            slowQueryLog.record(capture, rowsOf(result), target.getConnection());
+            return result;
+        }
+
+        private void flushPending() throws Exception {
+            if (pending != null) {
+                SlowQueryLog.Capture capture = pending;
+                pending = null;
+                slowQueryLog.record(capture, capture.getRowsRead(), target.getConnection());
+            }
+        }
+
+        private static long rowsOf(Object result) {
+            if (result instanceof Number count) {
+                return count.longValue();
+            }
+            if (result instanceof int[] counts) {
+                long rows = 0;
+                for (int count : counts) {
+                    rows += Math.max(count, 0);
+                }
+                return rows;
+            }
+            if (result instanceof long[] counts) {
+                long rows = 0;
+                for (long count : counts) {
+                    rows += Math.max(count, 0);
+                }
+                return rows;
+            }
+            return -1;
+        }
+    }
+
+    private record ResultSetHandler(ResultSet target, StatementHandler statement) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = QueryCountingDataSource.invoke(target, method, args);
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result) && statement.pending != null) {
+                statement.pending.rowRead();
+            } else if (method.getName().equals("close")) {
+                statement.flushPending();
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.expert.domain.common.jdbc;
+
+import java.util.Locale;
+
+public enum QueryType {
+    SELECT,
+    INSERT,
+    UPDATE,
+    DELETE,
+    // 시퀀스 채번, DDL 등, 시퀀스는 allocationSize 단위로만 나가서 실행 순서에 따라 횟수가 달라지므로 SELECT 와 분리
+    OTHER;
+
+    public static QueryType of(String sql) {
+        if (sql == null) {
+            return OTHER;
+        }
+        String statement = stripLeadingComment(sql).toLowerCase(Locale.ROOT);
+        if (statement.contains("next value for") || statement.contains("nextval(")) {
+            return OTHER;
+        }
+        if (statement.startsWith("select") || statement.startsWith("with")) {
+            return SELECT;
+        }
+        if (statement.startsWith("insert")) {
+            return INSERT;
+        }
+        if (statement.startsWith("update")) {
+            return UPDATE;
+        }
+        if (statement.startsWith("delete")) {
+            return DELETE;
+        }
+        return OTHER;
+    }
+
+    // hibernate.use_sql_comments 가 켜져 있으면 /* ... */ 주석이 앞에 붙음
+    private static String stripLeadingComment(String sql) {
+        String statement = sql.strip();
+        while (statement.startsWith("/*")) {
+            int end = statement.indexOf("*/");
+            if (end < 0) {
+                return statement;
+            }
+            statement = statement.substring(end + 2).strip();
+        }
+        return statement;
+    }
+}
@@ -0,0 +1,277 @@
+package org.example.expert.domain.common.jdbc;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.dto.response.SlowQueryResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+// 임계값을 넘은 SQL 을 정규화한 문장 단위로 모아두는 상위 N개 저장소, /admin/slow-queries 로 조회
+// 문장마다 가장 느렸던 실행 한 건(바인드 값, 행 수, 호출 위치)과 처음 잡혔을 때의 실행 계획을 남김
+// 느린 문장에서만 들어오는 경로라 단순하게 synchronized 로 보호
+@Slf4j
+@Component
+public class SlowQueryLog {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final int MAX_BIND_LENGTH = 100;
+
+    @Getter
+    private final boolean enabled;
+    private final long thresholdNanos;
+    private final int maxEntries;
+    private final boolean redactBinds;
+    private final boolean explainEnabled;
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    public SlowQueryLog(
+            @Value("${slow-query.enabled:true}") boolean enabled,
+            @Value("${slow-query.threshold:200ms}") Duration threshold,
+            @Value("${slow-query.max-entries:100}") int maxEntries,
+            @Value("${slow-query.redact-binds:true}") boolean redactBinds,
+            @Value("${slow-query.explain:true}") boolean explainEnabled
+    ) {
+        this.enabled = enabled;
+        this.thresholdNanos = threshold.toNanos();
+        this.maxEntries = maxEntries;
+        this.redactBinds = redactBinds;
+        this.explainEnabled = explainEnabled;
+    }
+
+    public boolean isSlow(long elapsedNanos) {
+        return elapsedNanos >= thresholdNanos;
+    }
+
+    // 실행 직후 요청 스레드에서 호출, 호출 위치는 이 시점의 스택에서만 찾을 수 있음
+    public Capture capture(String sql, Map<Integer, Object> bindValues, long elapsedNanos) {
+        return new Capture(sql, new ArrayList<>(bindValues.values()), elapsedNanos, findCaller());
+    }
+
+    public void record(Capture capture, long rows, Connection connection) {
+        String normalizedSql = normalize(capture.sql);
+        List<String> bindValues = describe(capture.bindValues);
+        log.warn("느린 쿼리 {}ms rows={} caller={} sql={} binds={}",
+                capture.elapsedNanos / 1_000_000, rows, capture.caller, normalizedSql, bindValues);
+
+        boolean needsPlan;
+        synchronized (this) {
+            Entry entry = entries.get(normalizedSql);
+            needsPlan = explainEnabled && (entry == null || entry.plan == null);
+        }
+        // EXPLAIN 은 락 밖에서, 같은 커넥션으로 실행해 같은 트랜잭션이 보는 데이터 기준의 계획을 얻음
+        String plan = needsPlan ? explain(connection, capture.sql, capture.bindValues) : null;
+
+        synchronized (this) {
+            Entry entry = entries.computeIfAbsent(normalizedSql, Entry::new);
+            entry.count++;
+            entry.totalNanos += capture.elapsedNanos;
+            if (capture.elapsedNanos >= entry.maxNanos) {
+                entry.maxNanos = capture.elapsedNanos;
+                entry.rows = rows;
+                entry.caller = capture.caller;
+                entry.bindValues = bindValues;
+                entry.capturedAt = LocalDateTime.now();
+            }
+            if (plan != null && entry.plan == null) {
+                entry.plan = plan;
+            }
+            if (entries.size() > maxEntries) {
+                entries.values().stream()
+                        .min(Comparator.comparingLong(candidate -> candidate.maxNanos))
+                        .ifPresent(fastest -> entries.remove(fastest.sql));
+            }
+        }
+    }
+
+    public synchronized List<SlowQueryResponse> getTopQueries() {
+        List<SlowQueryResponse> responses = new ArrayList<>();
+        entries.values().stream()
+                .sorted(Comparator.comparingLong((Entry entry) -> entry.maxNanos).reversed())
+                .forEach(entry -> responses.add(new SlowQueryResponse(
+                        entry.sql,
+                        entry.count,
+                        entry.maxNanos / 1_000_000.0,
+                        entry.totalNanos / 1_000_000.0 / entry.count,
+                        entry.rows,
+                        entry.caller,
+                        entry.bindValues,
+                        entry.plan,
+                        entry.capturedAt
+                )));
+        return responses;
+    }
+
+    public synchronized void reset() {
+        entries.clear();
+    }
+
+    // 공백을 하나로 줄이고 리터럴과 IN 목록 길이를 지워서 같은 모양의 문장을 한 항목으로 모음
+    static String normalize(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        String normalized = WHITESPACE.matcher(sql.strip()).replaceAll(" ");
+        normalized = STRING_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        return IN_LIST.matcher(normalized).replaceAll("(?, ...)");
+    }
+
+    private List<String> describe(List<Object> bindValues) {
+        List<String> described = new ArrayList<>(bindValues.size());
+        for (Object value : bindValues) {
+            if (value == null) {
+                described.add("null");
+            } else if (redactBinds) {
+                described.add("<" + value.getClass().getSimpleName() + ">");
+            } else {
+                String text = String.valueOf(value);
+                described.add(text.length() > MAX_BIND_LENGTH ? text.substring(0, MAX_BIND_LENGTH) + "..." : text);
+            }
+        }
+        return described;
+    }
+
+    // H2 와 MySQL 모두 EXPLAIN <문장> 으로 실행하지 않고 계획만 돌려줌, 그 외 DB 는 건너뜀
+    private String explain(Connection connection, String sql, List<Object> bindValues) {
+        if (QueryType.of(sql) == QueryType.OTHER) {
+            return null;
+        }
+        try {
+            String product = connection.getMetaData().getDatabaseProductName();
+            if (!"H2".equalsIgnoreCase(product) && !"MySQL".equalsIgnoreCase(product)) {
+                return null;
+            }
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (int i = 0; i < bindValues.size(); i++) {
+                    statement.setObject(i + 1, bindValues.get(i));
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    return formatPlan(resultSet);
+                }
+            }
+        } catch (SQLException e) {
+            log.debug("EXPLAIN 실패 sql={}", sql, e);
+            return "EXPLAIN 실패: " + e.getMessage();
+        }
+    }
+
+    // H2 는 계획 텍스트 한 칸, MySQL 은 테이블 접근마다 한 행이라 "컬럼=값" 으로 펼침
+    private static String formatPlan(ResultSet resultSet) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        StringBuilder plan = new StringBuilder();
+        while (resultSet.next()) {
+            if (!plan.isEmpty()) {
+                plan.append('\n');
+            }
+            if (metaData.getColumnCount() == 1) {
+                plan.append(resultSet.getString(1));
+                continue;
+            }
+            for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                if (i > 1) {
+                    plan.append(", ");
+                }
+                plan.append(metaData.getColumnLabel(i)).append('=').append(resultSet.getString(i));
+            }
+        }
+        return plan.toString();
+    }
+
+    // 스택을 따라 올라가며 처음 만나는 리포지토리 메서드, Spring Data 리포지토리는 JDK 프록시 프레임의 인터페이스 이름으로 찾음
+    // 리포지토리를 거치지 않은 SQL(flush 등)은 처음 만나는 애플리케이션 코드
+    private static String findCaller() {
+        return StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE).walk(frames -> {
+            String firstApplicationFrame = null;
+            for (StackWalker.StackFrame frame : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+                Class<?> type = frame.getDeclaringClass();
+                if (Proxy.isProxyClass(type)) {
+                    for (Class<?> repository : type.getInterfaces()) {
+                        if (isApplicationClass(repository) && repository.getSimpleName().endsWith("Repository")) {
+                            return repository.getSimpleName() + "." + frame.getMethodName();
+                        }
+                    }
+                    continue;
+                }
+                if (!isApplicationClass(type) || isInstrumentationClass(type)) {
+                    continue;
+                }
+                if (type.getSimpleName().contains("Repository")) {
+                    return type.getSimpleName() + "." + frame.getMethodName();
+                }
+                if (firstApplicationFrame == null) {
+                    firstApplicationFrame = type.getSimpleName() + "." + frame.getMethodName() + ":" + frame.getLineNumber();
+                }
+            }
+            return firstApplicationFrame == null ? "unknown" : firstApplicationFrame;
+        });
+    }
+
+    private static boolean isApplicationClass(Class<?> type) {
+        return type.getName().startsWith("org.example.expert.");
+    }
+
+    // 중첩 클래스(핸들러, Capture)까지 포함하되 이름이 같은 접두사로 시작하는 다른 클래스는 제외
+    private static boolean isInstrumentationClass(Class<?> type) {
+        Class<?> outermost = type;
+        while (outermost.getEnclosingClass() != null) {
+            outermost = outermost.getEnclosingClass();
+        }
+        return outermost == QueryCountingDataSource.class || outermost == SlowQueryLog.class;
+    }
+
+    public static class Capture {
+
+        private final String sql;
+        private final List<Object> bindValues;
+        private final long elapsedNanos;
+        private final String caller;
+        @Getter
+        private long rowsRead;
+
+        private Capture(String sql, List<Object> bindValues, long elapsedNanos, String caller) {
+            this.sql = sql;
+            this.bindValues = bindValues;
+            this.elapsedNanos = elapsedNanos;
+            this.caller = caller;
+        }
+
+        void rowRead() {
+            rowsRead++;
+        }
+    }
+
+    private static class Entry {
+
+        private final String sql;
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+        private long rows;
+        private String caller;
+        private List<String> bindValues;
+        private String plan;
+        private LocalDateTime capturedAt;
+
+        private Entry(String sql) {
+            this.sql = sql;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.expert.domain.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import lombok.Setter;
+
+@Name(JwtVerificationEvent.NAME)
+@Label("JWT Verification")
+@Category({"Expert", "Web"})
+@Description("JwtFilter 의 토큰 서명 검증과 claims 추출")
+@StackTrace(false)
+@Threshold("1 ms")
+@Setter
+public class JwtVerificationEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "org.example.expert.JwtVerification";
+
+    @Label("Subject")
+    @Description("토큰의 sub (사용자 id)")
+    private String subject;
+
+    @Label("User Role")
+    private String userRole;
+
+    @Label("Failure")
+    private String failure;
+}
@@ -0,0 +1,41 @@
+package org.example.expert.domain.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import lombok.Setter;
+
+// 서비스 메서드 한 번의 실행, 지속 기록에서 양을 줄이려고 기본 임계값 1ms (.jfc 설정으로 변경 가능)
+@Name(ServiceOperationEvent.NAME)
+@Label("Service Operation")
+@Category({"Expert", "Service"})
+@Description("TodoService, CommentService, ManagerService, AuthService 메서드 실행")
+@StackTrace(false)
+@Threshold("1 ms")
+@Setter
+public class ServiceOperationEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "org.example.expert.ServiceOperation";
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("User Id")
+    @Description("요청한 사용자, 인증 전 호출이면 0")
+    private long userId;
+
+    @Label("Entity Id")
+    @Description("todoId, commentId, managerId 처럼 이름이 Id 로 끝나는 첫 번째 인자, 없으면 0")
+    private long entityId;
+
+    @Label("Row Count")
+    @Description("목록을 반환하면 원소 수, 그 외에는 -1")
+    private long rowCount;
+
+    @Label("Failure")
+    @Description("예외로 끝났으면 예외 클래스 이름")
+    private String failure;
+}
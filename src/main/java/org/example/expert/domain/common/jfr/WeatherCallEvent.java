@@ -0,0 +1,32 @@
+package org.example.expert.domain.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import lombok.Setter;
+
+// 외부 호출이라 빈도가 낮아 임계값 없이 모두 기록
+@Name(WeatherCallEvent.NAME)
+@Label("Weather API Call")
+@Category({"Expert", "Client"})
+@StackTrace(false)
+@Threshold("0 ms")
+@Setter
+public class WeatherCallEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "org.example.expert.WeatherCall";
+
+    @Label("Status Code")
+    private int statusCode;
+
+    @Label("Row Count")
+    private int rowCount;
+
+    @Label("Weather")
+    private String weather;
+
+    @Label("Failure")
+    private String failure;
+}
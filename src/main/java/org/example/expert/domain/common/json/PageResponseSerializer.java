@@ -0,0 +1,53 @@
+package org.example.expert.domain.common.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.example.expert.domain.common.dto.response.PageResponse;
+
+import java.io.IOException;
+import java.util.List;
+
+// {"content": [...], "page": {"size", "number", "totalElements", "totalPages"}} 형태로 직접 기록
+// 배열 크기를 미리 알려 주므로 CBOR 처럼 길이를 앞에 쓰는 포맷은 고정 길이 배열로 기록됨
+public class PageResponseSerializer extends StdSerializer<PageResponse<?>> {
+
+    public PageResponseSerializer() {
+        super(PageResponse.class, false);
+    }
+
+    @Override
+    public void serialize(PageResponse<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+
+        List<?> content = value.getContent();
+        gen.writeFieldName("content");
+        gen.writeStartArray(content, content.size());
+        // 목록의 원소는 대부분 같은 타입이므로 직전 타입의 serializer 를 재사용
+        // Map 같은 컨테이너 serializer 는 createContextual 을 거쳐야 키 serializer 가 정해지므로 content 용 조회를 씀
+        Class<?> serializerType = null;
+        JsonSerializer<Object> serializer = null;
+        for (Object item : content) {
+            if (item == null) {
+                provider.defaultSerializeNull(gen);
+                continue;
+            }
+            if (item.getClass() != serializerType) {
+                serializerType = item.getClass();
+                serializer = provider.findContentValueSerializer(serializerType, null);
+            }
+            serializer.serialize(item, gen, provider);
+        }
+        gen.writeEndArray();
+
+        gen.writeObjectFieldStart("page");
+        gen.writeNumberField("size", value.getSize());
+        gen.writeNumberField("number", value.getNumber());
+        gen.writeNumberField("totalElements", value.getTotalElements());
+        gen.writeNumberField("totalPages", value.getTotalPages());
+        gen.writeEndObject();
+
+        gen.writeEndObject();
+    }
+}
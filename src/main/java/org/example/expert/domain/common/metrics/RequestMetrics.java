@@ -0,0 +1,99 @@
+package org.example.expert.domain.common.metrics;
+
+import org.example.expert.domain.common.dto.response.RequestMetricsResponse;
+import org.example.expert.domain.common.dto.response.RouteMetricsResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 라우트(HTTP 메서드 + 매핑 패턴)별 지연 시간 히스토그램, 처리량, 예외 타입별 오류 횟수
+// 기록 경로는 맵 조회 두 번과 원자적 증가 몇 번뿐이라 요청마다 객체를 만들지 않음
+@Component
+public class RequestMetrics {
+
+    // 매핑되지 않은 요청 (JwtFilter 에서 거절, 404 등)
+    public static final String UNMATCHED_ROUTE = "UNMATCHED";
+
+    // 패턴 -> HTTP 메서드 -> 통계, "GET /todos" 같은 키 문자열을 요청마다 만들지 않으려고 두 단계로 나눔
+    private final Map<String, Map<String, RouteStats>> routes = new ConcurrentHashMap<>();
+    private final Map<Class<?>, LongAdder> exceptionCounts = new ConcurrentHashMap<>();
+    private volatile long windowStartNanos = System.nanoTime();
+
+    public void record(String method, String route, int status, Throwable exception, long elapsedNanos) {
+        RouteStats routeStats = routeStats(method, route == null ? UNMATCHED_ROUTE : route);
+        routeStats.histogram.record(elapsedNanos);
+        if (exception != null || status >= 400) {
+            routeStats.errorCount.increment();
+        }
+        if (exception != null) {
+            LongAdder count = exceptionCounts.get(exception.getClass());
+            if (count == null) {
+                count = exceptionCounts.computeIfAbsent(exception.getClass(), type -> new LongAdder());
+            }
+            count.increment();
+        }
+    }
+
+    public RequestMetricsResponse getMetrics() {
+        double elapsedSeconds = Math.max((System.nanoTime() - windowStartNanos) / 1_000_000_000.0, 0.001);
+
+        List<RouteMetricsResponse> routeResponses = new ArrayList<>();
+        long totalCount = 0;
+        for (Map.Entry<String, Map<String, RouteStats>> routeEntry : routes.entrySet()) {
+            for (Map.Entry<String, RouteStats> methodEntry : routeEntry.getValue().entrySet()) {
+                LatencyHistogram histogram = methodEntry.getValue().histogram;
+                long count = histogram.getCount();
+                totalCount += count;
+                routeResponses.add(new RouteMetricsResponse(
+                        methodEntry.getKey(),
+                        routeEntry.getKey(),
+                        count,
+                        methodEntry.getValue().errorCount.sum(),
+                        count / elapsedSeconds,
+                        histogram.getMeanNanos() / 1_000,
+                        histogram.getPercentileNanos(50) / 1_000,
+                        histogram.getPercentileNanos(90) / 1_000,
+                        histogram.getPercentileNanos(99) / 1_000,
+                        histogram.getPercentileNanos(99.9) / 1_000,
+                        histogram.getMaxNanos() / 1_000
+                ));
+            }
+        }
+        routeResponses.sort(Comparator.comparing(RouteMetricsResponse::getRoute).thenComparing(RouteMetricsResponse::getMethod));
+
+        Map<String, Long> errors = new TreeMap<>();
+        exceptionCounts.forEach((type, count) -> errors.put(type.getSimpleName(), count.sum()));
+
+        return new RequestMetricsResponse((long) elapsedSeconds, totalCount, totalCount / elapsedSeconds, routeResponses, errors);
+    }
+
+    // 부하 테스트 구간만 보고 싶을 때 집계를 비우고 처리량 계산 구간을 다시 시작
+    public void reset() {
+        routes.clear();
+        exceptionCounts.clear();
+        windowStartNanos = System.nanoTime();
+    }
+
+    private RouteStats routeStats(String method, String route) {
+        Map<String, RouteStats> byMethod = routes.get(route);
+        if (byMethod == null) {
+            byMethod = routes.computeIfAbsent(route, key -> new ConcurrentHashMap<>());
+        }
+        RouteStats routeStats = byMethod.get(method);
+        if (routeStats == null) {
+            routeStats = byMethod.computeIfAbsent(method, key -> new RouteStats());
+        }
+        return routeStats;
+    }
+
+    private static class RouteStats {
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final LongAdder errorCount = new LongAdder();
+    }
+}
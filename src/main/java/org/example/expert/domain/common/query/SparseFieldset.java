@@ -0,0 +1,82 @@
+package org.example.expert.domain.common.query;
+
+import jakarta.persistence.Tuple;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// fields= 파라미터로 요청한 필드만 SELECT 하고 같은 모양의 Map 으로 돌려주기 위한 필드 목록
+// 허용 필드는 "응답 JSON 경로 -> JPQL 식" 으로 정의하며, "user.email" 처럼 점이 들어간 경로는 중첩 객체로 만듦
+// id 는 클라이언트가 항목을 구분할 수 있도록 요청하지 않아도 항상 포함
+public class SparseFieldset {
+
+    private static final String ID_FIELD = "id";
+
+    private final List<String> fields;
+    private final List<String> expressions;
+
+    private SparseFieldset(List<String> fields, List<String> expressions) {
+        this.fields = fields;
+        this.expressions = expressions;
+    }
+
+    public static SparseFieldset parse(String fields, Map<String, String> allowedFields) {
+        Set<String> requested = new LinkedHashSet<>();
+        for (String field : StringUtils.commaDelimitedListToStringArray(fields)) {
+            String trimmed = field.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            if (!allowedFields.containsKey(trimmed)) {
+                throw new InvalidRequestException("요청할 수 없는 필드입니다: " + trimmed + " (허용: " + String.join(", ", allowedFields.keySet()) + ")");
+            }
+            requested.add(trimmed);
+        }
+
+        // 허용 필드의 정의 순서대로 SELECT 해서 응답 필드 순서를 일정하게 유지
+        List<String> selectedFields = new ArrayList<>();
+        List<String> selectedExpressions = new ArrayList<>();
+        for (Map.Entry<String, String> entry : allowedFields.entrySet()) {
+            if (entry.getKey().equals(ID_FIELD) || requested.contains(entry.getKey())) {
+                selectedFields.add(entry.getKey());
+                selectedExpressions.add(entry.getValue());
+            }
+        }
+        return new SparseFieldset(selectedFields, selectedExpressions);
+    }
+
+    public String selectClause() {
+        return String.join(", ", expressions);
+    }
+
+    // JPQL 식 중 해당 별칭을 쓰는 필드가 있으면 조인이 필요함
+    public boolean uses(String alias) {
+        String prefix = alias + ".";
+        return expressions.stream().anyMatch(expression -> expression.startsWith(prefix));
+    }
+
+    public Map<String, Object> toMap(Tuple tuple) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            put(result, fields.get(i), tuple.get(i));
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void put(Map<String, Object> target, String path, Object value) {
+        int dot = path.indexOf('.');
+        if (dot < 0) {
+            target.put(path, value);
+            return;
+        }
+        Map<String, Object> nested = (Map<String, Object>) target.computeIfAbsent(path.substring(0, dot), key -> new LinkedHashMap<>());
+        put(nested, path.substring(dot + 1), value);
+    }
+}
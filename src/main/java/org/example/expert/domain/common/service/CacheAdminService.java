@@ -0,0 +1,48 @@
+package org.example.expert.domain.common.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.dto.response.CacheRegionStatsResponse;
+import org.example.expert.domain.common.dto.response.SecondLevelCacheStatsResponse;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class CacheAdminService {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public SecondLevelCacheStatsResponse getSecondLevelCacheStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        List<CacheRegionStatsResponse> regions = new ArrayList<>();
+        String[] regionNames = statistics.getSecondLevelCacheRegionNames();
+        Arrays.sort(regionNames);
+        for (String regionName : regionNames) {
+            CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(regionName);
+            regions.add(new CacheRegionStatsResponse(
+                    regionName,
+                    region.getHitCount(),
+                    region.getMissCount(),
+                    region.getPutCount(),
+                    region.getElementCountInMemory()
+            ));
+        }
+
+        return new SecondLevelCacheStatsResponse(
+                statistics.isStatisticsEnabled(),
+                statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount(),
+                statistics.getSecondLevelCachePutCount(),
+                statistics.getPrepareStatementCount(),
+                regions
+        );
+    }
+}
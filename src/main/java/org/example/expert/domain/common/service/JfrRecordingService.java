@@ -0,0 +1,125 @@
+package org.example.expert.domain.common.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.dto.response.JfrRecordingResponse;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// JFR 기록 시작과 덤프, 운영에서는 jfr.continuous.enabled=true 로 항상 기록하고 문제가 생긴 직후 덤프를 받음
+// 덤프는 실행 중인 모든 기록(-XX:StartFlightRecording 으로 시작한 것 포함)의 스냅샷
+@Slf4j
+@Service
+public class JfrRecordingService {
+
+    private static final String CONTINUOUS_NAME = "expert-continuous";
+    private static final String ON_DEMAND_NAME = "expert-on-demand";
+
+    @Value("${jfr.continuous.enabled:false}")
+    private boolean continuousEnabled;
+
+    // JDK 기본 설정 "default" 는 오버헤드 1% 내외, "profile" 은 더 자세하지만 2% 내외
+    @Value("${jfr.continuous.settings:default}")
+    private String continuousSettings;
+
+    @Value("${jfr.continuous.max-age:30m}")
+    private Duration continuousMaxAge;
+
+    @Value("${jfr.continuous.max-size:256MB}")
+    private DataSize continuousMaxSize;
+
+    @Value("${jfr.on-demand.max-duration:10m}")
+    private Duration onDemandMaxDuration;
+
+    private Recording continuousRecording;
+    private Recording onDemandRecording;
+
+    @PostConstruct
+    public void startContinuousRecording() {
+        if (!continuousEnabled || !FlightRecorder.isAvailable()) {
+            return;
+        }
+        Recording recording = new Recording(configuration(continuousSettings));
+        recording.setName(CONTINUOUS_NAME);
+        recording.setToDisk(true);
+        recording.setMaxAge(continuousMaxAge);
+        recording.setMaxSize(continuousMaxSize.toBytes());
+        recording.start();
+        continuousRecording = recording;
+        log.info("JFR 지속 기록 시작 settings={} maxAge={} maxSize={}", continuousSettings, continuousMaxAge, continuousMaxSize);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (continuousRecording != null) {
+            continuousRecording.close();
+        }
+        if (onDemandRecording != null) {
+            onDemandRecording.close();
+        }
+    }
+
+    // 지속 기록을 켜지 않은 환경에서 정해진 시간만 profile 설정으로 기록, 끝나면 스냅샷 덤프에 포함됨
+    public synchronized JfrRecordingResponse startRecording(Duration duration) {
+        if (!FlightRecorder.isAvailable()) {
+            throw new InvalidRequestException("이 JVM 에서는 JFR 을 사용할 수 없습니다.");
+        }
+        if (duration.isNegative() || duration.isZero() || duration.compareTo(onDemandMaxDuration) > 0) {
+            throw new InvalidRequestException("기록 시간은 " + onDemandMaxDuration.toSeconds() + "초 이하여야 합니다.");
+        }
+        if (onDemandRecording != null && onDemandRecording.getState() == RecordingState.RUNNING) {
+            throw new InvalidRequestException("이미 진행 중인 기록이 있습니다.");
+        }
+        if (onDemandRecording != null) {
+            onDemandRecording.close();
+        }
+
+        Recording recording = new Recording(configuration("profile"));
+        recording.setName(ON_DEMAND_NAME);
+        recording.setToDisk(true);
+        recording.setDuration(duration);
+        recording.start();
+        onDemandRecording = recording;
+        return new JfrRecordingResponse(recording.getId(), recording.getName(), LocalDateTime.now(), duration.toSeconds());
+    }
+
+    // 호출한 쪽이 파일을 다 보낸 뒤 지워야 함, maxAge 가 있으면 최근 그만큼만 남김
+    public Path dump(Duration maxAge) {
+        try (Recording snapshot = FlightRecorder.getFlightRecorder().takeSnapshot()) {
+            if (snapshot.getSize() == 0) {
+                throw new InvalidRequestException("덤프할 JFR 기록이 없습니다. 지속 기록을 켜거나 먼저 기록을 시작하세요.");
+            }
+            if (maxAge != null) {
+                snapshot.setMaxAge(maxAge);
+            }
+            Path file = Files.createTempFile("expert-", ".jfr");
+            snapshot.dump(file);
+            return file;
+        } catch (IOException e) {
+            throw new ServerException("JFR 덤프에 실패했습니다: " + e.getMessage());
+        }
+    }
+
+    private static Configuration configuration(String name) {
+        try {
+            return Configuration.getConfiguration(name);
+        } catch (IOException | ParseException e) {
+            throw new ServerException("JFR 설정 " + name + " 을 읽을 수 없습니다.");
+        }
+    }
+}
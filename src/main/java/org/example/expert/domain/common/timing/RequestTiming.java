@@ -0,0 +1,112 @@
+package org.example.expert.domain.common.timing;
+
+import java.util.Locale;
+
+// 요청 하나의 구간별 소요 시간, ServerTimingFilter 가 요청 스레드에 걸어두고 계측 지점에서 current() 로 꺼내 씀
+// server-timing.enabled 가 꺼져 있으면 아무도 start() 하지 않으므로 current() 는 항상 null
+public class RequestTiming {
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+    private static final TimingStage[] STAGES = TimingStage.values();
+
+    private final long startNanos;
+    private final long[] stageNanos = new long[STAGES.length];
+    private final int[] stageCounts = new int[STAGES.length];
+    // 같은 구간이 중첩되면 (예: 리포지토리 기본 메서드가 다른 쿼리 메서드를 호출) 바깥 호출만 잼
+    private final int[] depths = new int[STAGES.length];
+    private final long[] openedAt = new long[STAGES.length];
+    private long totalNanos = -1;
+
+    RequestTiming(long startNanos) {
+        this.startNanos = startNanos;
+    }
+
+    public static RequestTiming start() {
+        RequestTiming timing = new RequestTiming(System.nanoTime());
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    public static RequestTiming current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public void begin(TimingStage stage) {
+        begin(stage, System.nanoTime());
+    }
+
+    public void end(TimingStage stage) {
+        end(stage, System.nanoTime());
+    }
+
+    void begin(TimingStage stage, long nowNanos) {
+        int index = stage.ordinal();
+        if (depths[index]++ == 0) {
+            openedAt[index] = nowNanos;
+        }
+    }
+
+    void end(TimingStage stage, long nowNanos) {
+        int index = stage.ordinal();
+        if (depths[index] == 0) {
+            return;
+        }
+        if (--depths[index] == 0) {
+            stageNanos[index] += nowNanos - openedAt[index];
+            stageCounts[index]++;
+        }
+    }
+
+    // 아직 열려 있는 구간(직렬화처럼 끝 지점을 잡을 수 없는 구간)은 요청이 끝난 시점에 닫음
+    public void finish() {
+        finish(System.nanoTime());
+    }
+
+    void finish(long nowNanos) {
+        for (TimingStage stage : STAGES) {
+            if (depths[stage.ordinal()] > 0) {
+                depths[stage.ordinal()] = 1;
+                end(stage, nowNanos);
+            }
+        }
+        totalNanos = nowNanos - startNanos;
+    }
+
+    public long getStageNanos(TimingStage stage) {
+        return stageNanos[stage.ordinal()];
+    }
+
+    public int getStageCount(TimingStage stage) {
+        return stageCounts[stage.ordinal()];
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    // 예: auth;dur=0.412, db;desc="3";dur=2.105, serialize;dur=0.233, total;dur=4.871 (밀리초)
+    public String toHeaderValue() {
+        StringBuilder header = new StringBuilder();
+        for (TimingStage stage : STAGES) {
+            int count = stageCounts[stage.ordinal()];
+            if (count == 0) {
+                continue;
+            }
+            header.append(stage.getMetricName());
+            if (count > 1) {
+                header.append(";desc=\"").append(count).append('"');
+            }
+            appendDuration(header, stageNanos[stage.ordinal()]).append(", ");
+        }
+        header.append("total");
+        return appendDuration(header, totalNanos).toString();
+    }
+
+    private static StringBuilder appendDuration(StringBuilder header, long nanos) {
+        return header.append(";dur=").append(String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0));
+    }
+}
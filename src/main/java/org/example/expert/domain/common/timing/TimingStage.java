@@ -0,0 +1,19 @@
+package org.example.expert.domain.common.timing;
+
+import lombok.Getter;
+
+// Server-Timing 헤더에 나가는 구간 이름
+@Getter
+public enum TimingStage {
+    AUTH("auth"),
+    BCRYPT("bcrypt"),
+    DB("db"),
+    WEATHER("weather"),
+    SERIALIZE("serialize");
+
+    private final String metricName;
+
+    TimingStage(String metricName) {
+        this.metricName = metricName;
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.expert.domain.importer.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.annotation.AdminLogMethod;
+import org.example.expert.domain.importer.dto.response.ImportResponse;
+import org.example.expert.domain.importer.enums.ImportFormat;
+import org.example.expert.domain.importer.service.ImportService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequiredArgsConstructor
+public class ImportController {
+
+    private final ImportService importService;
+
+    // 본문을 메모리에 올리지 않도록 @RequestBody 대신 InputStream 을 그대로 넘김
+    // 문자셋은 Content-Type 의 charset 파라미터를 따르고 없으면 UTF-8
+    @AdminLogMethod
+    @PostMapping(value = "/admin/imports", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<ImportResponse> importRows(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body
+    ) {
+        ImportFormat format = ImportFormat.of(contentType);
+        Charset charset = MediaType.parseMediaType(contentType).getCharset();
+        return ResponseEntity.ok(importService.importRows(body, format, charset != null ? charset : StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.expert.domain.importer.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRow {
+
+    private String type; // todo, comment, manager
+    private Long todoId; // comment, manager 가 참조하는 기존 일정 id
+    private Long userId; // todo 작성자, comment 작성자, manager 유저 id
+    private String title;
+    private String contents;
+    private String weather;
+}
@@ -0,0 +1,27 @@
+package org.example.expert.domain.importer.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class ImportResponse {
+
+    private final long totalRows;
+    private final long importedRows;
+    private final long rejectedRows;
+    private final int chunkCount;
+    private final long elapsedMillis;
+    private final long rowsPerSecond;
+    private final List<String> errors; // 앞쪽 일부만 담음
+
+    public ImportResponse(long totalRows, long importedRows, long rejectedRows, int chunkCount, long elapsedMillis, List<String> errors) {
+        this.totalRows = totalRows;
+        this.importedRows = importedRows;
+        this.rejectedRows = rejectedRows;
+        this.chunkCount = chunkCount;
+        this.elapsedMillis = elapsedMillis;
+        this.rowsPerSecond = elapsedMillis == 0 ? importedRows : importedRows * 1000 / elapsedMillis;
+        this.errors = errors;
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.expert.domain.importer.enums;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.http.MediaType;
+
+public enum ImportFormat {
+    CSV("text/csv"),
+    NDJSON("application/x-ndjson");
+
+    private final String mediaType;
+
+    ImportFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public static ImportFormat of(String contentType) {
+        if (contentType != null) {
+            MediaType requested = MediaType.parseMediaType(contentType);
+            for (ImportFormat format : values()) {
+                if (MediaType.parseMediaType(format.mediaType).includes(requested)) {
+                    return format;
+                }
+            }
+        }
+        throw new InvalidRequestException("지원하지 않는 Content-Type 입니다. (text/csv, application/x-ndjson)");
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.expert.domain.importer.enums;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.util.Arrays;
+
+public enum ImportRowType {
+    TODO, COMMENT, MANAGER;
+
+    public static ImportRowType of(String type) {
+        return Arrays.stream(ImportRowType.values())
+                .filter(t -> t.name().equalsIgnoreCase(type))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException("유효하지 않은 행 타입: " + type));
+    }
+}
@@ -0,0 +1,112 @@
+package org.example.expert.domain.importer.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.importer.dto.request.ImportRow;
+import org.example.expert.domain.importer.enums.ImportFormat;
+import org.example.expert.domain.importer.enums.ImportRowType;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 한 줄 단위로 행을 해석 (CSV 는 한 행이 한 줄이어야 함)
+// todo,userId,title,contents,weather
+// comment,todoId,userId,contents
+// manager,todoId,userId
+@Component
+@RequiredArgsConstructor
+public class ImportRowParser {
+
+    private static final String CSV_HEADER_FIRST_COLUMN = "type";
+
+    private final ObjectMapper objectMapper;
+
+    // CSV 헤더 행이면 null 을 반환
+    public ImportRow parse(String line, ImportFormat format) {
+        if (format == ImportFormat.NDJSON) {
+            return parseJson(line);
+        }
+        return parseCsv(line);
+    }
+
+    private ImportRow parseJson(String line) {
+        try {
+            return objectMapper.readValue(line, ImportRow.class);
+        } catch (JsonProcessingException e) {
+            throw new InvalidRequestException("JSON 형식이 올바르지 않습니다.");
+        }
+    }
+
+    private ImportRow parseCsv(String line) {
+        List<String> columns = splitCsv(line);
+        String type = columns.get(0).trim();
+        if (CSV_HEADER_FIRST_COLUMN.equalsIgnoreCase(type)) {
+            return null;
+        }
+
+        return switch (ImportRowType.of(type)) {
+            case TODO -> {
+                requireColumns(columns, 5);
+                yield new ImportRow(type, null, toLong(columns.get(1)), columns.get(2), columns.get(3), columns.get(4));
+            }
+            case COMMENT -> {
+                requireColumns(columns, 4);
+                yield new ImportRow(type, toLong(columns.get(1)), toLong(columns.get(2)), null, columns.get(3), null);
+            }
+            case MANAGER -> {
+                requireColumns(columns, 3);
+                yield new ImportRow(type, toLong(columns.get(1)), toLong(columns.get(2)), null, null, null);
+            }
+        };
+    }
+
+    private List<String> splitCsv(String line) {
+        List<String> columns = new ArrayList<>();
+        StringBuilder column = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    column.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    column.append('"'); // "" 는 따옴표 문자
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                columns.add(column.toString());
+                column.setLength(0);
+            } else {
+                column.append(c);
+            }
+        }
+
+        if (quoted) {
+            throw new InvalidRequestException("닫히지 않은 따옴표가 있습니다.");
+        }
+        columns.add(column.toString());
+        return columns;
+    }
+
+    private void requireColumns(List<String> columns, int count) {
+        if (columns.size() != count) {
+            throw new InvalidRequestException("컬럼 수가 올바르지 않습니다. 기대값: " + count + ", 실제값: " + columns.size());
+        }
+    }
+
+    private Long toLong(String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("숫자 형식이 올바르지 않습니다: " + value);
+        }
+    }
+}
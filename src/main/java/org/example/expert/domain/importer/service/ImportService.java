@@ -0,0 +1,257 @@
+package org.example.expert.domain.importer.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.importer.dto.request.ImportRow;
+import org.example.expert.domain.importer.dto.response.ImportResponse;
+import org.example.expert.domain.importer.enums.ImportFormat;
+import org.example.expert.domain.importer.enums.ImportRowType;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.event.TodoListChangedEvent;
+import org.example.expert.domain.todo.event.TodosImportedEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final String MANAGERS_COLLECTION_ROLE = Todo.class.getName() + ".managers";
+
+    private final ImportRowParser importRowParser;
+    private final UserRepository userRepository;
+    private final TodoRepository todoRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${import.chunk-size:1000}")
+    private int chunkSize;
+
+    // 요청 본문을 한 줄씩 읽으면서 chunk 단위 트랜잭션으로 저장, 메모리에는 chunk 하나만 유지
+    public ImportResponse importRows(InputStream inputStream, ImportFormat format, Charset charset) {
+        long startedAt = System.currentTimeMillis();
+        ImportProgress progress = new ImportProgress();
+
+        // 유저 존재 여부는 행마다 조회하지 않고 미리 읽어 둔 id 집합으로 검증
+        Set<Long> userIds = new HashSet<>(userRepository.findAllIds());
+
+        List<ParsedRow> chunk = new ArrayList<>(chunkSize);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, charset))) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (!StringUtils.hasText(line)) {
+                    continue;
+                }
+
+                ParsedRow parsedRow;
+                try {
+                    ImportRow row = importRowParser.parse(line, format);
+                    if (row == null) {
+                        continue;
+                    }
+                    parsedRow = new ParsedRow(lineNumber, ImportRowType.of(row.getType()), row);
+                    validate(parsedRow, userIds);
+                } catch (InvalidRequestException e) {
+                    progress.totalRows++;
+                    progress.reject(lineNumber, e.getMessage());
+                    continue;
+                }
+
+                progress.totalRows++;
+                chunk.add(parsedRow);
+                if (chunk.size() >= chunkSize) {
+                    writeChunk(chunk, progress, startedAt);
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new ServerException("업로드 본문을 읽는 중 오류가 발생했습니다.");
+        }
+
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk, progress, startedAt);
+        }
+
+        return new ImportResponse(
+                progress.totalRows,
+                progress.importedRows,
+                progress.rejectedRows,
+                progress.chunkCount,
+                System.currentTimeMillis() - startedAt,
+                progress.errors
+        );
+    }
+
+    private void validate(ParsedRow parsedRow, Set<Long> userIds) {
+        ImportRow row = parsedRow.row();
+        if (row.getUserId() == null || !userIds.contains(row.getUserId())) {
+            throw new InvalidRequestException("존재하지 않는 유저입니다: " + row.getUserId());
+        }
+
+        switch (parsedRow.type()) {
+            case TODO -> {
+                if (!StringUtils.hasText(row.getTitle()) || !StringUtils.hasText(row.getContents())) {
+                    throw new InvalidRequestException("제목과 내용은 필수입니다.");
+                }
+            }
+            case COMMENT -> {
+                if (row.getTodoId() == null || !StringUtils.hasText(row.getContents())) {
+                    throw new InvalidRequestException("일정 id와 내용은 필수입니다.");
+                }
+            }
+            case MANAGER -> {
+                if (row.getTodoId() == null) {
+                    throw new InvalidRequestException("일정 id는 필수입니다.");
+                }
+            }
+        }
+    }
+
+    private void writeChunk(List<ParsedRow> chunk, ImportProgress progress, long startedAt) {
+        progress.chunkCount++;
+        List<ParsedRow> missingTodoRows = new ArrayList<>();
+        Set<Long> managerTodoIds = new HashSet<>();
+        try {
+            int imported = transactionTemplate.execute(status -> persistChunk(chunk, missingTodoRows, managerTodoIds));
+            evictManagerCollections(managerTodoIds);
+            progress.importedRows += imported;
+            for (ParsedRow parsedRow : missingTodoRows) {
+                progress.reject(parsedRow.lineNumber(), "존재하지 않는 일정입니다: " + parsedRow.row().getTodoId());
+            }
+        } catch (DataAccessException | PersistenceException | TransactionException e) {
+            // chunk 단위로 롤백되므로 해당 chunk 의 행은 모두 실패 처리
+            // EntityManager 를 직접 쓰므로 flush 예외는 DataAccessException 으로 변환되지 않은 PersistenceException 으로 올라옴
+            String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            for (ParsedRow parsedRow : chunk) {
+                progress.reject(parsedRow.lineNumber(), "저장 실패: " + message);
+            }
+        }
+
+        long elapsedMillis = Math.max(System.currentTimeMillis() - startedAt, 1);
+        log.info("[import] chunk: {}, 처리 행: {}, 저장: {}, 실패: {}, 초당 {}건",
+                progress.chunkCount, progress.totalRows, progress.importedRows, progress.rejectedRows,
+                progress.importedRows * 1000 / elapsedMillis);
+    }
+
+    private int persistChunk(List<ParsedRow> chunk, List<ParsedRow> missingTodoRows, Set<Long> managerTodoIds) {
+        // comment, manager 가 참조하는 일정은 chunk 당 한 번의 IN 쿼리로 확인
+        Set<Long> referencedTodoIds = new HashSet<>();
+        for (ParsedRow parsedRow : chunk) {
+            if (parsedRow.type() != ImportRowType.TODO) {
+                referencedTodoIds.add(parsedRow.row().getTodoId());
+            }
+        }
+        Set<Long> existingTodoIds = referencedTodoIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(todoRepository.findExistingIds(referencedTodoIds));
+
+        int imported = 0;
+        boolean todoImported = false;
+        // 일정 목록 읽기 모델에서 다시 계산할 일정, 새 일정 id 는 시퀀스 채번이라 persist 직후 알 수 있음
+        Set<Long> touchedTodoIds = new HashSet<>();
+        for (ParsedRow parsedRow : chunk) {
+            ImportRow row = parsedRow.row();
+            // 연관 엔티티는 SELECT 없이 프록시 참조만 사용
+            User user = entityManager.getReference(User.class, row.getUserId());
+
+            if (parsedRow.type() == ImportRowType.TODO) {
+                Todo todo = new Todo(row.getTitle(), row.getContents(), row.getWeather(), user);
+                entityManager.persist(todo);
+                touchedTodoIds.add(todo.getId());
+                imported++;
+                todoImported = true;
+                continue;
+            }
+
+            if (!existingTodoIds.contains(row.getTodoId())) {
+                missingTodoRows.add(parsedRow);
+                continue;
+            }
+
+            Todo todo = entityManager.getReference(Todo.class, row.getTodoId());
+            if (parsedRow.type() == ImportRowType.COMMENT) {
+                entityManager.persist(new Comment(row.getContents(), user, todo));
+            } else {
+                entityManager.persist(new Manager(user, todo));
+                managerTodoIds.add(row.getTodoId());
+            }
+            touchedTodoIds.add(row.getTodoId());
+            imported++;
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        if (!touchedTodoIds.isEmpty()) {
+            eventPublisher.publishEvent(new TodosImportedEvent(touchedTodoIds));
+        }
+
+        // 일정 목록 스냅샷은 chunk 커밋 후 한 번만 다시 조회
+        if (todoImported) {
+            eventPublisher.publishEvent(new TodoListChangedEvent());
+        }
+        return imported;
+    }
+
+    // 담당자는 Todo.managers 컬렉션을 거치지 않고 바로 persist 하므로 2차 캐시의 컬렉션(todos.managers)이 갱신되지 않음
+    // 커밋 후 해당 일정의 컬렉션 캐시를 지워야 댓글 작성 권한 검사가 새 담당자를 바로 봄
+    private void evictManagerCollections(Set<Long> todoIds) {
+        if (todoIds.isEmpty()) {
+            return;
+        }
+        Cache cache = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getCache();
+        for (Long todoId : todoIds) {
+            cache.evictCollectionData(MANAGERS_COLLECTION_ROLE, todoId);
+        }
+    }
+
+    private record ParsedRow(long lineNumber, ImportRowType type, ImportRow row) {
+    }
+
+    private static class ImportProgress {
+        private long totalRows;
+        private long importedRows;
+        private long rejectedRows;
+        private int chunkCount;
+        private final List<String> errors = new ArrayList<>();
+
+        private void reject(long lineNumber, String message) {
+            rejectedRows++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(lineNumber + "번째 줄: " + message);
+            }
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.example.expert.domain.manager.controller;
 import io.jsonwebtoken.Claims;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.annotation.QueryBudget;
 import org.example.expert.config.JwtUtil;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
@@ -10,10 +11,15 @@ import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.service.ManagerService;
+import org.example.expert.domain.todo.enums.TodoResourceType;
+import org.example.expert.domain.todo.service.TodoVersionRegistry;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequiredArgsConstructor
@@ -21,6 +27,7 @@ public class ManagerController {
 
     private final ManagerService managerService;
     private final JwtUtil jwtUtil;
+    private final TodoVersionRegistry todoVersionRegistry;
 
     @PostMapping("/todos/{todoId}/managers")
     public ResponseEntity<ManagerSaveResponse> saveManager(
@@ -32,10 +39,27 @@ public class ManagerController {
     }
 
     @GetMapping("/todos/{todoId}/managers")
-    public ResponseEntity<List<ManagerResponse>> getMembers(@PathVariable long todoId) {
+    public ResponseEntity<List<ManagerResponse>> getMembers(@PathVariable long todoId, WebRequest webRequest) {
+        if (todoVersionRegistry.checkNotModified(webRequest, todoId, TodoResourceType.MANAGERS)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         return ResponseEntity.ok(managerService.getManagers(todoId));
     }
 
+    @GetMapping(value = "/todos/{todoId}/managers", params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> getMemberFields(
+            @PathVariable long todoId,
+            @RequestParam String fields,
+            WebRequest webRequest
+    ) {
+        if (todoVersionRegistry.checkNotModified(webRequest, todoId, TodoResourceType.MANAGERS)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok(managerService.getManagers(todoId, fields));
+    }
+
+    // 유저, 일정, 담당자 조회 + 담당자 컬렉션 + DELETE + todo_summary 갱신
+    @QueryBudget(10)
     @DeleteMapping("/todos/{todoId}/managers/{managerId}")
     public void deleteManager(
             @Auth AuthUser authUser,
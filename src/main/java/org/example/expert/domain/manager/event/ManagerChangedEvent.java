@@ -0,0 +1,16 @@
+package org.example.expert.domain.manager.event;
+
+import lombok.Getter;
+
+// 일정의 담당자가 추가되거나 삭제되었을 때 발행, delta 는 추가면 1 삭제면 -1
+@Getter
+public class ManagerChangedEvent {
+
+    private final Long todoId;
+    private final int delta;
+
+    public ManagerChangedEvent(Long todoId, int delta) {
+        this.todoId = todoId;
+        this.delta = delta;
+    }
+}
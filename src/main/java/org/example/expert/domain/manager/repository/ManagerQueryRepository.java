@@ -0,0 +1,24 @@
+package org.example.expert.domain.manager.repository;
+
+import org.example.expert.domain.common.query.SparseFieldset;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public interface ManagerQueryRepository {
+
+    // ManagerResponse 와 같은 필드 이름, user.email 만 users 조인이 필요함
+    Map<String, String> FIELDS = fields();
+
+    List<Map<String, Object>> findAllProjectedByTodoId(SparseFieldset fieldset, long todoId);
+
+    private static Map<String, String> fields() {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("id", "m.id");
+        fields.put("user.id", "m.user.id");
+        fields.put("user.email", "u.email");
+        return Collections.unmodifiableMap(fields);
+    }
+}
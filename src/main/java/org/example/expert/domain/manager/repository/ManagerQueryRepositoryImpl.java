@@ -0,0 +1,29 @@
+package org.example.expert.domain.manager.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.query.SparseFieldset;
+
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class ManagerQueryRepositoryImpl implements ManagerQueryRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findAllProjectedByTodoId(SparseFieldset fieldset, long todoId) {
+        String jpql = "SELECT " + fieldset.selectClause() + " FROM Manager m" +
+                (fieldset.uses("u") ? " JOIN m.user u" : "") +
+                " WHERE m.todo.id = :todoId ORDER BY m.id";
+
+        return entityManager.createQuery(jpql, Tuple.class)
+                .setParameter("todoId", todoId)
+                .getResultList()
+                .stream()
+                .map(fieldset::toMap)
+                .toList();
+    }
+}
@@ -3,22 +3,27 @@ package org.example.expert.domain.manager.service;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.query.SparseFieldset;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.event.ManagerChangedEvent;
+import org.example.expert.domain.manager.repository.ManagerQueryRepository;
 import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -28,6 +33,7 @@ public class ManagerService {
     private final ManagerRepository managerRepository;
     private final UserRepository userRepository;
     private final TodoRepository todoRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ManagerSaveResponse saveManager(AuthUser authUser, long todoId, ManagerSaveRequest managerSaveRequest) {
@@ -48,7 +54,9 @@ public class ManagerService {
         }
 
         Manager newManagerUser = new Manager(managerUser, todo);
+        todo.addManager(newManagerUser);
         Manager savedManagerUser = managerRepository.save(newManagerUser);
+        eventPublisher.publishEvent(new ManagerChangedEvent(todo.getId(), 1));
 
         return new ManagerSaveResponse(
                 savedManagerUser.getId(),
@@ -73,6 +81,14 @@ public class ManagerService {
         return dtoList;
     }
 
+    public List<Map<String, Object>> getManagers(long todoId, String fields) {
+        SparseFieldset fieldset = SparseFieldset.parse(fields, ManagerQueryRepository.FIELDS);
+        if (!todoRepository.existsById(todoId)) {
+            throw new InvalidRequestException("Todo not found");
+        }
+        return managerRepository.findAllProjectedByTodoId(fieldset, todoId);
+    }
+
     @Transactional
     public void deleteManager(AuthUser authUser, long todoId, long managerId) {
         User user = userRepository.findById(authUser.getId())
@@ -92,6 +108,8 @@ public class ManagerService {
             throw new InvalidRequestException("해당 일정에 등록된 담당자가 아닙니다.");
         }
 
+        todo.removeManager(manager);
         managerRepository.delete(manager);
+        eventPublisher.publishEvent(new ManagerChangedEvent(todo.getId(), -1));
     }
 }
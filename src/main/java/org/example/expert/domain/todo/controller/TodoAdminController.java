@@ -0,0 +1,45 @@
+package org.example.expert.domain.todo.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.annotation.AdminLogMethod;
+import org.example.expert.domain.todo.dto.response.ConditionalGetStatsResponse;
+import org.example.expert.domain.todo.dto.response.TodoCacheStatsResponse;
+import org.example.expert.domain.todo.dto.response.TodoSummaryRebuildResponse;
+import org.example.expert.domain.todo.service.TodoAdminService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class TodoAdminController {
+
+    private final TodoAdminService todoAdminService;
+
+    @AdminLogMethod
+    @DeleteMapping("/admin/todos/{todoId}")
+    public void deleteTodo(@PathVariable long todoId) {
+        todoAdminService.deleteTodo(todoId);
+    }
+
+    @AdminLogMethod
+    @PostMapping("/admin/todos/summaries/rebuild")
+    public ResponseEntity<TodoSummaryRebuildResponse> rebuildSummaries() {
+        return ResponseEntity.ok(todoAdminService.rebuildSummaries());
+    }
+
+    @GetMapping("/admin/todos/cache")
+    public ResponseEntity<TodoCacheStatsResponse> getCacheStats() {
+        return ResponseEntity.ok(todoAdminService.getCacheStats());
+    }
+
+    @GetMapping("/admin/todos/etags")
+    public ResponseEntity<List<ConditionalGetStatsResponse>> getConditionalGetStats() {
+        return ResponseEntity.ok(todoAdminService.getConditionalGetStats());
+    }
+}
@@ -4,19 +4,34 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.response.PageResponse;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoChangesResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoSummaryResponse;
+import org.example.expert.domain.todo.enums.TodoResourceType;
+import org.example.expert.domain.todo.service.TodoChangeService;
 import org.example.expert.domain.todo.service.TodoService;
-import org.springframework.data.domain.Page;
+import org.example.expert.domain.todo.service.TodoVersionRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequiredArgsConstructor
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoChangeService todoChangeService;
+    private final TodoVersionRegistry todoVersionRegistry;
 
     @PostMapping("/todos")
     public ResponseEntity<TodoSaveResponse> saveTodo(
@@ -26,16 +41,61 @@ public class TodoController {
         return ResponseEntity.ok(todoService.saveTodo(authUser, todoSaveRequest));
     }
 
+    @PostMapping("/todos/batch")
+    public ResponseEntity<TodoBatchSaveResponse> saveTodos(
+            @Auth AuthUser authUser,
+            @RequestBody List<TodoSaveRequest> todoSaveRequests
+    ) {
+        return ResponseEntity.ok(todoService.saveTodos(authUser, todoSaveRequests));
+    }
+
     @GetMapping("/todos")
-    public ResponseEntity<Page<TodoResponse>> getTodos(
+    public ResponseEntity<PageResponse<TodoResponse>> getTodos(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int size
     ) {
         return ResponseEntity.ok(todoService.getTodos(page, size));
     }
 
+    // fields= 가 있으면 요청한 필드만 SELECT 해서 반환
+    @GetMapping(value = "/todos", params = "fields")
+    public ResponseEntity<PageResponse<Map<String, Object>>> getTodoFields(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam String fields
+    ) {
+        return ResponseEntity.ok(todoService.getTodos(page, size, fields));
+    }
+
+    @GetMapping("/todos/summaries")
+    public ResponseEntity<PageResponse<TodoSummaryResponse>> getTodoSummaries(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(todoService.getTodoSummaries(page, size));
+    }
+
+    @GetMapping("/todos/changes")
+    public ResponseEntity<TodoChangesResponse> getTodoChanges(@RequestParam(required = false) String since) {
+        return ResponseEntity.ok(todoChangeService.getChanges(since));
+    }
+
     @GetMapping("/todos/{todoId}")
-    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
+    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId, WebRequest webRequest) {
+        if (todoVersionRegistry.checkNotModified(webRequest, todoId, TodoResourceType.TODO)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         return ResponseEntity.ok(todoService.getTodo(todoId));
     }
+
+    // If-Match 에는 응답 본문의 version 을 "3" 형태로 넣음 (GET 의 ETag 는 304 용이라 값이 다름)
+    @PatchMapping("/todos/{todoId}")
+    public ResponseEntity<TodoResponse> updateTodo(
+            @Auth AuthUser authUser,
+            @PathVariable long todoId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody TodoUpdateRequest todoUpdateRequest
+    ) {
+        return ResponseEntity.ok(todoService.updateTodo(authUser, todoId, ifMatch, todoUpdateRequest));
+    }
 }
@@ -0,0 +1,15 @@
+package org.example.expert.domain.todo.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// null 인 필드는 바꾸지 않음
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoUpdateRequest {
+
+    private String title;
+    private String contents;
+}
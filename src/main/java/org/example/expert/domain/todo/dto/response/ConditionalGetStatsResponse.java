@@ -0,0 +1,19 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class ConditionalGetStatsResponse {
+
+    private final String resource;
+    private final long notModifiedCount;
+    private final long fullResponseCount;
+    private final double notModifiedRate;
+
+    public ConditionalGetStatsResponse(String resource, long notModifiedCount, long fullResponseCount, double notModifiedRate) {
+        this.resource = resource;
+        this.notModifiedCount = notModifiedCount;
+        this.fullResponseCount = fullResponseCount;
+        this.notModifiedRate = notModifiedRate;
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TodoBatchItemResponse {
+
+    private final int index; // 요청 배열에서의 위치
+    private final Long id;
+    private final String error;
+
+    private TodoBatchItemResponse(int index, Long id, String error) {
+        this.index = index;
+        this.id = id;
+        this.error = error;
+    }
+
+    public static TodoBatchItemResponse created(int index, Long id) {
+        return new TodoBatchItemResponse(index, id, null);
+    }
+
+    public static TodoBatchItemResponse failed(int index, String error) {
+        return new TodoBatchItemResponse(index, null, error);
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoBatchSaveResponse {
+
+    private final int createdCount;
+    private final int failedCount;
+    private final List<TodoBatchItemResponse> results;
+
+    public TodoBatchSaveResponse(int createdCount, int failedCount, List<TodoBatchItemResponse> results) {
+        this.createdCount = createdCount;
+        this.failedCount = failedCount;
+        this.results = results;
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TodoCacheStatsResponse {
+
+    private final long hitCount;
+    private final long missCount;
+    private final double hitRate;
+    private final long loadSuccessCount;
+    private final long loadFailureCount;
+    private final double averageLoadPenaltyNanos;
+    private final long evictionCount;
+    private final long estimatedSize;
+    private final long weightedSize;
+
+    public TodoCacheStatsResponse(long hitCount, long missCount, double hitRate, long loadSuccessCount, long loadFailureCount,
+                                  double averageLoadPenaltyNanos, long evictionCount, long estimatedSize, long weightedSize) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.hitRate = hitRate;
+        this.loadSuccessCount = loadSuccessCount;
+        this.loadFailureCount = loadFailureCount;
+        this.averageLoadPenaltyNanos = averageLoadPenaltyNanos;
+        this.evictionCount = evictionCount;
+        this.estimatedSize = estimatedSize;
+        this.weightedSize = weightedSize;
+    }
+}
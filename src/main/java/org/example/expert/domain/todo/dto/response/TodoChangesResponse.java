@@ -0,0 +1,21 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoChangesResponse {
+
+    private final List<TodoResponse> todos;
+    private final List<Long> deletedTodoIds;
+    private final String watermark;
+    private final boolean hasMore;
+
+    public TodoChangesResponse(List<TodoResponse> todos, List<Long> deletedTodoIds, String watermark, boolean hasMore) {
+        this.todos = todos;
+        this.deletedTodoIds = deletedTodoIds;
+        this.watermark = watermark;
+        this.hasMore = hasMore;
+    }
+}
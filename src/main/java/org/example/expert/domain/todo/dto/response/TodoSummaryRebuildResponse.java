@@ -0,0 +1,13 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TodoSummaryRebuildResponse {
+
+    private final int rebuiltCount;
+
+    public TodoSummaryRebuildResponse(int rebuiltCount) {
+        this.rebuiltCount = rebuiltCount;
+    }
+}
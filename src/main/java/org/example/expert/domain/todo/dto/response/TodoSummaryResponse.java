@@ -0,0 +1,44 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.todo.entity.TodoSummary;
+import org.example.expert.domain.user.dto.response.UserResponse;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class TodoSummaryResponse {
+
+    private final Long id;
+    private final String title;
+    private final String weather;
+    private final UserResponse user;
+    private final long commentCount;
+    private final long managerCount;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime modifiedAt;
+
+    public TodoSummaryResponse(Long id, String title, String weather, UserResponse user, long commentCount, long managerCount, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this.id = id;
+        this.title = title;
+        this.weather = weather;
+        this.user = user;
+        this.commentCount = commentCount;
+        this.managerCount = managerCount;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+    }
+
+    public static TodoSummaryResponse from(TodoSummary summary) {
+        return new TodoSummaryResponse(
+                summary.getTodoId(),
+                summary.getTitle(),
+                summary.getWeather(),
+                new UserResponse(summary.getUserId(), summary.getUserEmail()),
+                summary.getCommentCount(),
+                summary.getManagerCount(),
+                summary.getCreatedAt(),
+                summary.getModifiedAt()
+        );
+    }
+}
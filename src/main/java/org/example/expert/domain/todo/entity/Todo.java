@@ -7,6 +7,9 @@ import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.user.entity.User;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -14,24 +17,35 @@ import java.util.Objects;
 
 @Getter
 @Entity
+@DynamicUpdate
 @NoArgsConstructor
-@Table(name = "todos")
+@Table(name = "todos", indexes = @Index(name = "idx_todos_modified_at_id", columnList = "modified_at, id"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "todos")
 public class Todo extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todo_seq")
+    @SequenceGenerator(name = "todo_seq", sequenceName = "todos_seq", allocationSize = 50)
     private Long id;
     private String title;
     private String contents;
     private String weather;
 
+    // PATCH 의 If-Match 비교와 동시 수정 감지(UPDATE ... WHERE version = ?)에 사용
+    @Version
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @OneToMany(mappedBy = "todo", cascade = CascadeType.REMOVE)
+    // 일정 삭제 시 댓글은 TodoAdminService 에서 벌크 DELETE 로 함께 삭제
+    @OneToMany(mappedBy = "todo")
     private List<Comment> comments = new ArrayList<>();
 
+    // 담당자 추가/삭제는 addManager/removeManager 로 컬렉션도 함께 바꿔야 컬렉션 캐시가 무효화됨
     @OneToMany(mappedBy = "todo", cascade = CascadeType.PERSIST)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "todos.managers")
     private List<Manager> managers = new ArrayList<>();
 
     public Todo(String title, String contents, String weather, User user) {
@@ -46,4 +60,12 @@ public class Todo extends Timestamped {
         this.title = title;
         this.contents = contents;
     }
+
+    public void addManager(Manager manager) {
+        this.managers.add(manager);
+    }
+
+    public void removeManager(Manager manager) {
+        this.managers.remove(manager);
+    }
 }
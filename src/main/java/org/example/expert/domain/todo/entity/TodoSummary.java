@@ -0,0 +1,30 @@
+package org.example.expert.domain.todo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 일정 목록용 읽기 모델, 작성자 이메일과 댓글/담당자 수를 미리 계산해 두어 목록 조회 시 조인/집계가 없음
+// TodoSummaryProjector 가 쓰기 이벤트로 갱신하므로 애플리케이션 코드에서 직접 저장하지 않음
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "todo_summary", indexes = @Index(name = "idx_todo_summary_modified_at_todo_id", columnList = "modified_at, todo_id"))
+public class TodoSummary {
+
+    @Id
+    private Long todoId;
+    private String title;
+    private String weather;
+    @Column(nullable = false)
+    private Long userId;
+    private String userEmail;
+    @Column(nullable = false)
+    private long commentCount;
+    @Column(nullable = false)
+    private long managerCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime modifiedAt;
+}
@@ -0,0 +1,28 @@
+package org.example.expert.domain.todo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 삭제된 일정 id 기록, 변경분 동기화(GET /todos/changes)에서 삭제 목록으로 내려줌
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "todo_tombstones", indexes = @Index(name = "idx_todo_tombstones_deleted_at_id", columnList = "deleted_at, id"))
+public class TodoTombstone {
+
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todo_tombstone_seq")
+    @SequenceGenerator(name = "todo_tombstone_seq", sequenceName = "todo_tombstones_seq", allocationSize = 50)
+    private Long id;
+    @Column(nullable = false)
+    private Long todoId;
+    @Column(nullable = false)
+    private LocalDateTime deletedAt;
+
+    public TodoTombstone(Long todoId) {
+        this.todoId = todoId;
+        this.deletedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,6 @@
+package org.example.expert.domain.todo.enums;
+
+// 일정 버전으로 ETag 를 만드는 조회 API 종류
+public enum TodoResourceType {
+    TODO, COMMENTS, MANAGERS
+}
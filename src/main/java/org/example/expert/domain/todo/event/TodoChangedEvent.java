@@ -0,0 +1,14 @@
+package org.example.expert.domain.todo.event;
+
+import lombok.Getter;
+
+// 일정의 필드가 바뀌거나 일정이 삭제되었을 때 발행
+@Getter
+public class TodoChangedEvent {
+
+    private final Long todoId;
+
+    public TodoChangedEvent(Long todoId) {
+        this.todoId = todoId;
+    }
+}
@@ -0,0 +1,5 @@
+package org.example.expert.domain.todo.event;
+
+// 대량 등록처럼 어떤 일정이 바뀌었는지 개별로 알리지 않는 변경에 발행
+public class TodoListChangedEvent {
+}
@@ -0,0 +1,17 @@
+package org.example.expert.domain.todo.event;
+
+import lombok.Getter;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+
+import java.util.List;
+
+// 새 일정이 저장되었을 때 발행, 목록 스냅샷을 다시 조회하지 않고 앞에 끼워 넣는 데 사용
+@Getter
+public class TodoSavedEvent {
+
+    private final List<TodoResponse> todos;
+
+    public TodoSavedEvent(List<TodoResponse> todos) {
+        this.todos = todos;
+    }
+}
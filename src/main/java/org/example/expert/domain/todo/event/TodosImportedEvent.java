@@ -0,0 +1,16 @@
+package org.example.expert.domain.todo.event;
+
+import lombok.Getter;
+
+import java.util.Set;
+
+// 대량 등록으로 일정이 추가되었거나 댓글/담당자가 붙은 일정 id 를 chunk 단위로 알림
+@Getter
+public class TodosImportedEvent {
+
+    private final Set<Long> todoIds;
+
+    public TodosImportedEvent(Set<Long> todoIds) {
+        this.todoIds = todoIds;
+    }
+}
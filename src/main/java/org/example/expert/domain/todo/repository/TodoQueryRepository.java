@@ -0,0 +1,30 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.common.query.SparseFieldset;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public interface TodoQueryRepository {
+
+    // TodoResponse 와 같은 필드 이름, user.email 만 users 조인이 필요함
+    Map<String, String> FIELDS = fields();
+
+    Page<Map<String, Object>> findAllProjected(SparseFieldset fieldset, Pageable pageable);
+
+    private static Map<String, String> fields() {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("id", "t.id");
+        fields.put("title", "t.title");
+        fields.put("contents", "t.contents");
+        fields.put("weather", "t.weather");
+        fields.put("user.id", "t.user.id");
+        fields.put("user.email", "u.email");
+        fields.put("createdAt", "t.createdAt");
+        fields.put("modifiedAt", "t.modifiedAt");
+        return Collections.unmodifiableMap(fields);
+    }
+}
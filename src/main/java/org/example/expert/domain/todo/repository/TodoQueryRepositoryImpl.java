@@ -0,0 +1,37 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.query.SparseFieldset;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class TodoQueryRepositoryImpl implements TodoQueryRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<Map<String, Object>> findAllProjected(SparseFieldset fieldset, Pageable pageable) {
+        String jpql = "SELECT " + fieldset.selectClause() + " FROM Todo t" +
+                (fieldset.uses("u") ? " JOIN t.user u" : "") +
+                " ORDER BY t.modifiedAt DESC";
+
+        List<Map<String, Object>> content = entityManager.createQuery(jpql, Tuple.class)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList()
+                .stream()
+                .map(fieldset::toMap)
+                .toList();
+
+        // 조인 없이 개수만 셈
+        long total = entityManager.createQuery("SELECT COUNT(t) FROM Todo t", Long.class).getSingleResult();
+        return new PageImpl<>(content, pageable, total);
+    }
+}
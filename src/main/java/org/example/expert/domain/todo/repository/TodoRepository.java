@@ -4,12 +4,16 @@ import org.example.expert.domain.todo.entity.Todo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface TodoRepository extends JpaRepository<Todo, Long> {
+public interface TodoRepository extends JpaRepository<Todo, Long>, TodoQueryRepository {
 
     @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.user u ORDER BY t.modifiedAt DESC")
     Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
@@ -20,4 +24,19 @@ public interface TodoRepository extends JpaRepository<Todo, Long> {
     Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
 
     int countById(Long todoId);
+
+    // (modified_at, id) 인덱스를 타도록 같은 순서로 정렬하고 조건을 나눔, before 이후 값은 아직 커밋 중일 수 있어 제외
+    @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.user " +
+            "WHERE (t.modifiedAt > :modifiedAt OR (t.modifiedAt = :modifiedAt AND t.id > :todoId)) " +
+            "AND t.modifiedAt < :before " +
+            "ORDER BY t.modifiedAt ASC, t.id ASC")
+    List<Todo> findChangedSince(@Param("modifiedAt") LocalDateTime modifiedAt, @Param("todoId") Long todoId,
+                                @Param("before") LocalDateTime before, Pageable pageable);
+
+    @Query("SELECT t.id FROM Todo t WHERE t.id IN :todoIds")
+    List<Long> findExistingIds(@Param("todoIds") Collection<Long> todoIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Todo t WHERE t.id = :todoId")
+    int deleteByIdInBulk(@Param("todoId") Long todoId);
 }
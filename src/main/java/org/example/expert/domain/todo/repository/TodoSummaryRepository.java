@@ -0,0 +1,37 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.todo.entity.TodoSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.Optional;
+
+public interface TodoSummaryRepository extends JpaRepository<TodoSummary, Long>, TodoSummaryWriteRepository {
+
+    // 비어 있는지만 보면 되므로 count(*) 대신 PK 인덱스에서 한 행만 읽음
+    Optional<TodoSummary> findFirstByOrderByTodoIdAsc();
+
+    @Query("SELECT s FROM TodoSummary s ORDER BY s.modifiedAt DESC, s.todoId DESC")
+    Page<TodoSummary> findAllByOrderByModifiedAtDesc(Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE TodoSummary s SET s.commentCount = s.commentCount + :delta WHERE s.todoId = :todoId")
+    int addCommentCount(@Param("todoId") Long todoId, @Param("delta") long delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE TodoSummary s SET s.managerCount = s.managerCount + :delta WHERE s.todoId = :todoId")
+    int addManagerCount(@Param("todoId") Long todoId, @Param("delta") long delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM TodoSummary s WHERE s.todoId IN :todoIds")
+    int deleteAllByTodoIdInBulk(@Param("todoIds") Collection<Long> todoIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM TodoSummary s")
+    int deleteAllInBulk();
+}
@@ -0,0 +1,19 @@
+package org.example.expert.domain.todo.repository;
+
+import java.util.Collection;
+
+public interface TodoSummaryWriteRepository {
+
+    // 원본 테이블에서 요약 행을 계산해 넣는 INSERT ... SELECT, 댓글/담당자 수는 todo_id 인덱스로 센다
+    String INSERT_FROM_TODOS = "INSERT INTO todo_summary " +
+            "(todo_id, title, weather, user_id, user_email, comment_count, manager_count, created_at, modified_at) " +
+            "SELECT t.id, t.title, t.weather, t.user_id, u.email, " +
+            "(SELECT COUNT(*) FROM comments c WHERE c.todo_id = t.id), " +
+            "(SELECT COUNT(*) FROM managers m WHERE m.todo_id = t.id), " +
+            "t.created_at, t.modified_at " +
+            "FROM todos t JOIN users u ON u.id = t.user_id";
+
+    int insertFromTodos(Collection<Long> todoIds);
+
+    int insertAllFromTodos();
+}
@@ -0,0 +1,39 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.entity.TodoSummary;
+import org.hibernate.query.NativeQuery;
+
+import java.util.Collection;
+
+// 네이티브 쿼리는 어떤 테이블을 바꾸는지 Hibernate 가 모르면 2차 캐시 영역을 전부 비우므로
+// 바뀌는 테이블이 todo_summary 뿐임을 알려 users/todos/managers 캐시는 그대로 둠
+@RequiredArgsConstructor
+public class TodoSummaryWriteRepositoryImpl implements TodoSummaryWriteRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public int insertFromTodos(Collection<Long> todoIds) {
+        return insert(INSERT_FROM_TODOS + " WHERE t.id IN :todoIds", todoIds);
+    }
+
+    @Override
+    public int insertAllFromTodos() {
+        return insert(INSERT_FROM_TODOS, null);
+    }
+
+    // 같은 트랜잭션에서 아직 flush 되지 않은 일정/댓글/담당자도 SELECT 에 보이도록 먼저 flush
+    private int insert(String sql, Collection<Long> todoIds) {
+        entityManager.flush();
+        Query query = entityManager.createNativeQuery(sql);
+        if (todoIds != null) {
+            query.setParameter("todoIds", todoIds);
+        }
+        return query.unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(TodoSummary.class)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.todo.entity.TodoTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TodoTombstoneRepository extends JpaRepository<TodoTombstone, Long> {
+
+    // 일정 변경분과 같은 (deleted_at, id) 커서, id 는 인스턴스마다 블록 단위로 채번되어 단독으로는 순서를 보장하지 않음
+    @Query("SELECT t FROM TodoTombstone t " +
+            "WHERE (t.deletedAt > :deletedAt OR (t.deletedAt = :deletedAt AND t.id > :id)) " +
+            "AND t.deletedAt < :before " +
+            "ORDER BY t.deletedAt ASC, t.id ASC")
+    List<TodoTombstone> findDeletedSince(@Param("deletedAt") LocalDateTime deletedAt, @Param("id") Long id,
+                                         @Param("before") LocalDateTime before, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM TodoTombstone t WHERE t.deletedAt < :before")
+    int deleteAllDeletedBefore(@Param("before") LocalDateTime before);
+}
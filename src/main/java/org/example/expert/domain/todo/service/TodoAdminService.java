@@ -0,0 +1,78 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.ConditionalGetStatsResponse;
+import org.example.expert.domain.todo.dto.response.TodoCacheStatsResponse;
+import org.example.expert.domain.todo.dto.response.TodoSummaryRebuildResponse;
+import org.example.expert.domain.todo.entity.TodoTombstone;
+import org.example.expert.domain.todo.event.TodoChangedEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoTombstoneRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Service
+@RequiredArgsConstructor
+public class TodoAdminService {
+
+    private final TodoRepository todoRepository;
+    private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
+    private final TodoTombstoneRepository todoTombstoneRepository;
+    private final TodoResponseCache todoResponseCache;
+    private final TodoVersionRegistry todoVersionRegistry;
+    private final TodoSummaryProjector todoSummaryProjector;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 변경분 동기화의 watermark 검사(TodoChangeService)와 같은 설정을 씀
+    @Value("${todo.changes.tombstone-retention-days:30}")
+    private int tombstoneRetentionDays;
+
+    // 스케줄러가 없어서 날짜가 바뀐 뒤 첫 삭제 요청에서 보존 기간이 지난 tombstone 을 정리
+    private final AtomicReference<LocalDate> lastTombstonePurgeDay = new AtomicReference<>();
+
+    // 자식 테이블마다 DELETE 한 번씩, 엔티티를 로딩하지 않고 삭제
+    @Transactional
+    public void deleteTodo(long todoId) {
+        commentRepository.deleteAllByTodoIdInBulk(todoId);
+        managerRepository.deleteAllByTodoIdInBulk(todoId);
+
+        if (todoRepository.deleteByIdInBulk(todoId) == 0) {
+            throw new InvalidRequestException("Todo not found");
+        }
+        // 변경분 동기화 클라이언트가 삭제를 알 수 있도록 tombstone 을 남김
+        todoTombstoneRepository.save(new TodoTombstone(todoId));
+        purgeExpiredTombstones();
+        eventPublisher.publishEvent(new TodoChangedEvent(todoId));
+    }
+
+    private void purgeExpiredTombstones() {
+        LocalDate today = LocalDate.now();
+        LocalDate last = lastTombstonePurgeDay.get();
+        if (today.equals(last) || !lastTombstonePurgeDay.compareAndSet(last, today)) {
+            return;
+        }
+        todoTombstoneRepository.deleteAllDeletedBefore(today.minusDays(tombstoneRetentionDays).atStartOfDay());
+    }
+
+    public TodoSummaryRebuildResponse rebuildSummaries() {
+        return new TodoSummaryRebuildResponse(todoSummaryProjector.rebuild());
+    }
+
+    public TodoCacheStatsResponse getCacheStats() {
+        return todoResponseCache.getStats();
+    }
+
+    public List<ConditionalGetStatsResponse> getConditionalGetStats() {
+        return todoVersionRegistry.getStats();
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.response.TodoChangesResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.entity.TodoTombstone;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoTombstoneRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TodoChangeService {
+
+    private final TodoRepository todoRepository;
+    private final TodoTombstoneRepository todoTombstoneRepository;
+
+    @Value("${todo.changes.max-size:500}")
+    private int maxSize;
+
+    // modifiedAt/deletedAt 은 커밋 시점이 아니라 flush 시점의 애플리케이션 시계라서, 늦게 커밋된 트랜잭션은 더 이른 값으로 나타남
+    // 이 시간보다 최근 값은 아직 커밋 중일 수 있으므로 내려주지 않고, watermark 도 이 경계를 넘지 않게 함
+    @Value("${todo.changes.settle-window:5s}")
+    private Duration settleWindow;
+
+    @Value("${todo.changes.tombstone-retention-days:30}")
+    private int tombstoneRetentionDays;
+
+    // watermark 이후에 생성/수정된 일정과 삭제된 일정 id 를 각각 (시각, id) 순으로 최대 maxSize 건씩 반환
+    // 한 건 더 읽어서 다음 요청이 필요한지(hasMore) 판단하고, count 쿼리는 실행하지 않음
+    // 경계 이전을 모두 내려줬으면 커서를 경계까지 옮겨 변경이 없는 동안에도 watermark 가 보존 기간 안에 머물게 함
+    public TodoChangesResponse getChanges(String since) {
+        TodoChangeWatermark watermark = TodoChangeWatermark.decode(since);
+        LocalDateTime now = LocalDateTime.now();
+        // tombstone 이 정리된 구간을 지난 watermark 로는 삭제를 놓칠 수 있으므로 전체 동기화를 요구
+        if (!watermark.isInitial() && watermark.getDeletedAt().isBefore(now.minusDays(tombstoneRetentionDays))) {
+            throw new InvalidRequestException("watermark 가 보존 기간(" + tombstoneRetentionDays + "일)보다 오래되었습니다. 전체 동기화가 필요합니다.");
+        }
+        LocalDateTime before = now.minus(settleWindow);
+        PageRequest limit = PageRequest.of(0, maxSize + 1);
+
+        List<Todo> todos = todoRepository.findChangedSince(
+                watermark.getModifiedAt(), watermark.getTodoId(), before, limit);
+        List<TodoTombstone> tombstones = todoTombstoneRepository.findDeletedSince(
+                watermark.getDeletedAt(), watermark.getTombstoneId(), before, limit);
+
+        boolean todosHasMore = todos.size() > maxSize;
+        boolean tombstonesHasMore = tombstones.size() > maxSize;
+        todos = todos.subList(0, Math.min(maxSize, todos.size()));
+        tombstones = tombstones.subList(0, Math.min(maxSize, tombstones.size()));
+
+        LocalDateTime modifiedAt = before;
+        long todoId = 0;
+        if (todosHasMore) {
+            Todo last = todos.get(todos.size() - 1);
+            modifiedAt = last.getModifiedAt();
+            todoId = last.getId();
+        }
+        LocalDateTime deletedAt = before;
+        long tombstoneId = 0;
+        if (tombstonesHasMore) {
+            TodoTombstone last = tombstones.get(tombstones.size() - 1);
+            deletedAt = last.getDeletedAt();
+            tombstoneId = last.getId();
+        }
+        // 경계가 이전 watermark 보다 앞이면(설정 변경 등) 뒤로 돌아가지 않음
+        if (!todosHasMore && modifiedAt.isBefore(watermark.getModifiedAt())) {
+            modifiedAt = watermark.getModifiedAt();
+            todoId = watermark.getTodoId();
+        }
+        if (!tombstonesHasMore && deletedAt.isBefore(watermark.getDeletedAt())) {
+            deletedAt = watermark.getDeletedAt();
+            tombstoneId = watermark.getTombstoneId();
+        }
+
+        return new TodoChangesResponse(
+                todos.stream().map(TodoResponse::from).toList(),
+                tombstones.stream().map(TodoTombstone::getTodoId).toList(),
+                new TodoChangeWatermark(modifiedAt, todoId, deletedAt, tombstoneId).encode(),
+                todosHasMore || tombstonesHasMore
+        );
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.Getter;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 마지막으로 내려준 일정의 (modifiedAt, id) 와 tombstone 의 (deletedAt, id), 클라이언트에는 base64 문자열로만 노출
+@Getter
+public class TodoChangeWatermark {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    public static final TodoChangeWatermark INITIAL = new TodoChangeWatermark(EPOCH, 0L, EPOCH, 0L);
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime modifiedAt;
+    private final long todoId;
+    private final LocalDateTime deletedAt;
+    private final long tombstoneId;
+
+    public TodoChangeWatermark(LocalDateTime modifiedAt, long todoId, LocalDateTime deletedAt, long tombstoneId) {
+        this.modifiedAt = modifiedAt;
+        this.todoId = todoId;
+        this.deletedAt = deletedAt;
+        this.tombstoneId = tombstoneId;
+    }
+
+    // 예전 형식(tombstone id 만 있는 3개 값)은 tombstone 순서를 보장하지 못하므로 받지 않고 전체 동기화부터 다시 하게 함
+    public static TodoChangeWatermark decode(String value) {
+        if (value == null || value.isBlank()) {
+            return INITIAL;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + DELIMITER);
+            if (parts.length != 4) {
+                throw new InvalidRequestException("유효하지 않은 watermark 입니다.");
+            }
+            return new TodoChangeWatermark(
+                    LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]),
+                    LocalDateTime.parse(parts[2]), Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidRequestException("유효하지 않은 watermark 입니다.");
+        }
+    }
+
+    public boolean isInitial() {
+        return modifiedAt.equals(EPOCH) && todoId == 0 && deletedAt.equals(EPOCH) && tombstoneId == 0;
+    }
+
+    public String encode() {
+        String raw = modifiedAt + DELIMITER + todoId + DELIMITER + deletedAt + DELIMITER + tombstoneId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
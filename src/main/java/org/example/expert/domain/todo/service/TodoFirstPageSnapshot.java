@@ -0,0 +1,109 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.event.TodoChangedEvent;
+import org.example.expert.domain.todo.event.TodoListChangedEvent;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 수정일 기준 최신 N건을 불변 스냅샷으로 들고 있다가 첫 페이지 요청에 그대로 반환
+// 읽기는 AtomicReference 를 한 번 읽기만 하고, 갱신은 새 스냅샷을 만들어 통째로 교체
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoFirstPageSnapshot {
+
+    private final TodoRepository todoRepository;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    @Value("${todo.first-page.size:10}")
+    private int snapshotSize;
+
+    public Optional<Page<TodoResponse>> get(int page, int size) {
+        Snapshot current = snapshot.get();
+        if (current == null || page != 1 || size > snapshotSize) {
+            return Optional.empty();
+        }
+
+        List<TodoResponse> content = current.todos().subList(0, Math.min(size, current.todos().size()));
+        return Optional.of(new PageImpl<>(content, PageRequest.of(0, size), current.totalElements()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    // 스냅샷을 만든 뒤 커밋된 일정은 아직 반영되지 않았으므로 중복만 걸러서 앞에 추가
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void onTodoSaved(TodoSavedEvent event) {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            return;
+        }
+
+        Set<Long> knownIds = new HashSet<>();
+        for (TodoResponse todo : current.todos()) {
+            knownIds.add(todo.getId());
+        }
+
+        List<TodoResponse> todos = new ArrayList<>(snapshotSize + event.getTodos().size());
+        int addedCount = 0;
+        // 나중에 저장된 일정일수록 수정일이 최신이므로 역순으로 추가
+        for (int i = event.getTodos().size() - 1; i >= 0; i--) {
+            TodoResponse todo = event.getTodos().get(i);
+            if (knownIds.add(todo.getId())) {
+                todos.add(todo);
+                addedCount++;
+            }
+        }
+        todos.addAll(current.todos());
+        snapshot.set(new Snapshot(List.copyOf(todos.subList(0, Math.min(snapshotSize, todos.size()))),
+                current.totalElements() + addedCount));
+    }
+
+    // 수정/삭제는 스냅샷 안의 순서가 바뀔 수 있어 다시 조회
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTodoChanged(TodoChangedEvent event) {
+        rebuild();
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTodoListChanged(TodoListChangedEvent event) {
+        rebuild();
+    }
+
+    // 조회도 락 안에서 해야 먼저 시작한 재조회가 나중에 들어온 추가분을 덮어쓰지 않음
+    public synchronized void rebuild() {
+        Page<Todo> todos = todoRepository.findAllByOrderByModifiedAtDesc(PageRequest.of(0, snapshotSize));
+        snapshot.set(new Snapshot(todos.map(TodoResponse::from).getContent(), todos.getTotalElements()));
+        log.debug("일정 첫 페이지 스냅샷 갱신, 전체: {}건", todos.getTotalElements());
+    }
+
+    private record Snapshot(List<TodoResponse> todos, long totalElements) {
+    }
+}
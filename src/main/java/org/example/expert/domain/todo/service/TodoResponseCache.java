@@ -0,0 +1,96 @@
+package org.example.expert.domain.todo.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.example.expert.domain.todo.dto.response.TodoCacheStatsResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.event.TodoChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+// 단건 조회 응답 캐시, Caffeine 의 W-TinyLFU 로 입장/퇴출을 결정
+@Component
+public class TodoResponseCache {
+
+    // 커밋 후 리스너 중 가장 먼저 실행, TodoVersionRegistry 가 버전을 올리기 전에 이전 본문을 지움
+    public static final int INVALIDATION_ORDER = 0;
+
+    private static final int BASE_ENTRY_WEIGHT = 128;
+
+    private final Cache<Long, TodoResponse> cache;
+
+    @Autowired
+    public TodoResponseCache(
+            @Value("${todo.cache.max-weight:16777216}") long maximumWeight,
+            @Value("${todo.cache.ttl:5m}") Duration ttl
+    ) {
+        this(maximumWeight, ttl, Ticker.systemTicker());
+    }
+
+    // 커밋 전 데이터를 읽은 로딩이 커밋 후 무효화보다 늦게 값을 넣으면 이전 본문이 남을 수 있어 TTL 로 수명을 제한
+    TodoResponseCache(long maximumWeight, Duration ttl, Ticker ticker) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((Long todoId, TodoResponse todo) -> weigh(todo))
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    // 같은 id 로 동시에 들어온 miss 는 한 번의 로딩으로 합쳐짐
+    public TodoResponse get(long todoId, Function<Long, TodoResponse> loader) {
+        return cache.get(todoId, loader);
+    }
+
+    public void invalidate(long todoId) {
+        cache.invalidate(todoId);
+    }
+
+    @Order(INVALIDATION_ORDER)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTodoChanged(TodoChangedEvent event) {
+        invalidate(event.getTodoId());
+    }
+
+    public TodoCacheStatsResponse getStats() {
+        CacheStats stats = cache.stats();
+        long weightedSize = cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+
+        return new TodoCacheStatsResponse(
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.loadSuccessCount(),
+                stats.loadFailureCount(),
+                stats.averageLoadPenalty(),
+                stats.evictionCount(),
+                cache.estimatedSize(),
+                weightedSize
+        );
+    }
+
+    // 대략적인 바이트 크기 (문자열은 글자당 2바이트로 계산)
+    private static int weigh(TodoResponse todo) {
+        int chars = length(todo.getTitle()) + length(todo.getContents()) + length(todo.getWeather());
+        if (todo.getUser() != null) {
+            chars += length(todo.getUser().getEmail());
+        }
+        return BASE_ENTRY_WEIGHT + chars * 2;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
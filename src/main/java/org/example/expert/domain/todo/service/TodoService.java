@@ -1,21 +1,43 @@
 package org.example.expert.domain.todo.service;
 
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.response.PageResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.http.VersionETag;
+import org.example.expert.domain.common.query.SparseFieldset;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchItemResponse;
+import org.example.expert.domain.todo.dto.response.TodoBatchSaveResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoSummaryResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.event.TodoChangedEvent;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
+import org.example.expert.domain.todo.repository.TodoQueryRepository;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoSummaryRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -23,7 +45,15 @@ import org.springframework.transaction.annotation.Transactional;
 public class TodoService {
 
     private final TodoRepository todoRepository;
+    private final TodoSummaryRepository todoSummaryRepository;
     private final WeatherClient weatherClient;
+    private final TodoResponseCache todoResponseCache;
+    private final TodoFirstPageSnapshot todoFirstPageSnapshot;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+
+    @Value("${todo.batch.max-size:500}")
+    private int maxBatchSize;
 
     @Transactional
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
@@ -38,6 +68,7 @@ public class TodoService {
                 user
         );
         Todo savedTodo = todoRepository.save(newTodo);
+        eventPublisher.publishEvent(new TodoSavedEvent(List.of(TodoResponse.from(savedTodo))));
 
         return new TodoSaveResponse(
                 savedTodo.getId(),
@@ -48,23 +79,121 @@ public class TodoService {
         );
     }
 
-    public Page<TodoResponse> getTodos(int page, int size) {
+    @Transactional
+    public TodoBatchSaveResponse saveTodos(AuthUser authUser, List<TodoSaveRequest> todoSaveRequests) {
+        if (todoSaveRequests == null || todoSaveRequests.isEmpty()) {
+            throw new InvalidRequestException("등록할 일정이 없습니다.");
+        }
+        if (todoSaveRequests.size() > maxBatchSize) {
+            throw new InvalidRequestException("한 번에 등록할 수 있는 일정은 최대 " + maxBatchSize + "개입니다.");
+        }
+
+        User user = User.fromAuthUser(authUser);
+
+        // 단건 등록과 같은 TodoSaveRequest 제약으로 항목별 검증, 실패한 항목은 저장하지 않고 결과에 사유를 남김
+        // 목록 전체에 @Valid 를 걸면 한 항목 때문에 요청 전체가 400 이 되므로 서비스에서 항목마다 검증
+        TodoBatchItemResponse[] results = new TodoBatchItemResponse[todoSaveRequests.size()];
+        List<Integer> validIndexes = new ArrayList<>();
+        for (int i = 0; i < todoSaveRequests.size(); i++) {
+            TodoSaveRequest request = todoSaveRequests.get(i);
+            if (request == null || !validator.validate(request).isEmpty()) {
+                results[i] = TodoBatchItemResponse.failed(i, "제목과 내용은 필수입니다.");
+            } else {
+                validIndexes.add(i);
+            }
+        }
+
+        if (!validIndexes.isEmpty()) {
+            // 날씨는 배치당 한 번만 조회
+            String weather = weatherClient.getTodayWeather();
+
+            List<Todo> newTodos = new ArrayList<>(validIndexes.size());
+            for (int index : validIndexes) {
+                TodoSaveRequest request = todoSaveRequests.get(index);
+                newTodos.add(new Todo(request.getTitle(), request.getContents(), weather, user));
+            }
+
+            // 시퀀스 채번이라 일정과 담당자 INSERT 가 커밋 시점에 JDBC 배치로 나감
+            List<Todo> savedTodos = todoRepository.saveAll(newTodos);
+            List<TodoResponse> savedResponses = new ArrayList<>(savedTodos.size());
+            for (int i = 0; i < validIndexes.size(); i++) {
+                int index = validIndexes.get(i);
+                results[index] = TodoBatchItemResponse.created(index, savedTodos.get(i).getId());
+                savedResponses.add(TodoResponse.from(savedTodos.get(i)));
+            }
+            eventPublisher.publishEvent(new TodoSavedEvent(savedResponses));
+        }
+
+        return new TodoBatchSaveResponse(
+                validIndexes.size(),
+                todoSaveRequests.size() - validIndexes.size(),
+                List.of(results)
+        );
+    }
+
+    // If-Match 의 버전이 현재 버전과 다르면 412, 락을 잡지 않고 UPDATE ... WHERE version = ? 로 동시 수정을 감지
+    // @DynamicUpdate 라 바뀐 컬럼만 UPDATE 에 포함됨
+    @Transactional
+    public TodoResponse updateTodo(AuthUser authUser, long todoId, String ifMatch, TodoUpdateRequest todoUpdateRequest) {
+        if (todoUpdateRequest.getTitle() == null && todoUpdateRequest.getContents() == null) {
+            throw new InvalidRequestException("수정할 내용이 없습니다.");
+        }
+        if ((todoUpdateRequest.getTitle() != null && !StringUtils.hasText(todoUpdateRequest.getTitle()))
+                || (todoUpdateRequest.getContents() != null && !StringUtils.hasText(todoUpdateRequest.getContents()))) {
+            throw new InvalidRequestException("제목과 내용은 비워 둘 수 없습니다.");
+        }
+
+        Todo todo = todoRepository.findByIdWithUser(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+        if (!ObjectUtils.nullSafeEquals(authUser.getId(), todo.getUser().getId())) {
+            throw new InvalidRequestException("일정을 만든 유저만 수정할 수 있습니다.");
+        }
+        VersionETag.checkIfMatch(ifMatch, todo.getVersion());
+
+        todo.update(
+                todoUpdateRequest.getTitle() != null ? todoUpdateRequest.getTitle() : todo.getTitle(),
+                todoUpdateRequest.getContents() != null ? todoUpdateRequest.getContents() : todo.getContents()
+        );
+        // 응답에 올라간 버전을 담기 위해 여기서 UPDATE 를 실행, 다른 요청에 밀렸으면 이 시점에 실패
+        todoRepository.flush();
+        eventPublisher.publishEvent(new TodoChangedEvent(todo.getId()));
+
+        return TodoResponse.from(todo);
+    }
+
+    // 첫 페이지는 스냅샷에서 바로 반환하므로 트랜잭션(커넥션)을 미리 열지 않음
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public PageResponse<TodoResponse> getTodos(int page, int size) {
+        Optional<Page<TodoResponse>> firstPage = todoFirstPageSnapshot.get(page, size);
+        if (firstPage.isPresent()) {
+            return PageResponse.from(firstPage.get());
+        }
+
         Pageable pageable = PageRequest.of(page - 1, size);
 
         Page<Todo> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
 
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+        return PageResponse.from(todos.map(TodoResponse::from));
+    }
+
+    public PageResponse<Map<String, Object>> getTodos(int page, int size, String fields) {
+        SparseFieldset fieldset = SparseFieldset.parse(fields, TodoQueryRepository.FIELDS);
+        return PageResponse.from(todoRepository.findAllProjected(fieldset, PageRequest.of(page - 1, size)));
+    }
+
+    // 댓글/담당자 수와 작성자 이메일은 todo_summary 에 미리 계산되어 있어 한 테이블만 읽음
+    public PageResponse<TodoSummaryResponse> getTodoSummaries(int page, int size) {
+        Pageable pageable = PageRequest.of(page - 1, size);
+        return PageResponse.from(todoSummaryRepository.findAllByOrderByModifiedAtDesc(pageable).map(TodoSummaryResponse::from));
     }
 
+    // 캐시 적중이면 DB 를 보지 않으므로 트랜잭션(커넥션)을 미리 열지 않음, miss 일 때만 리포지토리가 읽기 트랜잭션을 엶
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public TodoResponse getTodo(long todoId) {
+        return todoResponseCache.get(todoId, this::loadTodo);
+    }
+
+    private TodoResponse loadTodo(Long todoId) {
         Todo todo = todoRepository.findByIdWithUser(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
@@ -77,7 +206,8 @@ public class TodoService {
                 todo.getWeather(),
                 new UserResponse(user.getId(), user.getEmail()),
                 todo.getCreatedAt(),
-                todo.getModifiedAt()
+                todo.getModifiedAt(),
+                todo.getVersion()
         );
     }
 }
@@ -0,0 +1,94 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.event.CommentSavedEvent;
+import org.example.expert.domain.comment.event.CommentsPurgedEvent;
+import org.example.expert.domain.manager.event.ManagerChangedEvent;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.event.TodoChangedEvent;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
+import org.example.expert.domain.todo.event.TodosImportedEvent;
+import org.example.expert.domain.todo.repository.TodoSummaryRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+// 쓰기 이벤트로 todo_summary 읽기 모델을 갱신
+// 커밋 직전에 같은 트랜잭션 안에서 실행하므로 원본 테이블과 읽기 모델이 함께 커밋되거나 함께 롤백됨
+// 댓글/담당자 수는 UPDATE 한 번으로 증감하고, 일정 자체가 바뀐 경우에만 해당 행을 원본에서 다시 계산
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoSummaryProjector {
+
+    private final TodoSummaryRepository todoSummaryRepository;
+
+    // 읽기 모델이 추가되기 전부터 있던 일정은 이벤트를 거친 적이 없으므로, 테이블이 비어 있으면 기동 시 한 번 채움
+    // 이미 채워진 뒤에는 이벤트로 유지되므로 다시 만들지 않음
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initialize() {
+        if (todoSummaryRepository.findFirstByOrderByTodoIdAsc().isEmpty()) {
+            rebuild();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onTodoSaved(TodoSavedEvent event) {
+        refresh(event.getTodos().stream().map(TodoResponse::getId).toList());
+    }
+
+    // 수정이면 행을 다시 계산하고, 삭제된 일정은 INSERT ... SELECT 결과가 없어 행이 지워진 채로 남음
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onTodoChanged(TodoChangedEvent event) {
+        refresh(List.of(event.getTodoId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onTodosImported(TodosImportedEvent event) {
+        refresh(event.getTodoIds());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onCommentSaved(CommentSavedEvent event) {
+        todoSummaryRepository.addCommentCount(event.getTodoId(), 1);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onCommentsPurged(CommentsPurgedEvent event) {
+        for (Map.Entry<Long, Long> entry : event.getDeletedCounts().entrySet()) {
+            todoSummaryRepository.addCommentCount(entry.getKey(), -entry.getValue());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onManagerChanged(ManagerChangedEvent event) {
+        todoSummaryRepository.addManagerCount(event.getTodoId(), event.getDelta());
+    }
+
+    // 테이블을 비우고 원본에서 통째로 다시 채움, 카운터가 어긋났거나 읽기 모델을 처음 만들 때 사용
+    @Transactional
+    public int rebuild() {
+        long startedAt = System.currentTimeMillis();
+        todoSummaryRepository.deleteAllInBulk();
+        int rebuiltCount = todoSummaryRepository.insertAllFromTodos();
+        log.info("[todo_summary] 재생성 {}건, {}ms", rebuiltCount, System.currentTimeMillis() - startedAt);
+        return rebuiltCount;
+    }
+
+    private void refresh(Collection<Long> todoIds) {
+        if (todoIds.isEmpty()) {
+            return;
+        }
+        todoSummaryRepository.deleteAllByTodoIdInBulk(todoIds);
+        todoSummaryRepository.insertFromTodos(todoIds);
+    }
+}
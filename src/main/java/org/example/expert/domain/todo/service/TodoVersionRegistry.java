@@ -0,0 +1,195 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.expert.domain.comment.event.CommentChangedEvent;
+import org.example.expert.domain.comment.event.CommentSavedEvent;
+import org.example.expert.domain.comment.event.CommentsPurgedEvent;
+import org.example.expert.domain.manager.event.ManagerChangedEvent;
+import org.example.expert.domain.todo.dto.response.ConditionalGetStatsResponse;
+import org.example.expert.domain.todo.enums.TodoResourceType;
+import org.example.expert.domain.todo.event.TodoChangedEvent;
+import org.example.expert.domain.todo.event.TodosImportedEvent;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 일정별 버전 번호를 메모리에 들고 있다가 ETag 로 사용, If-None-Match 비교에 DB 조회가 필요 없음
+// 버전은 커밋 이후에 올리므로 새 본문에 이전 ETag 가 붙을 수는 있어도 이전 본문에 새 ETag 가 붙지는 않음
+// JVM 마다 epoch 가 달라 재시작이나 다른 인스턴스에서 받은 ETag 는 일치하지 않고 전체 응답으로 처리됨
+// 커밋 후 리스너는 TodoResponseCache 무효화보다 뒤에 실행, 반대면 새 ETag 에 캐시에 남은 이전 본문이 붙어 304 로 굳어짐
+@Component
+public class TodoVersionRegistry {
+
+    public static final int BUMP_ORDER = TodoResponseCache.INVALIDATION_ORDER + 100;
+
+    private final String epoch = Long.toHexString(System.currentTimeMillis());
+    private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+    // 어떤 일정이 바뀌었는지 모르는 변경(유저 기준 댓글 삭제 등)은 전체 세대를 올림
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Map<TodoResourceType, LongAdder> notModifiedCounts = new EnumMap<>(TodoResourceType.class);
+    private final Map<TodoResourceType, LongAdder> fullResponseCounts = new EnumMap<>(TodoResourceType.class);
+
+    public TodoVersionRegistry() {
+        for (TodoResourceType type : TodoResourceType.values()) {
+            notModifiedCounts.put(type, new LongAdder());
+            fullResponseCounts.put(type, new LongAdder());
+        }
+    }
+
+    public String etag(long todoId) {
+        return etag(todoId, Representation.JSON);
+    }
+
+    // 같은 버전이라도 JSON/Smile/CBOR 본문은 바이트가 다르므로 강한 ETag 에 표현 형식을 포함
+    public String etag(long todoId, Representation representation) {
+        AtomicLong version = versions.get(todoId);
+        return "\"" + epoch + "-" + generation.get() + "-" + (version == null ? 0 : version.get())
+                + "-" + representation.getSuffix() + "\"";
+    }
+
+    // 일치하면 304 와 ETag 헤더가 응답에 설정되므로 호출한 쪽은 본문 없이 반환하면 됨
+    // 응답 형식이 Accept 에 따라 달라지므로 공유 캐시가 형식을 섞지 않도록 Vary: Accept 를 함께 붙임
+    public boolean checkNotModified(WebRequest webRequest, long todoId, TodoResourceType type) {
+        addVaryAccept(webRequest);
+        Representation representation = Representation.of(webRequest.getHeader(HttpHeaders.ACCEPT));
+        if (webRequest.checkNotModified(etag(todoId, representation))) {
+            notModifiedCounts.get(type).increment();
+            return true;
+        }
+        fullResponseCounts.get(type).increment();
+        return false;
+    }
+
+    public void bump(long todoId) {
+        versions.computeIfAbsent(todoId, id -> new AtomicLong()).incrementAndGet();
+    }
+
+    public void bumpAll() {
+        generation.incrementAndGet();
+    }
+
+    @Order(BUMP_ORDER)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTodoChanged(TodoChangedEvent event) {
+        bump(event.getTodoId());
+    }
+
+    @Order(BUMP_ORDER)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentSaved(CommentSavedEvent event) {
+        bump(event.getTodoId());
+    }
+
+    @Order(BUMP_ORDER)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentChanged(CommentChangedEvent event) {
+        bump(event.getTodoId());
+    }
+
+    @Order(BUMP_ORDER)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentsPurged(CommentsPurgedEvent event) {
+        if (event.getTodoId() == null) {
+            bumpAll();
+        } else {
+            bump(event.getTodoId());
+        }
+    }
+
+    @Order(BUMP_ORDER)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onManagerChanged(ManagerChangedEvent event) {
+        bump(event.getTodoId());
+    }
+
+    // 대량 등록은 기존 일정에도 댓글/담당자를 붙이므로 chunk 에 포함된 일정의 버전을 모두 올림
+    @Order(BUMP_ORDER)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTodosImported(TodosImportedEvent event) {
+        event.getTodoIds().forEach(this::bump);
+    }
+
+    private static void addVaryAccept(WebRequest webRequest) {
+        if (!(webRequest instanceof NativeWebRequest nativeWebRequest)) {
+            return;
+        }
+        HttpServletResponse response = nativeWebRequest.getNativeResponse(HttpServletResponse.class);
+        if (response != null && !response.getHeaders(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT)) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+    }
+
+    public List<ConditionalGetStatsResponse> getStats() {
+        List<ConditionalGetStatsResponse> stats = new ArrayList<>();
+        for (TodoResourceType type : TodoResourceType.values()) {
+            long notModified = notModifiedCounts.get(type).sum();
+            long fullResponse = fullResponseCounts.get(type).sum();
+            long total = notModified + fullResponse;
+            stats.add(new ConditionalGetStatsResponse(
+                    type.name(),
+                    notModified,
+                    fullResponse,
+                    total == 0 ? 0 : (double) notModified / total
+            ));
+        }
+        return stats;
+    }
+
+    // WebConfig 에 등록된 컨버터 순서(JSON, Smile, CBOR)와 같은 기준으로 응답 형식을 고름
+    // Accept 가 없거나 와일드카드면 먼저 등록된 JSON, 품질값이 높은 형식부터 확인
+    public enum Representation {
+        JSON("json", MediaType.APPLICATION_JSON),
+        SMILE("smile", new MediaType("application", "x-jackson-smile")),
+        CBOR("cbor", MediaType.APPLICATION_CBOR);
+
+        private final String suffix;
+        private final MediaType mediaType;
+
+        Representation(String suffix, MediaType mediaType) {
+            this.suffix = suffix;
+            this.mediaType = mediaType;
+        }
+
+        public String getSuffix() {
+            return suffix;
+        }
+
+        public static Representation of(String accept) {
+            if (!StringUtils.hasText(accept)) {
+                return JSON;
+            }
+            List<MediaType> acceptedTypes;
+            try {
+                acceptedTypes = new ArrayList<>(MediaType.parseMediaTypes(accept));
+            } catch (InvalidMediaTypeException e) {
+                return JSON;
+            }
+            acceptedTypes.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+            for (MediaType acceptedType : acceptedTypes) {
+                for (Representation representation : values()) {
+                    if (acceptedType.includes(representation.mediaType)) {
+                        return representation;
+                    }
+                }
+            }
+            return JSON;
+        }
+    }
+}
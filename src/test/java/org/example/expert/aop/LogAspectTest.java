@@ -0,0 +1,98 @@
+package org.example.expert.aop;
+
+import org.example.expert.annotation.AdminLogMethod;
+import org.example.expert.domain.audit.dto.AdminAuditEvent;
+import org.example.expert.domain.audit.dto.response.AdminLatencyStatsResponse;
+import org.example.expert.domain.audit.enums.AuditOverflowPolicy;
+import org.example.expert.domain.audit.service.AdminAuditBuffer;
+import org.example.expert.domain.audit.service.AdminLatencyRecorder;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LogAspectTest {
+
+    private final AdminAuditBuffer adminAuditBuffer = new AdminAuditBuffer(16, AuditOverflowPolicy.DROP);
+    private final AdminLatencyRecorder adminLatencyRecorder = new AdminLatencyRecorder();
+    private AdminTarget proxy;
+
+    @BeforeEach
+    void setUp() {
+        MockHttpServletRequest request = new MockHttpServletRequest("DELETE", "/admin/todos/7");
+        request.setAttribute("userId", 1L);
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("todoId", "7"));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(new AdminTarget());
+        factory.addAspect(new LogAspect(adminAuditBuffer, adminLatencyRecorder));
+        proxy = factory.getProxy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void 성공한_호출은_경로_변수와_걸린_시간을_남긴다() {
+        // when
+        proxy.deleteTodo(7L);
+
+        // then
+        AdminAuditEvent event = drainOne();
+        assertThat(event.getUserId()).isEqualTo(1L);
+        assertThat(event.getUrl()).isEqualTo("/admin/todos/7");
+        assertThat(event.getHandlerName()).isEqualTo("AdminTarget.deleteTodo");
+        assertThat(event.getPathVariables()).containsEntry("todoId", "7");
+        assertThat(event.isSuccess()).isTrue();
+        assertThat(event.getElapsedNanos()).isNotNegative();
+    }
+
+    @Test
+    void 실패한_호출은_예외_타입을_남기고_예외를_그대로_던진다() {
+        // when
+        assertThrows(InvalidRequestException.class, () -> proxy.failTodo(7L));
+
+        // then
+        AdminAuditEvent event = drainOne();
+        assertThat(event.isSuccess()).isFalse();
+        assertThat(event.getExceptionType()).isEqualTo(InvalidRequestException.class);
+
+        AdminLatencyStatsResponse stats = adminLatencyRecorder.getStats().get(0);
+        assertThat(stats.getHandler()).isEqualTo("AdminTarget.failTodo");
+        assertThat(stats.getCount()).isEqualTo(1);
+        assertThat(stats.getErrorCount()).isEqualTo(1);
+    }
+
+    private AdminAuditEvent drainOne() {
+        List<AdminAuditEvent> events = new ArrayList<>();
+        adminAuditBuffer.drainTo(events, 10);
+        assertThat(events).hasSize(1);
+        return events.get(0);
+    }
+
+    static class AdminTarget {
+
+        @AdminLogMethod
+        public void deleteTodo(long todoId) {
+        }
+
+        @AdminLogMethod
+        public void failTodo(long todoId) {
+            throw new InvalidRequestException("Todo not found");
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.expert.aop;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.example.expert.domain.common.dto.response.PageResponse;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.jfr.ServiceOperationEvent;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.service.TodoService;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ServiceEventAspectTest {
+
+    @Test
+    void 서비스_호출마다_id_와_행_수를_담은_JFR_이벤트를_남긴다() throws Exception {
+        // given
+        TodoService todoService = mock(TodoService.class);
+        when(todoService.getTodos(1, 10)).thenReturn(new PageResponse<>(
+                List.of(mock(TodoResponse.class), mock(TodoResponse.class)), 1, 10, 2, 1));
+        when(todoService.getTodo(7L)).thenThrow(new InvalidRequestException("Todo not found"));
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(todoService);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ServiceEventAspect());
+        TodoService proxy = factory.getProxy();
+
+        // when
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(ServiceOperationEvent.NAME).withThreshold(Duration.ZERO);
+            recording.start();
+
+            proxy.getTodos(1, 10);
+            assertThrows(InvalidRequestException.class, () -> proxy.getTodo(7L));
+
+            recording.stop();
+            Path file = Files.createTempFile("service-event", ".jfr");
+            try {
+                recording.dump(file);
+                events = RecordingFile.readAllEvents(file);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        }
+
+        // then
+        assertThat(events).hasSize(2);
+        RecordedEvent list = events.stream().filter(event -> event.getString("operation").equals("TodoService.getTodos")).findFirst().orElseThrow();
+        assertThat(list.getLong("rowCount")).isEqualTo(2);
+        assertThat(list.getString("failure")).isNull();
+
+        RecordedEvent single = events.stream().filter(event -> event.getString("operation").equals("TodoService.getTodo")).findFirst().orElseThrow();
+        assertThat(single.getLong("entityId")).isEqualTo(7);
+        assertThat(single.getLong("rowCount")).isEqualTo(-1);
+        assertThat(single.getString("failure")).isEqualTo("InvalidRequestException");
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.dto.response.RouteMetricsResponse;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.metrics.RequestMetrics;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestMetricsFilterTest {
+
+    private final RequestMetrics requestMetrics = new RequestMetrics();
+    private final RequestMetricsFilter filter = new RequestMetricsFilter(requestMetrics);
+
+    @Test
+    void 매핑_패턴으로_기록하고_처리된_예외를_오류로_센다() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/todos/{todoId}");
+            req.setAttribute(DispatcherServlet.EXCEPTION_ATTRIBUTE, new InvalidRequestException("Todo not found"));
+            response.setStatus(400);
+        });
+
+        // then
+        RouteMetricsResponse route = requestMetrics.getMetrics().getRoutes().get(0);
+        assertThat(route.getRoute()).isEqualTo("/todos/{todoId}");
+        assertThat(route.getCount()).isEqualTo(1);
+        assertThat(route.getErrorCount()).isEqualTo(1);
+        assertThat(requestMetrics.getMetrics().getErrors()).containsEntry("InvalidRequestException", 1L);
+    }
+
+    @Test
+    void 처리되지_않은_예외도_기록한_뒤_다시_던진다() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/todos");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when & then
+        assertThatThrownBy(() -> filter.doFilter(request, response, (req, res) -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(requestMetrics.getMetrics().getRoutes().get(0).getRoute()).isEqualTo(RequestMetrics.UNMATCHED_ROUTE);
+        assertThat(requestMetrics.getMetrics().getErrors()).containsEntry("IllegalStateException", 1L);
+    }
+}
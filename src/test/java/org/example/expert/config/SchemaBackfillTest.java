@@ -0,0 +1,76 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ALTER SEQUENCE 는 H2 에서 진행 중인 트랜잭션을 커밋하므로 테스트 트랜잭션 대신 직접 정리함
+@DataJpaTest
+@Import({PersistenceConfig.class, SchemaBackfill.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SchemaBackfillTest {
+
+    @Autowired
+    private SchemaBackfill schemaBackfill;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM comments");
+        jdbcTemplate.update("DELETE FROM managers");
+        jdbcTemplate.update("DELETE FROM todos");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    void version_이_없는_기존_일정과_댓글을_0_으로_채운다() {
+        // given: @Version 컬럼이 추가되기 전에 저장된 행
+        User user = userRepository.save(new User("a@a.com", "password", UserRole.USER));
+        jdbcTemplate.update("INSERT INTO todos (id, title, contents, weather, version, user_id, created_at, modified_at) " +
+                "VALUES (1000, 'title', 'contents', 'sunny', NULL, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", user.getId());
+        jdbcTemplate.update("INSERT INTO todos (id, title, contents, weather, version, user_id, created_at, modified_at) " +
+                "VALUES (1001, 'title', 'contents', 'sunny', 4, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", user.getId());
+        jdbcTemplate.update("INSERT INTO comments (id, contents, version, user_id, todo_id, created_at, modified_at) " +
+                "VALUES (1000, 'comment', NULL, ?, 1000, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", user.getId());
+
+        // when
+        schemaBackfill.backfill();
+
+        // then: 이미 버전이 있는 행은 그대로 둠
+        assertThat(jdbcTemplate.queryForList("SELECT version FROM todos ORDER BY id", Long.class)).containsExactly(0L, 4L);
+        assertThat(jdbcTemplate.queryForObject("SELECT version FROM comments WHERE id = 1000", Long.class)).isZero();
+    }
+
+    @Test
+    void IDENTITY_로_저장된_기존_id_뒤에서_시퀀스_채번을_시작한다() {
+        // given: 시퀀스가 1부터 시작하는 상태에서 IDENTITY 로 채번된 행이 이미 있음
+        User user = userRepository.save(new User("b@b.com", "password", UserRole.USER));
+        jdbcTemplate.update("INSERT INTO todos (id, title, contents, weather, version, user_id, created_at, modified_at) " +
+                "VALUES (5000, 'title', 'contents', 'sunny', 0, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", user.getId());
+
+        // when
+        schemaBackfill.backfill();
+        Todo todo = todoRepository.save(new Todo("new", "contents", "sunny", user));
+
+        // then
+        assertThat(todo.getId()).isGreaterThan(5000L);
+        assertThat(todoRepository.count()).isEqualTo(2);
+    }
+}
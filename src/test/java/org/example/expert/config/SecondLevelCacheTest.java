@@ -0,0 +1,140 @@
+package org.example.expert.config;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoSummaryRepository;
+import org.example.expert.domain.todo.service.TodoSummaryProjector;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 조회마다 새 영속성 컨텍스트를 쓰도록 테스트 트랜잭션을 끔
+@DataJpaTest
+@Import({PersistenceConfig.class, TodoSummaryProjector.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private TodoSummaryRepository todoSummaryRepository;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        todoSummaryRepository.deleteAllInBatch();
+        managerRepository.deleteAllInBatch();
+        todoRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void 같은_유저를_반복_조회하면_DB_를_다시_조회하지_않는다() {
+        // given
+        User user = userRepository.save(new User("a@a.com", "password", UserRole.USER));
+        userRepository.findById(user.getId());
+        statistics.clear();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertThat(userRepository.findById(user.getId())).isPresent();
+        }
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getDomainDataRegionStatistics("users").getHitCount()).isEqualTo(3);
+    }
+
+    @Test
+    void 일정의_담당자_컬렉션은_캐시에서_읽고_담당자_추가_시_무효화된다() {
+        // given
+        User user = userRepository.save(new User("b@b.com", "password", UserRole.USER));
+        User managerUser = userRepository.save(new User("c@c.com", "password", UserRole.USER));
+        long todoId = todoRepository.save(new Todo("title", "contents", "sunny", user)).getId();
+        countManagers(todoId);
+        statistics.clear();
+
+        // when
+        int cachedCount = countManagers(todoId);
+        long statementsOnCacheHit = statistics.getPrepareStatementCount();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Todo todo = todoRepository.findById(todoId).orElseThrow();
+            Manager manager = new Manager(userRepository.findById(managerUser.getId()).orElseThrow(), todo);
+            todo.addManager(manager);
+            managerRepository.save(manager);
+        });
+
+        // then
+        assertThat(cachedCount).isEqualTo(1);
+        assertThat(statementsOnCacheHit).isZero();
+        assertThat(countManagers(todoId)).isEqualTo(2);
+    }
+
+    @Test
+    void 일정을_저장해_요약_테이블이_갱신되어도_다른_캐시_영역은_유지된다() {
+        // given
+        User user = userRepository.save(new User("d@d.com", "password", UserRole.USER));
+        long todoId = todoRepository.save(new Todo("title", "contents", "sunny", user)).getId();
+        countManagers(todoId);
+        Cache cache = entityManagerFactory.getCache();
+        assertThat(cache.contains(User.class, user.getId())).isTrue();
+        assertThat(cache.contains(Todo.class, todoId)).isTrue();
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            Todo saved = todoRepository.save(new Todo("other", "contents", "sunny", userRepository.findById(user.getId()).orElseThrow()));
+            eventPublisher.publishEvent(new TodoSavedEvent(List.of(TodoResponse.from(saved))));
+        });
+
+        // then
+        assertThat(todoSummaryRepository.count()).isEqualTo(1);
+        assertThat(cache.contains(User.class, user.getId())).isTrue();
+        assertThat(cache.contains(Todo.class, todoId)).isTrue();
+    }
+
+    private int countManagers(long todoId) {
+        return transactionTemplate.execute(status -> todoRepository.findById(todoId).orElseThrow().getManagers().size());
+    }
+}
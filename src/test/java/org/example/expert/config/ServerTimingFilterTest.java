@@ -0,0 +1,125 @@
+package org.example.expert.config;
+
+import jakarta.servlet.DispatcherType;
+import org.example.expert.domain.common.timing.RequestTiming;
+import org.example.expert.domain.common.timing.TimingStage;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+class ServerTimingFilterTest {
+
+    private final ServerTimingFilter filter = new ServerTimingFilter(Duration.ZERO);
+
+    @Test
+    void 본문을_쓴_뒤에도_Server_Timing_헤더가_붙는다() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, (req, res) -> {
+            RequestTiming.current().begin(TimingStage.DB);
+            RequestTiming.current().end(TimingStage.DB);
+            RequestTiming.current().begin(TimingStage.SERIALIZE);
+            res.getOutputStream().write("{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+            res.flushBuffer();
+        });
+
+        // then
+        assertThat(response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER))
+                .startsWith("db;dur=")
+                .contains("serialize;dur=")
+                .contains("total;dur=");
+        assertThat(response.getContentAsString()).isEqualTo("{\"id\":1}");
+        assertThat(RequestTiming.current()).isNull();
+    }
+
+    @Test
+    void SSE_응답은_버퍼링하지_않고_바로_내보낸다() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos/1/comments/stream");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, (req, res) -> {
+            res.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+            res.getOutputStream().write("data:hello\n\n".getBytes(StandardCharsets.UTF_8));
+            res.flushBuffer();
+            assertThat(response.isCommitted()).isTrue();
+        });
+
+        // then
+        assertThat(response.getContentAsString()).isEqualTo("data:hello\n\n");
+    }
+
+    @Test
+    void SseEmitter_로_보낸_이벤트도_버퍼링하지_않는다() throws Exception {
+        // given
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new StreamController())
+                .addFilters(filter)
+                .build();
+
+        // when
+        MvcResult result = mockMvc.perform(get("/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        assertThat(result.getResponse().getContentType()).startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+        assertThat(result.getResponse().getContentAsString()).isEqualTo("data:hello\n\n");
+    }
+
+    @Test
+    void StreamingResponseBody_본문은_버퍼에_남지_않고_그대로_전달된다() throws Exception {
+        // given
+        // 운영과 같이 REQUEST, ASYNC 디스패치에 등록
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new StreamController())
+                .addFilter(filter, "serverTimingFilter", Map.of(), EnumSet.of(DispatcherType.REQUEST, DispatcherType.ASYNC), "/*")
+                .build();
+        MvcResult result = mockMvc.perform(get("/download"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // when
+        mockMvc.perform(asyncDispatch(result));
+
+        // then
+        assertThat(result.getResponse().getContentAsString()).isEqualTo("dump");
+    }
+
+    @RestController
+    static class StreamController {
+
+        @GetMapping("/download")
+        StreamingResponseBody download() {
+            return outputStream -> outputStream.write("dump".getBytes(StandardCharsets.UTF_8));
+        }
+
+        @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+        SseEmitter stream() throws IOException {
+            SseEmitter emitter = new SseEmitter(0L);
+            emitter.send(SseEmitter.event().data("hello"));
+            return emitter;
+        }
+    }
+}
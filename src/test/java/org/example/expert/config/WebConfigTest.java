@@ -0,0 +1,108 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.example.expert.domain.todo.controller.TodoController;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.service.TodoChangeService;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.todo.service.TodoVersionRegistry;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class WebConfigTest {
+
+    private final TodoService todoService = mock(TodoService.class);
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        List<HttpMessageConverter<?>> converters = new ArrayList<>();
+        converters.add(new MappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder.json().build()));
+        new WebConfig(Jackson2ObjectMapperBuilder.json()).extendMessageConverters(converters);
+
+        TodoController todoController = new TodoController(todoService, mock(TodoChangeService.class), new TodoVersionRegistry());
+        mockMvc = MockMvcBuilders.standaloneSetup(todoController)
+                .setMessageConverters(converters.toArray(HttpMessageConverter[]::new))
+                .build();
+
+        when(todoService.getTodo(1L)).thenReturn(new TodoResponse(1L, "title", "contents", "sunny",
+                new UserResponse(1L, "a@a.com"), LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 1, 1, 0, 0)));
+    }
+
+    @Test
+    void Accept_헤더가_없으면_JSON_으로_응답한다() throws Exception {
+        mockMvc.perform(get("/todos/1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/json"));
+    }
+
+    @Test
+    void Smile_과_CBOR_을_요청하면_바이너리로_응답하고_JSON_보다_작다() throws Exception {
+        // when
+        byte[] json = perform("application/json").getResponse().getContentAsByteArray();
+        MvcResult smile = perform("application/x-jackson-smile");
+        MvcResult cbor = perform("application/cbor");
+
+        // then
+        assertThat(smile.getResponse().getContentType()).isEqualTo("application/x-jackson-smile");
+        assertThat(cbor.getResponse().getContentType()).isEqualTo("application/cbor");
+        assertThat(smile.getResponse().getContentAsByteArray().length).isLessThan(json.length);
+        assertThat(cbor.getResponse().getContentAsByteArray().length).isLessThan(json.length);
+
+        JsonNode decoded = new ObjectMapper(new SmileFactory()).readTree(smile.getResponse().getContentAsByteArray());
+        assertThat(decoded).isEqualTo(new ObjectMapper().readTree(json));
+        assertThat(new ObjectMapper(new CBORFactory()).readTree(cbor.getResponse().getContentAsByteArray())).isEqualTo(decoded);
+    }
+
+    @Test
+    void 응답_형식마다_ETag_가_다르고_Vary_Accept_를_붙인다() throws Exception {
+        // when
+        MvcResult json = perform("application/json");
+        MvcResult cbor = perform("application/cbor");
+
+        // then
+        assertThat(json.getResponse().getHeader("ETag")).isNotEqualTo(cbor.getResponse().getHeader("ETag"));
+        assertThat(json.getResponse().getHeaders("Vary")).contains("Accept");
+        assertThat(cbor.getResponse().getHeaders("Vary")).contains("Accept");
+    }
+
+    @Test
+    void JSON_의_ETag_로_CBOR_을_요청하면_304_가_아니다() throws Exception {
+        // given
+        String jsonEtag = perform("application/json").getResponse().getHeader("ETag");
+
+        // when & then
+        mockMvc.perform(get("/todos/1").header("Accept", "application/cbor").header("If-None-Match", jsonEtag))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"));
+        mockMvc.perform(get("/todos/1").header("Accept", "application/json").header("If-None-Match", jsonEtag))
+                .andExpect(status().isNotModified());
+    }
+
+    private MvcResult perform(String accept) throws Exception {
+        return mockMvc.perform(get("/todos/1").header("Accept", accept))
+                .andExpect(status().isOk())
+                .andReturn();
+    }
+}
@@ -0,0 +1,126 @@
+package org.example.expert.domain.audit.repository;
+
+import org.example.expert.domain.audit.dto.AdminAuditEvent;
+import org.example.expert.domain.audit.dto.response.AdminAuditLogResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// CREATE/DROP TABLE 은 H2 에서 트랜잭션을 커밋하므로 롤백 대신 테스트마다 날짜 테이블을 모두 지움
+@JdbcTest
+@Import(AdminAuditLogRepository.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AdminAuditLogRepositoryTest {
+
+    private static final LocalDateTime DAY1 = LocalDateTime.of(2024, 3, 1, 10, 0);
+    private static final LocalDateTime DAY2 = LocalDateTime.of(2024, 3, 2, 10, 0);
+
+    @Autowired
+    private AdminAuditLogRepository adminAuditLogRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        adminAuditLogRepository.dropPartitionsBefore(LocalDate.MAX);
+    }
+
+    @Test
+    void 날짜별_테이블에_나눠_저장하고_기간_안의_테이블만_최신순으로_조회한다() {
+        // when
+        adminAuditLogRepository.batchInsert(List.of(
+                event(DAY1, 1L, "/admin/users/3"),
+                event(DAY1.plusMinutes(1), 2L, "/admin/todos/1"),
+                event(DAY2, 1L, "/admin/users/4")
+        ));
+
+        // then
+        assertThat(adminAuditLogRepository.getPartitions())
+                .containsExactly(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 2));
+
+        List<AdminAuditLogResponse> byUser = adminAuditLogRepository.find(DAY1.minusHours(1), DAY2.plusHours(1), 1L, null, 10);
+        assertThat(byUser).extracting(AdminAuditLogResponse::getUrl).containsExactly("/admin/users/4", "/admin/users/3");
+
+        List<AdminAuditLogResponse> byUrl = adminAuditLogRepository.find(DAY1.minusHours(1), DAY2.plusHours(1), null, "/admin/todos", 10);
+        assertThat(byUrl).extracting(AdminAuditLogResponse::getUserId).containsExactly(2L);
+
+        List<AdminAuditLogResponse> limited = adminAuditLogRepository.find(DAY1.minusHours(1), DAY2.plusHours(1), null, null, 2);
+        assertThat(limited).extracting(AdminAuditLogResponse::getRequestedAt).containsExactly(DAY2, DAY1.plusMinutes(1));
+    }
+
+    @Test
+    void 보존_기간이_지난_날짜는_테이블째_삭제한다() {
+        // given
+        adminAuditLogRepository.batchInsert(List.of(event(DAY1, 1L, "/admin/users/3"), event(DAY2, 1L, "/admin/users/4")));
+
+        // when
+        List<LocalDate> dropped = adminAuditLogRepository.dropPartitionsBefore(LocalDate.of(2024, 3, 2));
+
+        // then
+        assertThat(dropped).containsExactly(LocalDate.of(2024, 3, 1));
+        assertThat(adminAuditLogRepository.getPartitions()).containsExactly(LocalDate.of(2024, 3, 2));
+        assertThat(adminAuditLogRepository.find(DAY1.minusHours(1), DAY2.plusHours(1), null, null, 10))
+                .extracting(AdminAuditLogResponse::getUrl).containsExactly("/admin/users/4");
+    }
+
+    @Test
+    void 다른_인스턴스가_만들거나_지운_날짜_테이블도_조회에_반영한다() {
+        // given: 같은 DB 를 쓰는 다른 인스턴스
+        AdminAuditLogRepository otherInstance = new AdminAuditLogRepository(jdbcTemplate);
+        adminAuditLogRepository.batchInsert(List.of(event(DAY1, 1L, "/admin/users/3")));
+        otherInstance.batchInsert(List.of(event(DAY2, 1L, "/admin/users/4")));
+
+        // when & then: 다른 인스턴스가 만든 테이블을 읽음
+        assertThat(adminAuditLogRepository.find(DAY1.minusHours(1), DAY2.plusHours(1), null, null, 10))
+                .extracting(AdminAuditLogResponse::getUrl).containsExactly("/admin/users/4", "/admin/users/3");
+
+        // when & then: 다른 인스턴스가 지운 테이블은 건너뜀
+        otherInstance.dropPartitionsBefore(LocalDate.of(2024, 3, 2));
+        assertThat(adminAuditLogRepository.find(DAY1.minusHours(1), DAY2.plusHours(1), null, null, 10))
+                .extracting(AdminAuditLogResponse::getUrl).containsExactly("/admin/users/4");
+        assertThat(adminAuditLogRepository.getPartitions()).containsExactly(LocalDate.of(2024, 3, 2));
+    }
+
+    @Test
+    void 예전_스키마로_만들어진_날짜_테이블에는_빠진_컬럼을_추가한다() {
+        // given: 결과/소요 시간 컬럼이 추가되기 전에 만들어진 테이블과 행
+        jdbcTemplate.execute("CREATE TABLE admin_audit_log_20240301 (" +
+                "id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "requested_at BIGINT NOT NULL, " +
+                "user_id BIGINT, " +
+                "http_method VARCHAR(10) NOT NULL, " +
+                "url VARCHAR(2048) NOT NULL)");
+        jdbcTemplate.update("INSERT INTO admin_audit_log_20240301 (requested_at, user_id, http_method, url) VALUES (?, 1, 'PATCH', '/admin/users/3')",
+                millis(DAY1));
+
+        // when
+        adminAuditLogRepository.loadPartitions();
+        adminAuditLogRepository.batchInsert(List.of(event(DAY1.plusMinutes(1), 1L, "/admin/users/4")));
+
+        // then: 예전 행은 결과를 알 수 없음
+        List<AdminAuditLogResponse> logs = adminAuditLogRepository.find(DAY1.minusHours(1), DAY1.plusHours(1), null, null, 10);
+        assertThat(logs).extracting(AdminAuditLogResponse::getUrl).containsExactly("/admin/users/4", "/admin/users/3");
+        assertThat(logs.get(0).getOutcome()).isNotNull();
+        assertThat(logs.get(1).getOutcome()).isNull();
+    }
+
+    private AdminAuditEvent event(LocalDateTime requestedAt, Long userId, String url) {
+        return new AdminAuditEvent(millis(requestedAt), userId, "PATCH", url);
+    }
+
+    private long millis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.expert.domain.audit.service;
+
+import org.example.expert.domain.audit.dto.AdminAuditEvent;
+import org.example.expert.domain.audit.enums.AuditOverflowPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdminAuditBufferTest {
+
+    @Test
+    void 용량은_2의_거듭제곱으로_올린다() {
+        assertThat(new AdminAuditBuffer(1000, AuditOverflowPolicy.DROP).capacity()).isEqualTo(1024);
+        assertThat(new AdminAuditBuffer(1024, AuditOverflowPolicy.DROP).capacity()).isEqualTo(1024);
+    }
+
+    @Test
+    void DROP_정책이면_가득_찼을_때_버리고_개수를_센다() {
+        // given
+        AdminAuditBuffer buffer = new AdminAuditBuffer(2, AuditOverflowPolicy.DROP);
+
+        // when
+        boolean first = buffer.offer(event(1));
+        boolean second = buffer.offer(event(2));
+        boolean third = buffer.offer(event(3));
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(buffer.getDroppedCount()).isEqualTo(1);
+
+        List<AdminAuditEvent> batch = new ArrayList<>();
+        assertThat(buffer.drainTo(batch, 10)).isEqualTo(2);
+        assertThat(batch).extracting(AdminAuditEvent::getRequestedAt).containsExactly(1L, 2L);
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+
+    @Test
+    void 여러_스레드가_동시에_넣어도_빠짐없이_꺼낸다() throws Exception {
+        // given
+        int producerCount = 4;
+        int eventsPerProducer = 10_000;
+        AdminAuditBuffer buffer = new AdminAuditBuffer(256, AuditOverflowPolicy.BLOCK);
+        ExecutorService executor = Executors.newFixedThreadPool(producerCount);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        for (int p = 0; p < producerCount; p++) {
+            int producer = p;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < eventsPerProducer; i++) {
+                    buffer.offer(event((long) producer * eventsPerProducer + i));
+                }
+                return null;
+            });
+        }
+        start.countDown();
+
+        Set<Long> received = new HashSet<>();
+        List<AdminAuditEvent> batch = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (received.size() < producerCount * eventsPerProducer && System.nanoTime() < deadline) {
+            batch.clear();
+            buffer.drainTo(batch, 64);
+            for (AdminAuditEvent event : batch) {
+                received.add(event.getRequestedAt());
+            }
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(received).hasSize(producerCount * eventsPerProducer);
+        assertThat(buffer.getDroppedCount()).isZero();
+    }
+
+    private AdminAuditEvent event(long requestedAt) {
+        return new AdminAuditEvent(requestedAt, 1L, "DELETE", "/admin/todos/1");
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.expert.domain.audit.service;
+
+import org.example.expert.domain.audit.dto.AdminAuditEvent;
+import org.example.expert.domain.audit.enums.AuditOverflowPolicy;
+import org.example.expert.domain.audit.repository.AdminAuditLogRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AdminAuditWriterTest {
+
+    @Mock
+    private AdminAuditLogRepository adminAuditLogRepository;
+
+    private AdminAuditBuffer adminAuditBuffer;
+    private AdminAuditWriter adminAuditWriter;
+
+    @BeforeEach
+    void setUp() {
+        adminAuditBuffer = new AdminAuditBuffer(4, AuditOverflowPolicy.BLOCK);
+        adminAuditWriter = new AdminAuditWriter(adminAuditBuffer, adminAuditLogRepository);
+        ReflectionTestUtils.setField(adminAuditWriter, "batchSize", 256);
+        ReflectionTestUtils.setField(adminAuditWriter, "flushInterval", Duration.ofMillis(1));
+        ReflectionTestUtils.setField(adminAuditWriter, "retentionDays", 90);
+        lenient().when(adminAuditLogRepository.dayOf(anyLong())).thenReturn(LocalDate.of(2024, 3, 1));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (ReflectionTestUtils.getField(adminAuditWriter, "thread") != null) {
+            adminAuditWriter.stop();
+        }
+    }
+
+    @Test
+    void 기록_중_런타임_예외가_나도_버퍼를_비우고_다음_기록을_이어간다() {
+        // given
+        willThrow(new IllegalArgumentException("값 변환 실패")).willDoNothing()
+                .given(adminAuditLogRepository).batchInsert(anyList());
+        adminAuditBuffer.offer(event(1));
+
+        // when
+        int first = adminAuditWriter.flush(new ArrayList<>());
+        adminAuditBuffer.offer(event(2));
+        int second = adminAuditWriter.flush(new ArrayList<>());
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isEqualTo(1);
+        verify(adminAuditLogRepository, times(2)).batchInsert(anyList());
+    }
+
+    @Test
+    void 보존_기간_정리가_실패해도_기록_스레드는_멈추지_않는다() throws InterruptedException {
+        // given: 파티션 정리에서 런타임 예외, BLOCK 정책이라 스레드가 죽으면 offer 가 돌아오지 않음
+        given(adminAuditLogRepository.dropPartitionsBefore(LocalDate.of(2024, 3, 1).minusDays(90)))
+                .willThrow(new IllegalStateException("메타데이터 조회 실패"));
+        willThrow(new IllegalStateException("연결 끊김")).willDoNothing()
+                .given(adminAuditLogRepository).batchInsert(anyList());
+        adminAuditWriter.start();
+
+        // when: 용량(4)보다 많이 넣어도 계속 비워져서 막히지 않음
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            for (int i = 0; i < 16; i++) {
+                adminAuditBuffer.offer(event(i));
+            }
+        });
+
+        // then
+        verify(adminAuditLogRepository, timeout(5_000).atLeast(2)).batchInsert(anyList());
+        adminAuditWriter.stop();
+        assertThat(adminAuditBuffer.isEmpty()).isTrue();
+    }
+
+    private AdminAuditEvent event(long userId) {
+        return new AdminAuditEvent(System.currentTimeMillis(), userId, "PATCH", "/admin/users/" + userId);
+    }
+}
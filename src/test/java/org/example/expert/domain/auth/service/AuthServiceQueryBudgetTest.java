@@ -0,0 +1,56 @@
+package org.example.expert.domain.auth.service;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.QueryCountingConfig;
+import org.example.expert.domain.auth.dto.request.SigninRequest;
+import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import static org.example.expert.support.QueryCountAssert.assertQueries;
+
+// 토큰 서명에 쓰는 테스트 전용 키 (Base64)
+@DataJpaTest(properties = "jwt.secret.key=cXVlcnktYnVkZ2V0LXRlc3Qtb25seS1zZWNyZXQta2V5LTAxMjM0NTY3ODk=")
+@Import({PersistenceConfig.class, QueryCountingConfig.class, AuthService.class, PasswordEncoder.class, JwtUtil.class})
+class AuthServiceQueryBudgetTest {
+
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void 회원가입은_이메일_중복_확인_SELECT_1번과_INSERT_1번이다() {
+        // when & then
+        assertQueries(() -> {
+            authService.signup(new SignupRequest("new@a.com", "Password1", UserRole.USER.name()));
+            entityManager.flush();
+        })
+                .hasSelects(1)
+                .hasInserts(1)
+                .hasUpdates(0)
+                .hasDeletes(0);
+    }
+
+    @Test
+    void 로그인은_SELECT_1번이다() {
+        // given
+        entityManager.persist(new User("a@a.com", passwordEncoder.encode("Password1"), UserRole.USER));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when & then
+        assertQueries(() -> authService.signin(new SigninRequest("a@a.com", "Password1")))
+                .hasSelects(1)
+                .hasStatements(1);
+    }
+}
@@ -1,6 +1,9 @@
 package org.example.expert.domain.comment.controller;
 
+import org.example.expert.domain.comment.dto.response.CommentPurgeResponse;
+import org.example.expert.domain.comment.dto.response.CommentStreamStatsResponse;
 import org.example.expert.domain.comment.service.CommentAdminService;
+import org.example.expert.domain.comment.service.CommentStreamService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,10 +13,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.util.List;
+
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -22,6 +30,9 @@ public class CommentAdminControllerTest {
     @Mock
     private CommentAdminService commentAdminService;
 
+    @Mock
+    private CommentStreamService commentStreamService;
+
     @InjectMocks
     private CommentAdminController commentAdminController;
 
@@ -44,4 +55,53 @@ public class CommentAdminControllerTest {
 
         verify(commentAdminService, times(1)).deleteComment(commentId);
     }
-}
\ No newline at end of file
+
+    @Test
+    void purgeComments_shouldReturnDeletedCount() throws Exception {
+        // Given
+        when(commentAdminService.purgeComments(List.of(1L, 2L))).thenReturn(new CommentPurgeResponse(2));
+
+        // When & Then
+        mockMvc.perform(delete("/admin/comments").param("commentIds", "1,2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deletedCount").value(2))
+                .andDo(print());
+    }
+
+    @Test
+    void purgeCommentsByTodo_shouldReturnDeletedCount() throws Exception {
+        // Given
+        when(commentAdminService.purgeCommentsByTodo(1L)).thenReturn(new CommentPurgeResponse(3));
+
+        // When & Then
+        mockMvc.perform(delete("/admin/todos/{todoId}/comments", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deletedCount").value(3))
+                .andDo(print());
+    }
+
+    @Test
+    void purgeCommentsByUser_shouldReturnDeletedCount() throws Exception {
+        // Given
+        when(commentAdminService.purgeCommentsByUser(1L)).thenReturn(new CommentPurgeResponse(4));
+
+        // When & Then
+        mockMvc.perform(delete("/admin/users/{userId}/comments", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deletedCount").value(4))
+                .andDo(print());
+    }
+
+    @Test
+    void getCommentStreamStats_shouldReturnCounters() throws Exception {
+        // Given
+        when(commentStreamService.getStats()).thenReturn(new CommentStreamStatsResponse(1, 2, 10L, 1L));
+
+        // When & Then
+        mockMvc.perform(get("/admin/comments/streams"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.subscriberCount").value(2))
+                .andExpect(jsonPath("$.droppedEventCount").value(1))
+                .andDo(print());
+    }
+}
@@ -5,7 +5,9 @@ import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.comment.service.CommentStreamService;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.service.TodoVersionRegistry;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
@@ -14,10 +16,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.Arrays;
 import java.util.List;
@@ -29,6 +33,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,6 +42,12 @@ public class CommentControllerTest {
     @Mock
     private CommentService commentService;
 
+    @Mock
+    private CommentStreamService commentStreamService;
+
+    @Spy
+    private TodoVersionRegistry todoVersionRegistry = new TodoVersionRegistry();
+
     @InjectMocks
     private CommentController commentController;
 
@@ -110,4 +121,29 @@ public class CommentControllerTest {
 
         verify(commentService, times(1)).getComments(1L);
     }
-}
\ No newline at end of file
+
+    @Test
+    void streamComments_shouldStartAsyncWithLastEventId() throws Exception {
+        // Given
+        when(commentStreamService.subscribe(1L, 5L)).thenReturn(new SseEmitter());
+
+        // When & Then
+        mockMvc.perform(get("/todos/1/comments/stream")
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .header("Last-Event-ID", "5"))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted())
+                .andDo(print());
+
+        verify(commentStreamService, times(1)).subscribe(1L, 5L);
+    }
+
+    @Test
+    void getComments_shouldReturnNotModifiedWhenEtagMatches() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/todos/1/comments").header("If-None-Match", todoVersionRegistry.etag(1L)))
+                .andExpect(status().isNotModified());
+
+        verify(commentService, never()).getComments(1L);
+    }
+}
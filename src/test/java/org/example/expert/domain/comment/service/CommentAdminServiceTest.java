@@ -1,18 +1,30 @@
 package org.example.expert.domain.comment.service;
 
+import org.example.expert.domain.comment.dto.response.CommentPurgeResponse;
+import org.example.expert.domain.comment.event.CommentsPurgedEvent;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class CommentAdminServiceTest {
     @Mock
     private CommentRepository commentRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private CommentAdminService commentAdminService;
 
@@ -23,8 +35,44 @@ class CommentAdminServiceTest {
         // when
         commentAdminService.deleteComment(commentId);
         //then
-        verify(commentRepository).deleteById(commentId); // 행위 검증
+        verify(commentRepository).deleteByIdInBulk(commentId); // 행위 검증
+
+    }
+
+    @Test
+    public void id_목록으로_일괄_삭제() {
+        // given
+        List<Long> commentIds = List.of(1L, 2L, 3L);
+        given(commentRepository.deleteAllByIdInBulk(commentIds)).willReturn(3);
+
+        // when
+        CommentPurgeResponse response = commentAdminService.purgeComments(commentIds);
+
+        // then
+        assertEquals(3, response.getDeletedCount());
+    }
+
+    @Test
+    public void id_목록이_비어있으면_에러가_발생한다() {
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                commentAdminService.purgeComments(List.of()));
+
+        // then
+        assertEquals("삭제할 댓글 id가 없습니다.", exception.getMessage());
+    }
+
+    @Test
+    public void 일정_및_작성자_기준_일괄_삭제() {
+        // given
+        given(commentRepository.deleteAllByTodoIdInBulk(1L)).willReturn(5);
+        given(commentRepository.deleteAllByUserIdInBulk(2L)).willReturn(7);
 
+        // when & then
+        assertEquals(5, commentAdminService.purgeCommentsByTodo(1L).getDeletedCount());
+        assertEquals(7, commentAdminService.purgeCommentsByUser(2L).getDeletedCount());
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+                event instanceof CommentsPurgedEvent purged && Long.valueOf(1L).equals(purged.getTodoId())));
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,79 @@
+package org.example.expert.domain.comment.service;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.QueryCountingConfig;
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import static org.example.expert.support.QueryCountAssert.assertQueries;
+
+@DataJpaTest
+@Import({PersistenceConfig.class, QueryCountingConfig.class, CommentService.class})
+class CommentServiceQueryBudgetTest {
+
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void 댓글_작성은_담당자_수와_관계없이_SELECT_2번과_INSERT_1번이다() {
+        // given
+        User owner = new User("owner@a.com", "password", UserRole.USER);
+        entityManager.persist(owner);
+        Todo todo = new Todo("title", "contents", "sunny", owner);
+        for (int i = 0; i < 5; i++) {
+            User manager = new User("manager" + i + "@a.com", "password", UserRole.USER);
+            entityManager.persist(manager);
+            todo.addManager(new Manager(manager, todo));
+        }
+        entityManager.persist(todo);
+        entityManager.flush();
+        entityManager.clear();
+
+        AuthUser authUser = new AuthUser(owner.getId(), owner.getEmail(), UserRole.USER);
+
+        // when & then
+        // 담당자 user 는 지연 로딩 프록시의 id 만 읽으므로 담당자마다 조회가 나가면 안 됨
+        assertQueries(() -> {
+            commentService.saveComment(authUser, todo.getId(), new CommentSaveRequest("contents"));
+            entityManager.flush();
+        })
+                .hasSelects(2)
+                .hasInserts(1)
+                .hasUpdates(0)
+                .hasDeletes(0);
+    }
+
+    @Test
+    void 댓글_목록은_작성자_수와_관계없이_SELECT_1번이다() {
+        // given
+        User owner = new User("owner@a.com", "password", UserRole.USER);
+        entityManager.persist(owner);
+        Todo todo = new Todo("title", "contents", "sunny", owner);
+        entityManager.persist(todo);
+        for (int i = 0; i < 5; i++) {
+            User writer = new User("writer" + i + "@a.com", "password", UserRole.USER);
+            entityManager.persist(writer);
+            entityManager.persist(new Comment("contents" + i, writer, todo));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // when & then
+        // 작성자는 fetch join 으로 함께 읽으므로 댓글마다 유저 조회가 나가면 안 됨
+        assertQueries(() -> commentService.getComments(todo.getId()))
+                .hasSelects(1)
+                .hasStatements(1);
+    }
+}
@@ -1,12 +1,14 @@
 package org.example.expert.domain.comment.service;
 
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.request.CommentUpdateRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.PreconditionFailedException;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.entity.User;
@@ -16,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
@@ -33,6 +36,8 @@ class CommentServiceTest {
     private CommentRepository commentRepository;
     @Mock
     private TodoRepository todoRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private CommentService commentService;
 
@@ -115,4 +120,23 @@ class CommentServiceTest {
         // then
         assertEquals(comments.size(), 1);
     }
+
+    @Test
+    public void comment_수정_시_If_Match_버전이_다르면_412_예외가_발생한다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
+        User user = User.fromAuthUser(authUser);
+        Todo todo = new Todo("title", "contents", "sunny", user);
+        ReflectionTestUtils.setField(todo, "id", 1L);
+        Comment comment = new Comment("contents", user, todo);
+        ReflectionTestUtils.setField(comment, "version", 5L);
+        given(commentRepository.findByIdWithUser(10L)).willReturn(Optional.of(comment));
+
+        // when
+        assertThrows(PreconditionFailedException.class, () ->
+                commentService.updateComment(authUser, 1L, 10L, "\"4\"", new CommentUpdateRequest("new contents")));
+
+        // then
+        assertEquals("contents", comment.getContents());
+    }
 }
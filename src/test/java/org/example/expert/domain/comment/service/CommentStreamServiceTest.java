@@ -0,0 +1,152 @@
+package org.example.expert.domain.comment.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.dto.response.CommentStreamStatsResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.event.CommentSavedEvent;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class CommentStreamServiceTest {
+
+    @Mock
+    private CommentRepository commentRepository;
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+    @InjectMocks
+    private CommentStreamService commentStreamService;
+
+    // 전송 스레드 대신 호출한 스레드에서 바로 실행
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(commentStreamService, "fanOutExecutor", (Executor) Runnable::run);
+    }
+
+    @Test
+    public void 구독하면_구독자_수가_집계된다() {
+        // when
+        commentStreamService.subscribe(1L, null);
+        commentStreamService.subscribe(1L, null);
+        commentStreamService.subscribe(2L, null);
+
+        // then
+        CommentStreamStatsResponse stats = commentStreamService.getStats();
+        assertEquals(2, stats.getTodoCount());
+        assertEquals(3, stats.getSubscriberCount());
+    }
+
+    @Test
+    public void 새_댓글은_해당_일정의_구독자에게만_전달된다() {
+        // given
+        commentStreamService.subscribe(1L, null);
+        commentStreamService.subscribe(1L, null);
+        commentStreamService.subscribe(2L, null);
+        CommentResponse comment = new CommentResponse(10L, "contents", new UserResponse(1L, "a@a.com"));
+
+        // when
+        commentStreamService.onCommentSaved(new CommentSavedEvent(1L, comment));
+
+        // then
+        CommentStreamStatsResponse stats = commentStreamService.getStats();
+        assertEquals(2, stats.getDeliveredEventCount());
+        assertEquals(0, stats.getDroppedEventCount());
+    }
+
+    @Test
+    public void Last_Event_ID_이후의_댓글만_다시_전송한다() {
+        // given
+        User user = new User("a@a.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        Todo todo = new Todo("title", "contents", "sunny", user);
+        Comment comment = new Comment("missed", user, todo);
+        ReflectionTestUtils.setField(comment, "id", 6L);
+
+        given(commentRepository.findByTodoIdAndIdGreaterThanWithUser(1L, 5L)).willReturn(List.of(comment));
+
+        // when
+        commentStreamService.subscribe(1L, 5L);
+
+        // then
+        assertEquals(1, commentStreamService.getStats().getDeliveredEventCount());
+    }
+
+    @Test
+    public void 새_댓글_전송은_커밋한_스레드가_아닌_전송_실행기에서_한다() {
+        // given
+        List<Runnable> tasks = new ArrayList<>();
+        ReflectionTestUtils.setField(commentStreamService, "fanOutExecutor", (Executor) tasks::add);
+        commentStreamService.subscribe(1L, null);
+        CommentResponse comment = new CommentResponse(10L, "contents", new UserResponse(1L, "a@a.com"));
+
+        // when
+        commentStreamService.onCommentSaved(new CommentSavedEvent(1L, comment));
+
+        // then
+        assertEquals(0, commentStreamService.getStats().getDeliveredEventCount());
+        assertThat(tasks).hasSize(1);
+        tasks.get(0).run();
+        assertEquals(1, commentStreamService.getStats().getDeliveredEventCount());
+    }
+
+    @Test
+    public void 재전송_중에_도착한_댓글은_재전송이_끝난_뒤_중복_없이_이어서_전송한다() {
+        // given
+        User user = new User("a@a.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        Todo todo = new Todo("title", "contents", "sunny", user);
+        Comment missed = new Comment("missed", user, todo);
+        ReflectionTestUtils.setField(missed, "id", 6L);
+
+        // 놓친 댓글을 조회하는 사이에 6번(조회 결과에도 포함)과 7번이 커밋됨
+        given(commentRepository.findByTodoIdAndIdGreaterThanWithUser(1L, 5L)).willAnswer(invocation -> {
+            commentStreamService.onCommentSaved(new CommentSavedEvent(1L, new CommentResponse(6L, "missed", new UserResponse(1L, "a@a.com"))));
+            commentStreamService.onCommentSaved(new CommentSavedEvent(1L, new CommentResponse(7L, "live", new UserResponse(1L, "a@a.com"))));
+            return List.of(missed);
+        });
+
+        // when
+        SseEmitter emitter = commentStreamService.subscribe(1L, 5L);
+
+        // then
+        assertEquals(2, commentStreamService.getStats().getDeliveredEventCount());
+        assertThat(sentEventIds(emitter)).containsExactly("6", "7");
+    }
+
+    // 응답에 연결되기 전에 보낸 프레임은 emitter 에 순서대로 쌓여 있음
+    @SuppressWarnings("unchecked")
+    private List<String> sentEventIds(SseEmitter emitter) {
+        Set<ResponseBodyEmitter.DataWithMediaType> sent =
+                (Set<ResponseBodyEmitter.DataWithMediaType>) ReflectionTestUtils.getField(emitter, "earlySendAttempts");
+        List<String> ids = new ArrayList<>();
+        for (ResponseBodyEmitter.DataWithMediaType data : sent) {
+            if (data.getData() instanceof String text && text.startsWith("id:")) {
+                ids.add(text.substring(3, text.indexOf('\n')));
+            }
+        }
+        return ids;
+    }
+}
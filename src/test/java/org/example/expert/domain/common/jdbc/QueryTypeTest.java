@@ -0,0 +1,25 @@
+package org.example.expert.domain.common.jdbc;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryTypeTest {
+
+    @Test
+    void SQL_첫_키워드로_종류를_나눈다() {
+        assertThat(QueryType.of("select t1_0.id from todos t1_0 where t1_0.id=?")).isEqualTo(QueryType.SELECT);
+        assertThat(QueryType.of("  /* load Todo */ SELECT 1")).isEqualTo(QueryType.SELECT);
+        assertThat(QueryType.of("with recent as (select 1) select * from recent")).isEqualTo(QueryType.SELECT);
+        assertThat(QueryType.of("insert into comments (contents,id) values (?,?)")).isEqualTo(QueryType.INSERT);
+        assertThat(QueryType.of("update todos set version=? where id=? and version=?")).isEqualTo(QueryType.UPDATE);
+        assertThat(QueryType.of("delete from managers where id=?")).isEqualTo(QueryType.DELETE);
+    }
+
+    @Test
+    void 시퀀스_채번은_SELECT_로_세지_않는다() {
+        assertThat(QueryType.of("select next value for comments_seq")).isEqualTo(QueryType.OTHER);
+        assertThat(QueryType.of("select nextval('comments_seq')")).isEqualTo(QueryType.OTHER);
+        assertThat(QueryType.of(null)).isEqualTo(QueryType.OTHER);
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.expert.domain.common.jdbc;
+
+import org.example.expert.domain.common.dto.response.SlowQueryResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlowQueryLogTest {
+
+    private final EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .build();
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void 리터럴과_IN_목록_길이가_달라도_같은_문장으로_정규화한다() {
+        assertThat(SlowQueryLog.normalize("select *\n  from todos t1_0 where t1_0.id in (?, ?, ?) and t1_0.title = 'a''b' limit 10"))
+                .isEqualTo("select * from todos t1_0 where t1_0.id in (?, ...) and t1_0.title = ? limit ?");
+    }
+
+    @Test
+    void 임계값을_넘은_SELECT_를_행_수와_실행_계획과_함께_남긴다() {
+        // given
+        SlowQueryLog slowQueryLog = new SlowQueryLog(true, Duration.ZERO, 10, true, true);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(QueryCountingDataSource.wrap(database, slowQueryLog));
+        jdbcTemplate.execute("create table items (id bigint primary key, name varchar(20))");
+        jdbcTemplate.update("insert into items values (?, ?)", 1L, "a");
+        jdbcTemplate.update("insert into items values (?, ?)", 2L, "b");
+
+        // when
+        jdbcTemplate.queryForList("select name from items where id in (?, ?)", String.class, 1L, 2L);
+
+        // then
+        List<SlowQueryResponse> queries = slowQueryLog.getTopQueries();
+        SlowQueryResponse select = queries.stream()
+                .filter(query -> query.getSql().equals("select name from items where id in (?, ...)"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(select.getRows()).isEqualTo(2);
+        assertThat(select.getBindValues()).containsExactly("<Long>", "<Long>");
+        assertThat(select.getPlan()).containsIgnoringCase("items");
+        assertThat(select.getCaller()).startsWith("SlowQueryLogTest.");
+
+        SlowQueryResponse insert = queries.stream()
+                .filter(query -> query.getSql().startsWith("insert"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(insert.getCount()).isEqualTo(2);
+        assertThat(insert.getRows()).isEqualTo(1);
+    }
+
+    @Test
+    void 가득_차면_가장_빠른_문장부터_버린다() {
+        // given
+        SlowQueryLog slowQueryLog = new SlowQueryLog(true, Duration.ZERO, 1, false, false);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(QueryCountingDataSource.wrap(database, slowQueryLog));
+
+        // when
+        jdbcTemplate.queryForObject("select 1", Integer.class);
+        jdbcTemplate.queryForObject("select sum(x) from system_range(1, 200000)", Long.class);
+
+        // then
+        assertThat(slowQueryLog.getTopQueries()).extracting(SlowQueryResponse::getSql)
+                .containsExactly("select sum(x) from system_range(?, ...)");
+    }
+}
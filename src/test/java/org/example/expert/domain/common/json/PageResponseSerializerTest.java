@@ -0,0 +1,101 @@
+package org.example.expert.domain.common.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.example.expert.domain.common.dto.response.PageResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PageResponseSerializerTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    void 목록과_페이지_정보만_기록한다() throws Exception {
+        // given
+        PageResponse<TodoResponse> page = PageResponse.from(page(3));
+
+        // when
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsBytes(page));
+
+        // then
+        assertThat(json.fieldNames()).toIterable().containsExactly("content", "page");
+        assertThat(json.get("content")).hasSize(3);
+        assertThat(json.get("content").get(0).get("title").asText()).isEqualTo("title0");
+        assertThat(json.get("page").get("number").asInt()).isEqualTo(1);
+        assertThat(json.get("page").get("size").asInt()).isEqualTo(10);
+        assertThat(json.get("page").get("totalElements").asLong()).isEqualTo(3);
+        assertThat(json.get("page").get("totalPages").asInt()).isEqualTo(1);
+    }
+
+    @Test
+    void Map_원소도_키와_값을_그대로_기록한다() throws Exception {
+        // given
+        Map<String, Object> first = new LinkedHashMap<>();
+        first.put("id", 1L);
+        first.put("title", "title1");
+        Map<String, Object> second = new LinkedHashMap<>();
+        second.put("id", 2L);
+        second.put("title", null);
+        PageResponse<Map<String, Object>> page = new PageResponse<>(List.of(first, second), 1, 10, 2, 1);
+
+        // when
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsBytes(page));
+
+        // then
+        assertThat(json.get("content")).hasSize(2);
+        assertThat(json.get("content").get(0).get("id").asLong()).isEqualTo(1L);
+        assertThat(json.get("content").get(0).get("title").asText()).isEqualTo("title1");
+        assertThat(json.get("content").get(1).get("title").isNull()).isTrue();
+    }
+
+    @Test
+    void PageImpl_을_직렬화한_것보다_작다() throws Exception {
+        // given
+        Page<TodoResponse> page = page(10);
+
+        // when
+        byte[] pageImpl = objectMapper.writeValueAsBytes(page);
+        byte[] pageResponse = objectMapper.writeValueAsBytes(PageResponse.from(page));
+
+        // then
+        assertThat(pageResponse.length).isLessThan(pageImpl.length);
+    }
+
+    @Test
+    void CBOR_로_기록해도_같은_내용이다() throws Exception {
+        // given
+        PageResponse<TodoResponse> page = PageResponse.from(page(2));
+        ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.cbor().build();
+
+        // when
+        JsonNode cbor = new ObjectMapper(new CBORFactory()).readTree(cborMapper.writeValueAsBytes(page));
+
+        // then
+        assertThat(cbor).isEqualTo(objectMapper.readTree(objectMapper.writeValueAsBytes(page)));
+    }
+
+    private Page<TodoResponse> page(int count) {
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<TodoResponse> todos = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            todos.add(new TodoResponse((long) i, "title" + i, "contents" + i, "sunny",
+                    new UserResponse(1L, "a@a.com"), now, now));
+        }
+        return new PageImpl<>(todos, PageRequest.of(0, 10), count);
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.expert.domain.common.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LatencyHistogramTest {
+
+    @Test
+    void 버킷_상한은_항상_기록한_값_이상이고_오차는_3퍼센트_이내다() {
+        for (long value : new long[]{0, 1, 31, 32, 33, 1_000, 123_456, 987_654_321L, Long.MAX_VALUE}) {
+            long upperBound = LatencyHistogram.upperBoundOf(LatencyHistogram.indexOf(value));
+            assertThat(upperBound).isGreaterThanOrEqualTo(value);
+            assertThat((double) (upperBound - value)).isLessThanOrEqualTo(value / 32.0);
+        }
+    }
+
+    @Test
+    void 백분위와_최대값을_구한다() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // when
+        for (int i = 1; i <= 1_000; i++) {
+            histogram.record(i * 1_000L);
+        }
+
+        // then
+        assertThat(histogram.getCount()).isEqualTo(1_000);
+        assertThat(histogram.getMaxNanos()).isEqualTo(1_000_000);
+        assertThat(histogram.getMeanNanos()).isCloseTo(500_500, within(1.0));
+        assertThat((double) histogram.getPercentileNanos(50)).isCloseTo(500_000, within(500_000 * 0.04));
+        assertThat((double) histogram.getPercentileNanos(99)).isCloseTo(990_000, within(990_000 * 0.04));
+        assertThat(histogram.getPercentileNanos(100)).isEqualTo(1_000_000);
+    }
+
+    @Test
+    void 기록이_없으면_0_이다() {
+        assertThat(new LatencyHistogram().getPercentileNanos(99)).isZero();
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.expert.domain.common.metrics;
+
+import org.example.expert.domain.common.dto.response.RequestMetricsResponse;
+import org.example.expert.domain.common.dto.response.RouteMetricsResponse;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestMetricsTest {
+
+    private final RequestMetrics requestMetrics = new RequestMetrics();
+
+    @Test
+    void 라우트와_메서드별로_나눠_집계한다() {
+        // when
+        requestMetrics.record("GET", "/todos/{todoId}", 200, null, 1_000_000);
+        requestMetrics.record("GET", "/todos/{todoId}", 200, null, 3_000_000);
+        requestMetrics.record("PATCH", "/todos/{todoId}", 200, null, 2_000_000);
+
+        // then
+        RequestMetricsResponse metrics = requestMetrics.getMetrics();
+        assertThat(metrics.getTotalCount()).isEqualTo(3);
+        assertThat(metrics.getRoutes()).extracting(RouteMetricsResponse::getMethod).containsExactly("GET", "PATCH");
+
+        RouteMetricsResponse get = metrics.getRoutes().get(0);
+        assertThat(get.getRoute()).isEqualTo("/todos/{todoId}");
+        assertThat(get.getCount()).isEqualTo(2);
+        assertThat(get.getErrorCount()).isZero();
+        assertThat(get.getMeanMicros()).isEqualTo(2_000);
+        assertThat(get.getMaxMicros()).isEqualTo(3_000);
+    }
+
+    @Test
+    void 예외_타입별_오류와_매핑되지_않은_요청을_센다() {
+        // when
+        requestMetrics.record("GET", "/todos/{todoId}", 400, new InvalidRequestException("Todo not found"), 1_000);
+        requestMetrics.record("GET", "/todos/{todoId}", 400, new InvalidRequestException("Todo not found"), 1_000);
+        requestMetrics.record("GET", null, 401, null, 1_000);
+
+        // then
+        RequestMetricsResponse metrics = requestMetrics.getMetrics();
+        assertThat(metrics.getErrors()).containsEntry("InvalidRequestException", 2L).hasSize(1);
+        assertThat(metrics.getRoutes()).extracting(RouteMetricsResponse::getRoute)
+                .containsExactly("/todos/{todoId}", RequestMetrics.UNMATCHED_ROUTE);
+        assertThat(metrics.getRoutes()).extracting(RouteMetricsResponse::getErrorCount).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 초기화하면_집계가_비워진다() {
+        // given
+        requestMetrics.record("GET", "/todos", 200, null, 1_000);
+
+        // when
+        requestMetrics.reset();
+
+        // then
+        RequestMetricsResponse metrics = requestMetrics.getMetrics();
+        assertThat(metrics.getTotalCount()).isZero();
+        assertThat(metrics.getRoutes()).isEmpty();
+    }
+}
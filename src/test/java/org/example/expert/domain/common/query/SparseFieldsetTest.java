@@ -0,0 +1,38 @@
+package org.example.expert.domain.common.query;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.repository.TodoQueryRepository;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SparseFieldsetTest {
+
+    @Test
+    void 요청한_필드와_id_만_정의된_순서대로_SELECT_한다() {
+        // when
+        SparseFieldset fieldset = SparseFieldset.parse("user.id, title", TodoQueryRepository.FIELDS);
+
+        // then
+        assertThat(fieldset.selectClause()).isEqualTo("t.id, t.title, t.user.id");
+        assertThat(fieldset.uses("u")).isFalse();
+    }
+
+    @Test
+    void 유저_이메일을_요청하면_조인이_필요하다() {
+        // when
+        SparseFieldset fieldset = SparseFieldset.parse("user.email", TodoQueryRepository.FIELDS);
+
+        // then
+        assertThat(fieldset.uses("u")).isTrue();
+    }
+
+    @Test
+    void 허용되지_않은_필드는_거부한다() {
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> SparseFieldset.parse("title,password", TodoQueryRepository.FIELDS));
+
+        assertThat(exception.getMessage()).startsWith("요청할 수 없는 필드입니다: password");
+    }
+}
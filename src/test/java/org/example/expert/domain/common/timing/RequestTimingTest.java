@@ -0,0 +1,59 @@
+package org.example.expert.domain.common.timing;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestTimingTest {
+
+    @Test
+    void 구간별_시간과_호출_횟수를_헤더로_만든다() {
+        // given
+        RequestTiming timing = new RequestTiming(0);
+
+        // when
+        timing.begin(TimingStage.AUTH, 0);
+        timing.end(TimingStage.AUTH, 400_000);
+        timing.begin(TimingStage.DB, 1_000_000);
+        timing.end(TimingStage.DB, 2_000_000);
+        timing.begin(TimingStage.DB, 3_000_000);
+        timing.end(TimingStage.DB, 3_500_000);
+        timing.finish(5_000_000);
+
+        // then
+        assertThat(timing.getStageNanos(TimingStage.DB)).isEqualTo(1_500_000);
+        assertThat(timing.getStageCount(TimingStage.DB)).isEqualTo(2);
+        assertThat(timing.toHeaderValue())
+                .isEqualTo("auth;dur=0.400, db;desc=\"2\";dur=1.500, total;dur=5.000");
+    }
+
+    @Test
+    void 중첩된_같은_구간은_바깥_호출만_센다() {
+        // given
+        RequestTiming timing = new RequestTiming(0);
+
+        // when
+        timing.begin(TimingStage.DB, 0);
+        timing.begin(TimingStage.DB, 100);
+        timing.end(TimingStage.DB, 200);
+        timing.end(TimingStage.DB, 1_000);
+
+        // then
+        assertThat(timing.getStageNanos(TimingStage.DB)).isEqualTo(1_000);
+        assertThat(timing.getStageCount(TimingStage.DB)).isEqualTo(1);
+    }
+
+    @Test
+    void 열려_있는_구간은_finish_에서_닫는다() {
+        // given
+        RequestTiming timing = new RequestTiming(0);
+        timing.begin(TimingStage.SERIALIZE, 2_000_000);
+
+        // when
+        timing.finish(3_000_000);
+
+        // then
+        assertThat(timing.getStageNanos(TimingStage.SERIALIZE)).isEqualTo(1_000_000);
+        assertThat(timing.getTotalNanos()).isEqualTo(3_000_000);
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.expert.domain.importer.controller;
+
+import org.example.expert.domain.importer.dto.response.ImportResponse;
+import org.example.expert.domain.importer.enums.ImportFormat;
+import org.example.expert.domain.importer.service.ImportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+public class ImportControllerTest {
+
+    @Mock
+    private ImportService importService;
+
+    @InjectMocks
+    private ImportController importController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(importController).build();
+    }
+
+    @Test
+    void importRows_shouldStreamNdjsonBody() throws Exception {
+        // Given
+        when(importService.importRows(any(InputStream.class), eq(ImportFormat.NDJSON), eq(StandardCharsets.UTF_8)))
+                .thenReturn(new ImportResponse(2, 2, 0, 1, 10, List.of()));
+
+        // When & Then
+        mockMvc.perform(post("/admin/imports")
+                        .contentType("application/x-ndjson")
+                        .content("{\"type\":\"manager\",\"todoId\":1,\"userId\":2}\n{\"type\":\"manager\",\"todoId\":1,\"userId\":3}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importedRows").value(2))
+                .andExpect(jsonPath("$.rowsPerSecond").value(200))
+                .andDo(print());
+
+        verify(importService, times(1)).importRows(any(InputStream.class), eq(ImportFormat.NDJSON), eq(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void importRows_shouldUseCharsetFromContentType() throws Exception {
+        // Given
+        when(importService.importRows(any(InputStream.class), eq(ImportFormat.CSV), eq(StandardCharsets.ISO_8859_1)))
+                .thenReturn(new ImportResponse(1, 1, 0, 1, 10, List.of()));
+
+        // When & Then
+        mockMvc.perform(post("/admin/imports")
+                        .contentType("text/csv;charset=ISO-8859-1")
+                        .content("type,userId,title,contents\ntodo,1,caf\u00e9,contents".getBytes(StandardCharsets.ISO_8859_1)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importedRows").value(1))
+                .andDo(print());
+
+        verify(importService, times(1)).importRows(any(InputStream.class), eq(ImportFormat.CSV), eq(StandardCharsets.ISO_8859_1));
+    }
+
+    @Test
+    void importRows_shouldRejectUnsupportedMediaType() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/admin/imports")
+                        .contentType("application/json")
+                        .content("[]"))
+                .andExpect(status().isUnsupportedMediaType())
+                .andDo(print());
+    }
+}
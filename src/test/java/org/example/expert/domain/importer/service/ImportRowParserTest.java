@@ -0,0 +1,65 @@
+package org.example.expert.domain.importer.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.importer.dto.request.ImportRow;
+import org.example.expert.domain.importer.enums.ImportFormat;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImportRowParserTest {
+
+    private final ImportRowParser importRowParser = new ImportRowParser(new ObjectMapper());
+
+    @Test
+    public void CSV_헤더_행은_건너뛴다() {
+        assertNull(importRowParser.parse("type,userId,title,contents,weather", ImportFormat.CSV));
+    }
+
+    @Test
+    public void CSV_따옴표로_감싼_컬럼을_해석한다() {
+        // when
+        ImportRow row = importRowParser.parse("todo,1,\"title, with comma\",\"say \"\"hi\"\"\",sunny", ImportFormat.CSV);
+
+        // then
+        assertEquals("todo", row.getType());
+        assertEquals(1L, row.getUserId());
+        assertEquals("title, with comma", row.getTitle());
+        assertEquals("say \"hi\"", row.getContents());
+        assertEquals("sunny", row.getWeather());
+    }
+
+    @Test
+    public void CSV_댓글과_담당자_행을_해석한다() {
+        // when
+        ImportRow comment = importRowParser.parse("comment,10,2,contents", ImportFormat.CSV);
+        ImportRow manager = importRowParser.parse("manager,10,3", ImportFormat.CSV);
+
+        // then
+        assertEquals(10L, comment.getTodoId());
+        assertEquals(2L, comment.getUserId());
+        assertEquals("contents", comment.getContents());
+        assertEquals(10L, manager.getTodoId());
+        assertEquals(3L, manager.getUserId());
+    }
+
+    @Test
+    public void CSV_컬럼_수가_맞지_않으면_에러가_발생한다() {
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                importRowParser.parse("manager,10", ImportFormat.CSV));
+        assertEquals("컬럼 수가 올바르지 않습니다. 기대값: 3, 실제값: 2", exception.getMessage());
+    }
+
+    @Test
+    public void NDJSON_행을_해석한다() {
+        // when
+        ImportRow row = importRowParser.parse("{\"type\":\"comment\",\"todoId\":1,\"userId\":2,\"contents\":\"hello\"}", ImportFormat.NDJSON);
+
+        // then
+        assertEquals("comment", row.getType());
+        assertEquals(1L, row.getTodoId());
+        assertEquals(2L, row.getUserId());
+        assertEquals("hello", row.getContents());
+    }
+}
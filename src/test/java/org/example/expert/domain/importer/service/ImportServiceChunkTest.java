@@ -0,0 +1,124 @@
+package org.example.expert.domain.importer.service;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.importer.dto.response.ImportResponse;
+import org.example.expert.domain.importer.enums.ImportFormat;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 운영과 같이 chunk 마다 별도 트랜잭션으로 커밋되는 경로를 검증하려고 테스트 트랜잭션을 끔
+// 커밋된 데이터가 같은 컨텍스트를 쓰는 다른 테스트에 남지 않도록 끝나면 직접 지움
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({PersistenceConfig.class, ImportService.class, ImportRowParser.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class ImportServiceChunkTest {
+
+    @Autowired
+    private ImportService importService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EntityManager entityManager;
+
+    @AfterEach
+    void tearDown() {
+        commentRepository.deleteAllInBatch();
+        managerRepository.deleteAllInBatch();
+        todoRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void 저장에_실패한_chunk_만_실패로_보고하고_나머지_chunk_는_계속_저장한다() {
+        // given
+        ReflectionTestUtils.setField(importService, "chunkSize", 1);
+        User owner = userRepository.save(new User("owner@a.com", "password", UserRole.USER));
+        String csv = String.join("\n",
+                "type,userId,title,contents,weather",
+                "todo," + owner.getId() + ",first,contents,rainy",
+                "todo," + owner.getId() + "," + "t".repeat(300) + ",contents,rainy",
+                "todo," + owner.getId() + ",third,contents,rainy"
+        );
+
+        // when
+        ImportResponse response = importService.importRows(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), ImportFormat.CSV, StandardCharsets.UTF_8);
+
+        // then
+        assertThat(response.getTotalRows()).isEqualTo(3);
+        assertThat(response.getImportedRows()).isEqualTo(2);
+        assertThat(response.getRejectedRows()).isEqualTo(1);
+        assertThat(response.getChunkCount()).isEqualTo(3);
+        assertThat(response.getErrors()).singleElement().asString().startsWith("3번째 줄: 저장 실패");
+        assertThat(todoRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void 요청한_문자셋으로_본문을_읽는다() {
+        // given
+        User owner = userRepository.save(new User("owner@a.com", "password", UserRole.USER));
+        String csv = "type,userId,title,contents,weather\ntodo," + owner.getId() + ",café,contents,sunny";
+
+        // when
+        ImportResponse response = importService.importRows(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.ISO_8859_1)), ImportFormat.CSV, StandardCharsets.ISO_8859_1);
+
+        // then
+        assertThat(response.getImportedRows()).isEqualTo(1);
+        assertThat(todoRepository.findAll()).singleElement()
+                .satisfies(todo -> assertThat(todo.getTitle()).isEqualTo("café"));
+    }
+
+    @Test
+    void 가져온_담당자는_캐시된_담당자_컬렉션에도_바로_보인다() {
+        // given
+        User owner = userRepository.save(new User("owner@a.com", "password", UserRole.USER));
+        User manager = userRepository.save(new User("manager@a.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "sunny", owner));
+        // 담당자 컬렉션을 한 번 읽어 2차 캐시(todos.managers)에 올려 둠
+        assertThat(managerCount(todo.getId())).isEqualTo(1);
+
+        // when
+        importService.importRows(new ByteArrayInputStream(
+                        ("type,todoId,userId\nmanager," + todo.getId() + "," + manager.getId()).getBytes(StandardCharsets.UTF_8)),
+                ImportFormat.CSV, StandardCharsets.UTF_8);
+
+        // then
+        assertThat(managerCount(todo.getId())).isEqualTo(2);
+    }
+
+    private int managerCount(long todoId) {
+        return transactionTemplate.execute(status -> entityManager.find(Todo.class, todoId).getManagers().size());
+    }
+}
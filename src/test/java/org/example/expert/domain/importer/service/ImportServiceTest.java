@@ -0,0 +1,73 @@
+package org.example.expert.domain.importer.service;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.importer.dto.response.ImportResponse;
+import org.example.expert.domain.importer.enums.ImportFormat;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({PersistenceConfig.class, ImportService.class, ImportRowParser.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class ImportServiceTest {
+
+    @Autowired
+    private ImportService importService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    @Test
+    void CSV_를_chunk_단위로_저장하고_잘못된_행은_건너뛴다() {
+        // given
+        ReflectionTestUtils.setField(importService, "chunkSize", 2);
+        User owner = userRepository.save(new User("owner@a.com", "password", UserRole.USER));
+        User manager = userRepository.save(new User("manager@a.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "sunny", owner));
+
+        String csv = String.join("\n",
+                "type,userId,title,contents,weather",
+                "todo," + owner.getId() + ",imported,contents,rainy",
+                "todo,999999,unknown user,contents,rainy",
+                "manager," + todo.getId() + "," + manager.getId(),
+                "comment," + todo.getId() + "," + manager.getId() + ",hello",
+                "comment,999999," + manager.getId() + ",missing todo"
+        );
+
+        // when
+        ImportResponse response = importService.importRows(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), ImportFormat.CSV, StandardCharsets.UTF_8);
+
+        // then
+        assertThat(response.getTotalRows()).isEqualTo(5);
+        assertThat(response.getImportedRows()).isEqualTo(3);
+        assertThat(response.getRejectedRows()).isEqualTo(2);
+        assertThat(response.getChunkCount()).isEqualTo(2);
+        assertThat(response.getErrors()).hasSize(2);
+        assertThat(todoRepository.count()).isEqualTo(2);
+        assertThat(managerRepository.count()).isEqualTo(3); // 일정 작성자 2 + 추가 담당자 1
+        assertThat(commentRepository.count()).isEqualTo(1);
+    }
+}
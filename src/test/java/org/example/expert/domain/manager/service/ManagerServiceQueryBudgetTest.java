@@ -0,0 +1,102 @@
+package org.example.expert.domain.manager.service;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.QueryCountingConfig;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import static org.example.expert.support.QueryCountAssert.assertQueries;
+
+@DataJpaTest
+@Import({PersistenceConfig.class, QueryCountingConfig.class, ManagerService.class})
+class ManagerServiceQueryBudgetTest {
+
+    @Autowired
+    private ManagerService managerService;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void 담당자_등록은_SELECT_2번과_INSERT_1번이다() {
+        // given
+        User owner = new User("owner@a.com", "password", UserRole.USER);
+        User other = new User("other@a.com", "password", UserRole.USER);
+        entityManager.persist(owner);
+        entityManager.persist(other);
+        Todo todo = new Todo("title", "contents", "sunny", owner);
+        entityManager.persist(todo);
+        entityManager.flush();
+        entityManager.clear();
+
+        AuthUser authUser = new AuthUser(owner.getId(), owner.getEmail(), UserRole.USER);
+
+        // when & then
+        // 일정과 담당자 유저만 조회, 담당자 컬렉션은 bag 이라 addManager 에서 초기화하지 않음
+        assertQueries(() -> {
+            managerService.saveManager(authUser, todo.getId(), new ManagerSaveRequest(other.getId()));
+            entityManager.flush();
+        })
+                .hasSelects(2)
+                .hasInserts(1)
+                .hasUpdates(0)
+                .hasDeletes(0);
+    }
+
+    @Test
+    void 담당자_목록은_담당자_수와_관계없이_SELECT_2번이다() {
+        // given
+        User owner = new User("owner@a.com", "password", UserRole.USER);
+        entityManager.persist(owner);
+        Todo todo = new Todo("title", "contents", "sunny", owner);
+        for (int i = 0; i < 5; i++) {
+            User managerUser = new User("manager" + i + "@a.com", "password", UserRole.USER);
+            entityManager.persist(managerUser);
+            todo.addManager(new Manager(managerUser, todo));
+        }
+        entityManager.persist(todo);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when & then
+        // 일정 존재 확인 1번, 담당자 유저는 fetch join 으로 함께 읽으므로 담당자마다 유저 조회가 나가면 안 됨
+        assertQueries(() -> managerService.getManagers(todo.getId()))
+                .hasSelects(2)
+                .hasStatements(2);
+    }
+
+    @Test
+    void 담당자_삭제는_조회_4번과_DELETE_1번이다() {
+        // given
+        User owner = new User("owner@a.com", "password", UserRole.USER);
+        User other = new User("other@a.com", "password", UserRole.USER);
+        entityManager.persist(owner);
+        entityManager.persist(other);
+        Todo todo = new Todo("title", "contents", "sunny", owner);
+        Manager manager = new Manager(other, todo);
+        todo.addManager(manager);
+        entityManager.persist(todo);
+        entityManager.flush();
+        entityManager.clear();
+
+        AuthUser authUser = new AuthUser(owner.getId(), owner.getEmail(), UserRole.USER);
+
+        // when & then
+        // 유저, 일정, 담당자를 각각 조회하고 removeManager 에서 담당자 컬렉션을 초기화
+        assertQueries(() -> {
+            managerService.deleteManager(authUser, todo.getId(), manager.getId());
+            entityManager.flush();
+        })
+                .hasSelects(4)
+                .hasInserts(0)
+                .hasDeletes(1);
+    }
+}
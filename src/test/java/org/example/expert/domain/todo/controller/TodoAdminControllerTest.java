@@ -0,0 +1,76 @@
+package org.example.expert.domain.todo.controller;
+
+import org.example.expert.config.GlobalExceptionHandler;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.response.TodoCacheStatsResponse;
+import org.example.expert.domain.todo.service.TodoAdminService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+public class TodoAdminControllerTest {
+
+    @Mock
+    private TodoAdminService todoAdminService;
+
+    @InjectMocks
+    private TodoAdminController todoAdminController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(todoAdminController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void deleteTodo_shouldReturnOk() throws Exception {
+        // When & Then
+        mockMvc.perform(delete("/admin/todos/{todoId}", 1L))
+                .andExpect(status().isOk())
+                .andDo(print());
+
+        verify(todoAdminService, times(1)).deleteTodo(1L);
+    }
+
+    @Test
+    void deleteTodo_shouldReturnBadRequest_whenTodoDoesNotExist() throws Exception {
+        // Given
+        doThrow(new InvalidRequestException("Todo not found")).when(todoAdminService).deleteTodo(1L);
+
+        // When & Then
+        mockMvc.perform(delete("/admin/todos/{todoId}", 1L))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Todo not found"))
+                .andDo(print());
+    }
+
+    @Test
+    void getCacheStats_shouldReturnStats() throws Exception {
+        // Given
+        when(todoAdminService.getCacheStats())
+                .thenReturn(new TodoCacheStatsResponse(9, 1, 0.9, 1, 0, 1000.0, 0, 1, 200));
+
+        // When & Then
+        mockMvc.perform(get("/admin/todos/cache"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hitRate").value(0.9))
+                .andExpect(jsonPath("$.estimatedSize").value(1))
+                .andDo(print());
+    }
+}
@@ -3,11 +3,19 @@ package org.example.expert.domain.todo.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.expert.config.GlobalExceptionHandler;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.response.PageResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.PreconditionFailedException;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchItemResponse;
+import org.example.expert.domain.todo.dto.response.TodoBatchSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoChangesResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.service.TodoChangeService;
 import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.todo.service.TodoVersionRegistry;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,10 +23,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -26,12 +32,17 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -40,6 +51,10 @@ public class TodoControllerTest {
 
     @Mock
     private TodoService todoService;
+    @Mock
+    private TodoChangeService todoChangeService;
+    @Spy
+    private TodoVersionRegistry todoVersionRegistry = new TodoVersionRegistry();
 
     @InjectMocks
     private TodoController todoController;
@@ -92,6 +107,31 @@ public class TodoControllerTest {
                 .andDo(print());
     }
 
+    @Test
+    void saveTodos_shouldReturnResultsPerItem() throws Exception {
+        // Given
+        List<TodoSaveRequest> requests = List.of(
+                new TodoSaveRequest("Todo 1", "Contents 1"),
+                new TodoSaveRequest("", "Contents 2")
+        );
+        TodoBatchSaveResponse response = new TodoBatchSaveResponse(1, 1, List.of(
+                TodoBatchItemResponse.created(0, 1L),
+                TodoBatchItemResponse.failed(1, "제목과 내용은 필수입니다.")
+        ));
+
+        when(todoService.saveTodos(any(AuthUser.class), anyList())).thenReturn(response);
+
+        // When & Then
+        mockMvc.perform(post("/todos/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.createdCount").value(1))
+                .andExpect(jsonPath("$.results[0].id").value(1L))
+                .andExpect(jsonPath("$.results[1].error").value("제목과 내용은 필수입니다."))
+                .andDo(print());
+    }
+
     @Test
     void getTodos_shouldReturnPagedListOfTodos() throws Exception {
         // Given
@@ -101,7 +141,7 @@ public class TodoControllerTest {
                 new TodoResponse(2L, "Test Todo 2", "Description 2",
                         "sunny", new UserResponse(1L, "test@example.com"), LocalDateTime.now(), LocalDateTime.now())
         );
-        Page<TodoResponse> todoPage = new PageImpl<>(todoResponses, PageRequest.of(0, 10), 2);
+        PageResponse<TodoResponse> todoPage = new PageResponse<>(todoResponses, 1, 10, 2, 1);
 
         when(todoService.getTodos(1, 10)).thenReturn(todoPage);
 
@@ -114,6 +154,9 @@ public class TodoControllerTest {
                 .andExpect(jsonPath("$.content[0].title").value("Test Todo 1"))
                 .andExpect(jsonPath("$.content[1].id").value(2L))
                 .andExpect(jsonPath("$.content[1].title").value("Test Todo 2"))
+                .andExpect(jsonPath("$.page.number").value(1))
+                .andExpect(jsonPath("$.page.totalElements").value(2))
+                .andExpect(jsonPath("$.pageable").doesNotExist())
                 .andDo(print());
 
         verify(todoService, times(1)).getTodos(1, 10);
@@ -151,4 +194,88 @@ public class TodoControllerTest {
 
         verify(todoService, times(1)).getTodo(1L);
     }
-}
\ No newline at end of file
+
+    @Test
+    void getTodoChanges_shouldReturnChangesSinceWatermark() throws Exception {
+        // Given
+        TodoChangesResponse changes = new TodoChangesResponse(
+                List.of(new TodoResponse(3L, "Test Todo", "This is a test",
+                        "sunny", new UserResponse(1L, "test@example.com"), LocalDateTime.now(), LocalDateTime.now())),
+                List.of(2L),
+                "next",
+                false
+        );
+
+        when(todoChangeService.getChanges("prev")).thenReturn(changes);
+
+        // When & Then
+        mockMvc.perform(get("/todos/changes").param("since", "prev"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.todos[0].id").value(3L))
+                .andExpect(jsonPath("$.deletedTodoIds[0]").value(2L))
+                .andExpect(jsonPath("$.watermark").value("next"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    void getTodo_shouldReturnNotModifiedWithoutCallingService() throws Exception {
+        // Given
+        String etag = todoVersionRegistry.etag(1L);
+
+        // When & Then
+        mockMvc.perform(get("/todos/1").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag));
+
+        verify(todoService, never()).getTodo(1L);
+    }
+
+    @Test
+    void getTodo_shouldReturnBodyAfterVersionChanges() throws Exception {
+        // Given
+        String etag = todoVersionRegistry.etag(1L);
+        todoVersionRegistry.bump(1L);
+        TodoResponse todoResponse = new TodoResponse(1L, "Test Todo", "This is a test",
+                "sunny", new UserResponse(1L, "test@example.com"), LocalDateTime.now(), LocalDateTime.now());
+
+        when(todoService.getTodo(1L)).thenReturn(todoResponse);
+
+        // When & Then
+        mockMvc.perform(get("/todos/1").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", todoVersionRegistry.etag(1L)))
+                .andExpect(jsonPath("$.id").value(1L));
+    }
+
+    @Test
+    void getTodos_withFields_shouldReturnOnlyRequestedFields() throws Exception {
+        // Given
+        PageResponse<Map<String, Object>> todoPage = new PageResponse<>(
+                List.of(Map.of("id", 1L, "title", "Test Todo 1")), 1, 10, 1, 1);
+
+        when(todoService.getTodos(1, 10, "title")).thenReturn(todoPage);
+
+        // When & Then
+        mockMvc.perform(get("/todos").param("fields", "title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("Test Todo 1"))
+                .andExpect(jsonPath("$.content[0].contents").doesNotExist());
+
+        verify(todoService, never()).getTodos(1, 10);
+    }
+
+    @Test
+    void updateTodo_버전이_맞지_않으면_412_를_반환한다() throws Exception {
+        // Given
+        when(todoService.updateTodo(any(), anyLong(), any(), any(TodoUpdateRequest.class)))
+                .thenThrow(new PreconditionFailedException("다른 요청이 먼저 수정했습니다. 최신 버전: \"4\""));
+
+        // When & Then
+        mockMvc.perform(patch("/todos/1")
+                        .header("If-Match", "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TodoUpdateRequest("new title", null))))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.code").value(412));
+    }
+}
@@ -0,0 +1,114 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.query.SparseFieldset;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.Session;
+import org.hibernate.SessionEventListener;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(PersistenceConfig.class)
+class TodoRepositoryTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void saveAll_시퀀스로_채번하고_담당자와_함께_테이블마다_배치_INSERT_한_번으로_저장한다() {
+        // given
+        User user = userRepository.save(new User("a@a.com", "password", UserRole.USER));
+        entityManager.flush();
+        List<Todo> todos = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            todos.add(new Todo("title" + i, "contents" + i, "sunny", user));
+        }
+        // 배치로 실행된 INSERT 는 jdbcExecuteBatch 로, 하나씩 실행된 INSERT 는 jdbcExecuteStatement 로 알려짐
+        AtomicInteger batches = new AtomicInteger();
+        entityManager.unwrap(Session.class).addEventListeners(new SessionEventListener() {
+            @Override
+            public void jdbcExecuteBatchStart() {
+                batches.incrementAndGet();
+            }
+        });
+
+        // when
+        List<Todo> savedTodos = todoRepository.saveAll(todos);
+        entityManager.flush();
+        entityManager.clear();
+
+        // then: todos 3건, managers 3건이 각각 배치 하나로 묶임
+        assertThat(savedTodos).extracting(Todo::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(batches.get()).isEqualTo(2);
+        assertThat(todoRepository.count()).isEqualTo(3);
+        assertThat(managerRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    void deleteByIdInBulk_댓글과_담당자를_지운_뒤_일정을_삭제한다() {
+        // given
+        User user = userRepository.save(new User("b@b.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "sunny", user));
+        commentRepository.save(new Comment("comment", user, todo));
+        entityManager.flush();
+
+        // when
+        int deletedComments = commentRepository.deleteAllByTodoIdInBulk(todo.getId());
+        int deletedManagers = managerRepository.deleteAllByTodoIdInBulk(todo.getId());
+        int deleted = todoRepository.deleteByIdInBulk(todo.getId());
+
+        // then
+        assertThat(deletedComments).isEqualTo(1);
+        assertThat(deletedManagers).isEqualTo(1);
+        assertThat(deleted).isEqualTo(1);
+        assertThat(commentRepository.count()).isZero();
+        assertThat(todoRepository.findById(todo.getId())).isEmpty();
+    }
+
+    @Test
+    void findAllProjected_요청한_필드만_중첩_구조로_반환한다() {
+        // given
+        User user = userRepository.save(new User("c@c.com", "password", UserRole.USER));
+        todoRepository.save(new Todo("title", "contents", "sunny", user));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        Page<Map<String, Object>> page = todoRepository.findAllProjected(
+                SparseFieldset.parse("title,user.email", TodoQueryRepository.FIELDS), PageRequest.of(0, 10));
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(1);
+        Map<String, Object> todo = page.getContent().get(0);
+        assertThat(todo).containsOnlyKeys("id", "title", "user");
+        assertThat(todo.get("title")).isEqualTo("title");
+        assertThat(todo.get("user")).isEqualTo(Map.of("email", "c@c.com"));
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.event.TodoChangedEvent;
+import org.example.expert.domain.todo.entity.TodoTombstone;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoTombstoneRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.inOrder;
+
+@ExtendWith(MockitoExtension.class)
+class TodoAdminServiceTest {
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private ManagerRepository managerRepository;
+    @Mock
+    private TodoTombstoneRepository todoTombstoneRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @InjectMocks
+    private TodoAdminService todoAdminService;
+
+    @Test
+    void delete_todo_자식_테이블부터_벌크_삭제() {
+        // given
+        long todoId = 1;
+        given(todoRepository.deleteByIdInBulk(todoId)).willReturn(1);
+
+        // when
+        todoAdminService.deleteTodo(todoId);
+
+        // then
+        InOrder inOrder = inOrder(commentRepository, managerRepository, todoRepository);
+        inOrder.verify(commentRepository).deleteAllByTodoIdInBulk(todoId);
+        inOrder.verify(managerRepository).deleteAllByTodoIdInBulk(todoId);
+        inOrder.verify(todoRepository).deleteByIdInBulk(todoId);
+        verify(todoTombstoneRepository).save(any(TodoTombstone.class));
+        verify(eventPublisher).publishEvent(any(TodoChangedEvent.class));
+    }
+
+    @Test
+    void delete_todo_todo_notfound() {
+        // given
+        long todoId = 1;
+        given(todoRepository.deleteByIdInBulk(todoId)).willReturn(0);
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> todoAdminService.deleteTodo(todoId));
+        assertEquals("Todo not found", exception.getMessage());
+        verify(todoTombstoneRepository, never()).save(any(TodoTombstone.class));
+    }
+
+    @Test
+    void delete_todo_보존_기간이_지난_tombstone_은_하루에_한_번만_정리한다() {
+        // given
+        ReflectionTestUtils.setField(todoAdminService, "tombstoneRetentionDays", 30);
+        given(todoRepository.deleteByIdInBulk(any(Long.class))).willReturn(1);
+
+        // when
+        todoAdminService.deleteTodo(1L);
+        todoAdminService.deleteTodo(2L);
+
+        // then
+        verify(todoTombstoneRepository, times(1)).deleteAllDeletedBefore(LocalDate.now().minusDays(30).atStartOfDay());
+    }
+}
@@ -0,0 +1,117 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.response.TodoChangesResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.entity.TodoTombstone;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoTombstoneRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest
+@Import({PersistenceConfig.class, TodoChangeService.class})
+class TodoChangeServiceTest {
+
+    @Autowired
+    private TodoChangeService todoChangeService;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private TodoTombstoneRepository todoTombstoneRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void watermark_이후의_변경분만_나눠서_내려준다() {
+        // given
+        ReflectionTestUtils.setField(todoChangeService, "maxSize", 2);
+        ReflectionTestUtils.setField(todoChangeService, "settleWindow", Duration.ZERO);
+        User user = userRepository.save(new User("a@a.com", "password", UserRole.USER));
+        for (int i = 0; i < 3; i++) {
+            todoRepository.saveAndFlush(new Todo("title" + i, "contents", "sunny", user));
+        }
+        todoTombstoneRepository.saveAndFlush(new TodoTombstone(999L));
+        // watermark 는 DB 에 저장된 정밀도의 modifiedAt 으로 만들어져야 하므로 영속성 컨텍스트를 비움
+        entityManager.clear();
+
+        // when
+        TodoChangesResponse first = todoChangeService.getChanges(null);
+        TodoChangesResponse second = todoChangeService.getChanges(first.getWatermark());
+        TodoChangesResponse third = todoChangeService.getChanges(second.getWatermark());
+
+        // then
+        assertThat(first.getTodos()).extracting(TodoResponse::getTitle).containsExactly("title0", "title1");
+        assertThat(first.getDeletedTodoIds()).containsExactly(999L);
+        assertThat(first.isHasMore()).isTrue();
+
+        assertThat(second.getTodos()).extracting(TodoResponse::getTitle).containsExactly("title2");
+        assertThat(second.getDeletedTodoIds()).isEmpty();
+        assertThat(second.isHasMore()).isFalse();
+
+        assertThat(third.getTodos()).isEmpty();
+        assertThat(third.getDeletedTodoIds()).isEmpty();
+        assertThat(third.isHasMore()).isFalse();
+    }
+
+    @Test
+    void settle_window_안의_변경분은_다음_요청으로_미루고_watermark_도_넘기지_않는다() {
+        // given
+        ReflectionTestUtils.setField(todoChangeService, "settleWindow", Duration.ofMinutes(1));
+        User user = userRepository.save(new User("a@a.com", "password", UserRole.USER));
+        todoRepository.saveAndFlush(new Todo("title", "contents", "sunny", user));
+        todoTombstoneRepository.saveAndFlush(new TodoTombstone(999L));
+        entityManager.clear();
+
+        // when
+        TodoChangesResponse response = todoChangeService.getChanges(null);
+
+        // then
+        assertThat(response.getTodos()).isEmpty();
+        assertThat(response.getDeletedTodoIds()).isEmpty();
+        // 늦게 커밋되는 트랜잭션이 이보다 앞선 modifiedAt 으로 나타나도 다음 요청에서 받을 수 있어야 함
+        TodoChangeWatermark watermark = TodoChangeWatermark.decode(response.getWatermark());
+        assertThat(watermark.getModifiedAt()).isBefore(LocalDateTime.now().minusSeconds(59));
+        assertThat(watermark.getDeletedAt()).isBefore(LocalDateTime.now().minusSeconds(59));
+
+        // settle window 가 지나면 같은 watermark 로 받음
+        ReflectionTestUtils.setField(todoChangeService, "settleWindow", Duration.ZERO);
+        TodoChangesResponse next = todoChangeService.getChanges(response.getWatermark());
+        assertThat(next.getTodos()).extracting(TodoResponse::getTitle).containsExactly("title");
+        assertThat(next.getDeletedTodoIds()).containsExactly(999L);
+    }
+
+    @Test
+    void tombstone_보존_기간보다_오래된_watermark_는_전체_동기화를_요구한다() {
+        // given
+        LocalDateTime old = LocalDateTime.now().minusDays(31);
+        String watermark = new TodoChangeWatermark(old, 1L, old, 1L).encode();
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoChangeService.getChanges(watermark));
+        assertThat(exception.getMessage()).contains("전체 동기화");
+    }
+
+    @Test
+    void 잘못된_watermark_는_거부한다() {
+        assertThrows(InvalidRequestException.class, () -> todoChangeService.getChanges("not-a-watermark"));
+    }
+}
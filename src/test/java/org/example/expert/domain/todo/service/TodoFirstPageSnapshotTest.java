@@ -0,0 +1,94 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class TodoFirstPageSnapshotTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+    @InjectMocks
+    private TodoFirstPageSnapshot todoFirstPageSnapshot;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(todoFirstPageSnapshot, "snapshotSize", 3);
+    }
+
+    @Test
+    void 스냅샷을_만들기_전에는_DB_조회로_넘긴다() {
+        assertThat(todoFirstPageSnapshot.get(1, 3)).isEmpty();
+    }
+
+    @Test
+    void 첫_페이지가_아니거나_스냅샷보다_크면_DB_조회로_넘긴다() {
+        // given
+        givenTodosInDatabase(3, 5);
+        todoFirstPageSnapshot.rebuild();
+
+        // when & then
+        assertThat(todoFirstPageSnapshot.get(2, 3)).isEmpty();
+        assertThat(todoFirstPageSnapshot.get(1, 4)).isEmpty();
+        assertThat(todoFirstPageSnapshot.get(1, 2)).hasValueSatisfying(page -> {
+            assertThat(page.getContent()).extracting(TodoResponse::getId).containsExactly(3L, 2L);
+            assertThat(page.getTotalElements()).isEqualTo(5);
+        });
+    }
+
+    @Test
+    void 새_일정은_다시_조회하지_않고_앞에_추가하고_중복은_무시한다() {
+        // given
+        givenTodosInDatabase(3, 3);
+        todoFirstPageSnapshot.rebuild();
+
+        // when
+        todoFirstPageSnapshot.onTodoSaved(new TodoSavedEvent(List.of(response(4L), response(5L))));
+        todoFirstPageSnapshot.onTodoSaved(new TodoSavedEvent(List.of(response(5L))));
+
+        // then
+        Page<TodoResponse> page = todoFirstPageSnapshot.get(1, 3).orElseThrow();
+        assertThat(page.getContent()).extracting(TodoResponse::getId).containsExactly(5L, 4L, 3L);
+        assertThat(page.getTotalElements()).isEqualTo(5);
+    }
+
+    // id 가 클수록 최신인 일정 count 개를 DB 에서 읽은 것처럼 준비
+    private void givenTodosInDatabase(int count, long totalElements) {
+        User user = new User("a@a.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        List<Todo> todos = new ArrayList<>();
+        for (long id = count; id >= 1; id--) {
+            Todo todo = new Todo("title" + id, "contents", "sunny", user);
+            ReflectionTestUtils.setField(todo, "id", id);
+            todos.add(todo);
+        }
+        given(todoRepository.findAllByOrderByModifiedAtDesc(PageRequest.of(0, 3)))
+                .willReturn(new PageImpl<>(todos, PageRequest.of(0, 3), totalElements));
+    }
+
+    private TodoResponse response(long id) {
+        return new TodoResponse(id, "title" + id, "contents", "sunny", new UserResponse(1L, "a@a.com"), null, null);
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TodoResponseCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final TodoResponseCache todoResponseCache = new TodoResponseCache(1024 * 1024, Duration.ofMinutes(5), nanos::get);
+
+    @Test
+    void 무효화를_놓친_항목도_TTL_이_지나면_다시_읽는다() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        todoResponseCache.get(1L, id -> todoResponse(id, loads.incrementAndGet()));
+
+        // when
+        nanos.addAndGet(Duration.ofMinutes(4).toNanos());
+        TodoResponse beforeExpiry = todoResponseCache.get(1L, id -> todoResponse(id, loads.incrementAndGet()));
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+        TodoResponse afterExpiry = todoResponseCache.get(1L, id -> todoResponse(id, loads.incrementAndGet()));
+
+        // then
+        assertThat(beforeExpiry.getVersion()).isEqualTo(1L);
+        assertThat(afterExpiry.getVersion()).isEqualTo(2L);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    private static TodoResponse todoResponse(long id, long version) {
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 0, 0);
+        return new TodoResponse(id, "title", "contents", "sunny", new UserResponse(1L, "a@a.com"), now, now, version);
+    }
+}
@@ -0,0 +1,131 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.QueryCountingConfig;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.http.VersionETag;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import static org.example.expert.support.QueryCountAssert.assertQueries;
+
+@DataJpaTest
+@Import({PersistenceConfig.class, QueryCountingConfig.class, TodoService.class, TodoResponseCache.class,
+        TodoFirstPageSnapshot.class, LocalValidatorFactoryBean.class, TodoServiceQueryBudgetTest.StubWeatherConfig.class})
+class TodoServiceQueryBudgetTest {
+
+    @Autowired
+    private TodoService todoService;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void 일정_작성은_일정과_작성자_담당자_INSERT_2번이다() {
+        // given
+        User owner = persistUser("owner@a.com");
+        clear();
+        AuthUser authUser = new AuthUser(owner.getId(), owner.getEmail(), UserRole.USER);
+
+        // when & then
+        // 작성자는 AuthUser 의 id 로만 참조하므로 유저를 조회하지 않음
+        assertQueries(() -> {
+            todoService.saveTodo(authUser, new TodoSaveRequest("title", "contents"));
+            entityManager.flush();
+        })
+                .hasSelects(0)
+                .hasInserts(2)
+                .hasUpdates(0)
+                .hasDeletes(0);
+    }
+
+    @Test
+    void 목록_조회는_작성자_수와_관계없이_목록과_개수_SELECT_2번이다() {
+        // given
+        // 첫 페이지는 스냅샷에서 반환하므로 DB 를 읽는 두 번째 페이지로 확인, 마지막 페이지가 아니어야 개수 쿼리가 나감
+        for (int i = 0; i < 25; i++) {
+            persistTodo(persistUser("writer" + i + "@a.com"));
+        }
+        clear();
+
+        // when & then
+        // 작성자는 fetch join 으로 함께 읽으므로 일정마다 유저 조회가 나가면 안 됨
+        assertQueries(() -> todoService.getTodos(2, 10))
+                .hasSelects(2)
+                .hasStatements(2);
+    }
+
+    @Test
+    void 단건_조회는_작성자까지_SELECT_1번이고_두_번째는_응답_캐시에서_읽는다() {
+        // given
+        Todo todo = persistTodo(persistUser("owner@a.com"));
+        clear();
+
+        // when & then
+        assertQueries(() -> todoService.getTodo(todo.getId()))
+                .hasSelects(1)
+                .hasStatements(1);
+        assertQueries(() -> todoService.getTodo(todo.getId()))
+                .hasStatements(0);
+    }
+
+    @Test
+    void 일정_수정은_SELECT_1번과_UPDATE_1번이다() {
+        // given
+        User owner = persistUser("owner@a.com");
+        Todo todo = persistTodo(owner);
+        clear();
+        AuthUser authUser = new AuthUser(owner.getId(), owner.getEmail(), UserRole.USER);
+
+        // when & then
+        assertQueries(() -> todoService.updateTodo(authUser, todo.getId(), VersionETag.of(todo.getVersion()),
+                new TodoUpdateRequest("new title", null)))
+                .hasSelects(1)
+                .hasUpdates(1)
+                .hasInserts(0)
+                .hasDeletes(0);
+    }
+
+    private User persistUser(String email) {
+        User user = new User(email, "password", UserRole.USER);
+        entityManager.persist(user);
+        return user;
+    }
+
+    private Todo persistTodo(User user) {
+        Todo todo = new Todo("title", "contents", "sunny", user);
+        entityManager.persist(todo);
+        return todo;
+    }
+
+    private void clear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @TestConfiguration
+    static class StubWeatherConfig {
+
+        @Bean
+        WeatherClient weatherClient() {
+            return new WeatherClient(new RestTemplateBuilder()) {
+                @Override
+                public String getTodayWeather() {
+                    return "sunny";
+                }
+            };
+        }
+    }
+}
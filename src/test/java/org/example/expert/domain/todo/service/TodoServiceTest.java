@@ -1,27 +1,40 @@
 package org.example.expert.domain.todo.service;
 
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.assertj.core.api.Assertions;
 import org.example.expert.client.WeatherClient;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.response.PageResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.PreconditionFailedException;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchSaveResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.event.TodoChangedEvent;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoSummaryRepository;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -29,7 +42,11 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,7 +54,17 @@ class TodoServiceTest {
     @Mock
     private TodoRepository todoRepository;
     @Mock
+    private TodoSummaryRepository todoSummaryRepository;
+    @Mock
     private WeatherClient weatherClient;
+    @Spy
+    private TodoResponseCache todoResponseCache = new TodoResponseCache(1024 * 1024, Duration.ofMinutes(5));
+    @Mock
+    private TodoFirstPageSnapshot todoFirstPageSnapshot;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
     @InjectMocks
     private TodoService todoService;
 
@@ -94,8 +121,8 @@ class TodoServiceTest {
         given(todoRepository.findAllByOrderByModifiedAtDesc(pageable)).willReturn(todos);
 
         // when & then
-        Page<TodoResponse> responses = todoService.getTodos(page, size);
-        Assertions.assertThat(responses).isInstanceOf(Page.class);
+        PageResponse<TodoResponse> responses = todoService.getTodos(page, size);
+        Assertions.assertThat(responses.getNumber()).isEqualTo(1);
         Assertions.assertThat(responses.getTotalElements()).isEqualTo(1);
         Assertions.assertThat(responses.getTotalPages()).isEqualTo(1);
         TodoResponse todoResponse = responses.getContent().get(0);
@@ -138,4 +165,141 @@ class TodoServiceTest {
         assertEquals("Todo not found", exception.getMessage());
     }
 
-}
\ No newline at end of file
+    @Test
+    void save_todos_날씨는_한_번만_조회하고_항목별_결과를_순서대로_반환한다() {
+        // given
+        ReflectionTestUtils.setField(todoService, "maxBatchSize", 10);
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        List<TodoSaveRequest> requests = List.of(
+                new TodoSaveRequest("title1", "contents1"),
+                new TodoSaveRequest(" ", "contents2"),
+                new TodoSaveRequest("title3", "contents3")
+        );
+        given(weatherClient.getTodayWeather()).willReturn("sunny");
+        given(todoRepository.saveAll(anyList())).willAnswer(invocation -> {
+            List<Todo> todos = invocation.getArgument(0);
+            long id = 100;
+            for (Todo todo : todos) {
+                ReflectionTestUtils.setField(todo, "id", id++);
+            }
+            return todos;
+        });
+
+        // when
+        TodoBatchSaveResponse response = todoService.saveTodos(authUser, requests);
+
+        // then
+        verify(weatherClient, times(1)).getTodayWeather();
+        Assertions.assertThat(response.getCreatedCount()).isEqualTo(2);
+        Assertions.assertThat(response.getFailedCount()).isEqualTo(1);
+        Assertions.assertThat(response.getResults().get(0).getId()).isEqualTo(100L);
+        Assertions.assertThat(response.getResults().get(1).getError()).isEqualTo("제목과 내용은 필수입니다.");
+        Assertions.assertThat(response.getResults().get(2).getId()).isEqualTo(101L);
+    }
+
+    @Test
+    void save_todos_최대_개수를_넘으면_에러가_발생한다() {
+        // given
+        ReflectionTestUtils.setField(todoService, "maxBatchSize", 1);
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        List<TodoSaveRequest> requests = List.of(
+                new TodoSaveRequest("title1", "contents1"),
+                new TodoSaveRequest("title2", "contents2")
+        );
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> todoService.saveTodos(authUser, requests));
+        assertEquals("한 번에 등록할 수 있는 일정은 최대 1개입니다.", exception.getMessage());
+        verify(weatherClient, never()).getTodayWeather();
+    }
+
+    @Test
+    void get_todo_두_번째_조회는_캐시에서_반환한다() {
+        // given
+        User user = User.fromAuthUser(new AuthUser(1L, "a@a.com", UserRole.USER));
+        long todoId = 1;
+        Todo todo = new Todo("title", "contents", "sunny", user);
+        ReflectionTestUtils.setField(todo, "id", todoId);
+        given(todoRepository.findByIdWithUser(todoId)).willReturn(Optional.of(todo));
+
+        // when
+        todoService.getTodo(todoId);
+        todoService.getTodo(todoId);
+
+        // then
+        verify(todoRepository, times(1)).findByIdWithUser(todoId);
+        Assertions.assertThat(todoResponseCache.getStats().getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void get_todo_무효화_이후에는_다시_조회한다() {
+        // given
+        User user = User.fromAuthUser(new AuthUser(1L, "a@a.com", UserRole.USER));
+        long todoId = 1;
+        Todo todo = new Todo("title", "contents", "sunny", user);
+        ReflectionTestUtils.setField(todo, "id", todoId);
+        given(todoRepository.findByIdWithUser(todoId)).willReturn(Optional.of(todo));
+
+        // when
+        todoService.getTodo(todoId);
+        todoResponseCache.invalidate(todoId);
+        todoService.getTodo(todoId);
+
+        // then
+        verify(todoRepository, times(2)).findByIdWithUser(todoId);
+    }
+
+    @Test
+    void get_todos_첫_페이지는_스냅샷에서_반환한다() {
+        // given
+        TodoResponse todoResponse = new TodoResponse(1L, "title", "contents", "Sunny",
+                new UserResponse(1L, "a@a.com"), LocalDateTime.now(), LocalDateTime.now(), 0L);
+        Page<TodoResponse> snapshot = new PageImpl<>(List.of(todoResponse), PageRequest.of(0, 10), 1);
+        given(todoFirstPageSnapshot.get(1, 10)).willReturn(Optional.of(snapshot));
+
+        // when
+        PageResponse<TodoResponse> responses = todoService.getTodos(1, 10);
+
+        // then
+        Assertions.assertThat(responses.getContent()).containsExactly(todoResponse);
+        Assertions.assertThat(responses.getTotalElements()).isEqualTo(1);
+        verify(todoRepository, never()).findAllByOrderByModifiedAtDesc(any(Pageable.class));
+    }
+
+    @Test
+    void update_todo_If_Match_버전이_다르면_수정하지_않는다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        Todo todo = new Todo("title", "contents", "sunny", User.fromAuthUser(authUser));
+        ReflectionTestUtils.setField(todo, "id", 1L);
+        ReflectionTestUtils.setField(todo, "version", 3L);
+        given(todoRepository.findByIdWithUser(1L)).willReturn(Optional.of(todo));
+
+        // when
+        assertThrows(PreconditionFailedException.class, () ->
+                todoService.updateTodo(authUser, 1L, "\"2\"", new TodoUpdateRequest("new title", null)));
+
+        // then
+        assertEquals("title", todo.getTitle());
+        verify(todoRepository, never()).flush();
+    }
+
+    @Test
+    void update_todo_null_인_필드는_그대로_두고_변경_이벤트를_발행한다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        Todo todo = new Todo("title", "contents", "sunny", User.fromAuthUser(authUser));
+        ReflectionTestUtils.setField(todo, "id", 1L);
+        ReflectionTestUtils.setField(todo, "version", 3L);
+        given(todoRepository.findByIdWithUser(1L)).willReturn(Optional.of(todo));
+
+        // when
+        TodoResponse response = todoService.updateTodo(authUser, 1L, "\"3\"", new TodoUpdateRequest("new title", null));
+
+        // then
+        assertEquals("new title", response.getTitle());
+        assertEquals("contents", response.getContents());
+        verify(todoRepository).flush();
+        verify(eventPublisher).publishEvent(any(TodoChangedEvent.class));
+    }
+}
@@ -0,0 +1,154 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.event.CommentSavedEvent;
+import org.example.expert.domain.comment.event.CommentsPurgedEvent;
+import org.example.expert.domain.manager.event.ManagerChangedEvent;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.entity.TodoSummary;
+import org.example.expert.domain.todo.event.TodoChangedEvent;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoSummaryRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// @DataJpaTest 는 롤백되어 커밋 직전 리스너가 실행되지 않으므로 이벤트 메서드를 직접 호출
+@DataJpaTest
+@Import({PersistenceConfig.class, TodoSummaryProjector.class})
+class TodoSummaryProjectorTest {
+
+    @Autowired
+    private TodoSummaryProjector todoSummaryProjector;
+    @Autowired
+    private TodoSummaryRepository todoSummaryRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void 새_일정은_작성자_이메일과_담당자_수를_포함해_추가된다() {
+        // given
+        User user = userRepository.save(new User("a@a.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "sunny", user));
+
+        // when
+        todoSummaryProjector.onTodoSaved(new TodoSavedEvent(List.of(TodoResponse.from(todo))));
+
+        // then
+        TodoSummary summary = find(todo.getId());
+        assertThat(summary.getTitle()).isEqualTo("title");
+        assertThat(summary.getUserEmail()).isEqualTo("a@a.com");
+        assertThat(summary.getCommentCount()).isZero();
+        assertThat(summary.getManagerCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 댓글과_담당자_이벤트는_카운터만_증감한다() {
+        // given
+        User user = userRepository.save(new User("b@b.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "sunny", user));
+        todoSummaryProjector.onTodoSaved(new TodoSavedEvent(List.of(TodoResponse.from(todo))));
+
+        // when
+        todoSummaryProjector.onCommentSaved(new CommentSavedEvent(todo.getId(), null));
+        todoSummaryProjector.onCommentSaved(new CommentSavedEvent(todo.getId(), null));
+        todoSummaryProjector.onCommentsPurged(new CommentsPurgedEvent(null, Map.of(todo.getId(), 1L)));
+        todoSummaryProjector.onManagerChanged(new ManagerChangedEvent(todo.getId(), 1));
+
+        // then
+        TodoSummary summary = find(todo.getId());
+        assertThat(summary.getCommentCount()).isEqualTo(1);
+        assertThat(summary.getManagerCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 삭제된_일정은_읽기_모델에서도_지워진다() {
+        // given
+        User user = userRepository.save(new User("c@c.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "sunny", user));
+        todoSummaryProjector.onTodoSaved(new TodoSavedEvent(List.of(TodoResponse.from(todo))));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        entityManager.createQuery("DELETE FROM Manager m").executeUpdate();
+        todoRepository.deleteByIdInBulk(todo.getId());
+        todoSummaryProjector.onTodoChanged(new TodoChangedEvent(todo.getId()));
+
+        // then
+        assertThat(todoSummaryRepository.findById(todo.getId())).isEmpty();
+    }
+
+    @Test
+    void rebuild_는_원본_테이블에서_전체를_다시_계산한다() {
+        // given
+        User user = userRepository.save(new User("d@d.com", "password", UserRole.USER));
+        Todo first = todoRepository.save(new Todo("first", "contents", "sunny", user));
+        Todo second = todoRepository.save(new Todo("second", "contents", "sunny", user));
+        entityManager.persist(new Comment("hello", user, first));
+        entityManager.persist(new Comment("world", user, first));
+
+        // when
+        int rebuiltCount = todoSummaryProjector.rebuild();
+
+        // then
+        assertThat(rebuiltCount).isEqualTo(2);
+        assertThat(find(first.getId()).getCommentCount()).isEqualTo(2);
+        assertThat(find(second.getId()).getCommentCount()).isZero();
+    }
+
+    @Test
+    void 기동_시_요약_테이블이_비어_있으면_원본에서_채운다() {
+        // given
+        User user = userRepository.save(new User("e@e.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("legacy", "contents", "sunny", user));
+        entityManager.persist(new Comment("hello", user, todo));
+
+        // when
+        todoSummaryProjector.initialize();
+
+        // then
+        assertThat(find(todo.getId()).getCommentCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 기동_시_요약_테이블이_채워져_있으면_다시_만들지_않는다() {
+        // given
+        User user = userRepository.save(new User("f@f.com", "password", UserRole.USER));
+        Todo first = todoRepository.save(new Todo("first", "contents", "sunny", user));
+        todoSummaryProjector.onTodoSaved(new TodoSavedEvent(List.of(TodoResponse.from(first))));
+        Todo second = todoRepository.save(new Todo("second", "contents", "sunny", user));
+
+        // when
+        todoSummaryProjector.initialize();
+
+        // then
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(todoSummaryRepository.findById(first.getId())).isPresent();
+        assertThat(todoSummaryRepository.findById(second.getId())).isEmpty();
+    }
+
+    private TodoSummary find(Long todoId) {
+        entityManager.flush();
+        entityManager.clear();
+        return todoSummaryRepository.findById(todoId).orElseThrow();
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.comment.event.CommentsPurgedEvent;
+import org.example.expert.domain.todo.dto.response.ConditionalGetStatsResponse;
+import org.example.expert.domain.todo.enums.TodoResourceType;
+import org.example.expert.domain.todo.event.TodoChangedEvent;
+import org.example.expert.domain.todo.event.TodosImportedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.annotation.Order;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TodoVersionRegistryTest {
+
+    private final TodoVersionRegistry todoVersionRegistry = new TodoVersionRegistry();
+
+    @Test
+    void 일정이_바뀌면_해당_일정의_ETag_만_바뀐다() {
+        // given
+        String todo1 = todoVersionRegistry.etag(1L);
+        String todo2 = todoVersionRegistry.etag(2L);
+
+        // when
+        todoVersionRegistry.onTodoChanged(new TodoChangedEvent(1L));
+
+        // then
+        assertThat(todoVersionRegistry.etag(1L)).isNotEqualTo(todo1);
+        assertThat(todoVersionRegistry.etag(2L)).isEqualTo(todo2);
+    }
+
+    @Test
+    void 대상_일정을_모르는_댓글_삭제는_모든_ETag_를_바꾼다() {
+        // given
+        String todo1 = todoVersionRegistry.etag(1L);
+        String todo2 = todoVersionRegistry.etag(2L);
+
+        // when
+        todoVersionRegistry.onCommentsPurged(new CommentsPurgedEvent(null));
+
+        // then
+        assertThat(todoVersionRegistry.etag(1L)).isNotEqualTo(todo1);
+        assertThat(todoVersionRegistry.etag(2L)).isNotEqualTo(todo2);
+    }
+
+    @Test
+    void 대량_등록에_포함된_일정의_ETag_를_바꾼다() {
+        // given
+        String todo1 = todoVersionRegistry.etag(1L);
+        String todo2 = todoVersionRegistry.etag(2L);
+        String todo3 = todoVersionRegistry.etag(3L);
+
+        // when
+        todoVersionRegistry.onTodosImported(new TodosImportedEvent(Set.of(1L, 2L)));
+
+        // then
+        assertThat(todoVersionRegistry.etag(1L)).isNotEqualTo(todo1);
+        assertThat(todoVersionRegistry.etag(2L)).isNotEqualTo(todo2);
+        assertThat(todoVersionRegistry.etag(3L)).isEqualTo(todo3);
+    }
+
+    @Test
+    void 버전은_응답_캐시를_지운_뒤에_올린다() throws Exception {
+        // given
+        Order invalidation = TodoResponseCache.class.getMethod("onTodoChanged", TodoChangedEvent.class).getAnnotation(Order.class);
+        Order bump = TodoVersionRegistry.class.getMethod("onTodoChanged", TodoChangedEvent.class).getAnnotation(Order.class);
+
+        // when & then
+        assertThat(invalidation.value()).isLessThan(bump.value());
+    }
+
+    @Test
+    void Accept_의_품질값과_순서로_응답_형식을_고른다() {
+        assertThat(TodoVersionRegistry.Representation.of(null)).isEqualTo(TodoVersionRegistry.Representation.JSON);
+        assertThat(TodoVersionRegistry.Representation.of("*/*")).isEqualTo(TodoVersionRegistry.Representation.JSON);
+        assertThat(TodoVersionRegistry.Representation.of("application/cbor")).isEqualTo(TodoVersionRegistry.Representation.CBOR);
+        assertThat(TodoVersionRegistry.Representation.of("application/json;q=0.5, application/x-jackson-smile"))
+                .isEqualTo(TodoVersionRegistry.Representation.SMILE);
+        assertThat(TodoVersionRegistry.Representation.of("not a media type")).isEqualTo(TodoVersionRegistry.Representation.JSON);
+    }
+
+    @Test
+    void 조건부_조회_결과를_종류별로_집계한다() {
+        // given
+        MockHttpServletRequest matching = new MockHttpServletRequest("GET", "/todos/1");
+        matching.addHeader("If-None-Match", todoVersionRegistry.etag(1L));
+        MockHttpServletRequest stale = new MockHttpServletRequest("GET", "/todos/1");
+        stale.addHeader("If-None-Match", "\"stale\"");
+
+        // when
+        boolean notModified = todoVersionRegistry.checkNotModified(
+                new ServletWebRequest(matching, new MockHttpServletResponse()), 1L, TodoResourceType.TODO);
+        boolean staleNotModified = todoVersionRegistry.checkNotModified(
+                new ServletWebRequest(stale, new MockHttpServletResponse()), 1L, TodoResourceType.TODO);
+
+        // then
+        assertThat(notModified).isTrue();
+        assertThat(staleNotModified).isFalse();
+        ConditionalGetStatsResponse stats = todoVersionRegistry.getStats().get(0);
+        assertThat(stats.getResource()).isEqualTo("TODO");
+        assertThat(stats.getNotModifiedCount()).isEqualTo(1);
+        assertThat(stats.getFullResponseCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.expert.domain.user.service;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.QueryCountingConfig;
+import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import static org.example.expert.support.QueryCountAssert.assertQueries;
+
+@DataJpaTest
+@Import({PersistenceConfig.class, QueryCountingConfig.class, UserService.class, PasswordEncoder.class})
+class UserServiceQueryBudgetTest {
+
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void 유저_조회는_SELECT_1번이다() {
+        // given
+        User user = persistUser("Password1");
+
+        // when & then
+        assertQueries(() -> userService.getUser(user.getId()))
+                .hasSelects(1)
+                .hasStatements(1);
+    }
+
+    @Test
+    void 비밀번호_변경은_SELECT_1번과_UPDATE_1번이다() {
+        // given
+        User user = persistUser("Password1");
+
+        // when & then
+        assertQueries(() -> {
+            userService.changePassword(user.getId(), new UserChangePasswordRequest("Password1", "Password2"));
+            entityManager.flush();
+        })
+                .hasSelects(1)
+                .hasUpdates(1)
+                .hasInserts(0)
+                .hasDeletes(0);
+    }
+
+    private User persistUser(String rawPassword) {
+        User user = new User("a@a.com", passwordEncoder.encode(rawPassword), UserRole.USER);
+        entityManager.persist(user);
+        entityManager.flush();
+        entityManager.clear();
+        return user;
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.expert.support;
+
+import org.example.expert.domain.common.jdbc.QueryCount;
+import org.example.expert.domain.common.jdbc.QueryCounter;
+import org.example.expert.domain.common.jdbc.QueryType;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 서비스 메서드의 쿼리 예산을 검사하는 테스트용 DSL, QueryCountingConfig 를 @Import 한 테스트에서 사용
+//
+//   assertQueries(() -> commentService.saveComment(...))
+//           .hasSelects(2)
+//           .hasInserts(1);
+//
+// 시퀀스 채번은 allocationSize 단위로만 나가서 테스트 순서에 따라 달라지므로 hasStatements 에서 제외
+public class QueryCountAssert<T> {
+
+    private final QueryCounter.Counted<T> counted;
+
+    private QueryCountAssert(QueryCounter.Counted<T> counted) {
+        this.counted = counted;
+    }
+
+    public static <T> QueryCountAssert<T> assertQueries(Supplier<T> action) {
+        return new QueryCountAssert<>(QueryCounter.count(action));
+    }
+
+    public static QueryCountAssert<Void> assertQueries(Runnable action) {
+        return assertQueries(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public QueryCountAssert<T> hasSelects(int expected) {
+        return has(QueryType.SELECT, expected);
+    }
+
+    public QueryCountAssert<T> hasInserts(int expected) {
+        return has(QueryType.INSERT, expected);
+    }
+
+    public QueryCountAssert<T> hasUpdates(int expected) {
+        return has(QueryType.UPDATE, expected);
+    }
+
+    public QueryCountAssert<T> hasDeletes(int expected) {
+        return has(QueryType.DELETE, expected);
+    }
+
+    // SELECT/INSERT/UPDATE/DELETE 합계
+    public QueryCountAssert<T> hasStatements(int expected) {
+        assertThat(statements()).as("SQL 실행 횟수 (%s)", count()).isEqualTo(expected);
+        return this;
+    }
+
+    public QueryCountAssert<T> hasStatementsAtMost(int budget) {
+        assertThat(statements()).as("SQL 실행 횟수 (%s)", count()).isLessThanOrEqualTo(budget);
+        return this;
+    }
+
+    public T getResult() {
+        return counted.result();
+    }
+
+    private QueryCountAssert<T> has(QueryType type, int expected) {
+        assertThat(count().get(type)).as("%s 실행 횟수 (%s)", type, count()).isEqualTo(expected);
+        return this;
+    }
+
+    private int statements() {
+        return count().getTotal() - count().get(QueryType.OTHER);
+    }
+
+    private QueryCount count() {
+        return counted.count();
+    }
+}